@@ -0,0 +1,119 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.buffer;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads 16 LZ4 frames of 1 MiB per invocation, with and without checksum verification.
+ * Run with {@code -prof gc} to see the bytes allocated per invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressedBuffedReaderBenchmark {
+
+    private static final int FRAME_SIZE = 1024 * 1024;
+
+    private static final int FRAMES = 16;
+
+    @Param({"false", "true"})
+    public boolean verifyChecksum;
+
+    private byte[] stream;
+
+    private byte[] out;
+
+    private RepeatingReader source;
+
+    private CompressedBuffedReader reader;
+
+    @Setup
+    public void setup() throws IOException {
+        final byte[] data = new byte[FRAME_SIZE * FRAMES];
+        final Random random = new Random(42);
+        for (int i = 0; i < data.length; i += 16) {
+            final long value = random.nextInt(1000);
+            for (int j = 0; j < 8; j++) {
+                data[i + j] = (byte) (value >>> (j * 8));
+            }
+        }
+        final ByteArrayWriter target = new ByteArrayWriter(Integer.MAX_VALUE);
+        final CompressedBuffedWriter writer = new CompressedBuffedWriter(FRAME_SIZE, target);
+        writer.writeBinary(data);
+        writer.flushToTarget(true);
+        stream = target.getBufferList().get(0);
+
+        out = new byte[FRAME_SIZE];
+        source = new RepeatingReader(stream);
+        reader = new CompressedBuffedReader(source, verifyChecksum);
+    }
+
+    @Benchmark
+    public byte readFrames() throws IOException {
+        source.rewind();
+        for (int i = 0; i < FRAMES; i++) {
+            reader.readBinary(out);
+        }
+        return out[FRAME_SIZE - 1];
+    }
+
+    /**
+     * Serves the same compressed stream again after every {@link #rewind()}.
+     */
+    private static final class RepeatingReader implements BuffedReader {
+
+        private final byte[] stream;
+
+        private int position;
+
+        RepeatingReader(final byte[] stream) {
+            this.stream = stream;
+        }
+
+        void rewind() {
+            position = 0;
+        }
+
+        @Override
+        public int readBinary() {
+            return stream[position++] & 0xFF;
+        }
+
+        @Override
+        public int readBinary(final byte[] bytes, final int offset, final int length) {
+            System.arraycopy(stream, position, bytes, offset, length);
+            position += length;
+            return length;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.buffer;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Writes one full 1 MiB LZ4 frame per invocation. Run with {@code -prof gc}:
+ * {@code gc.alloc.rate.norm} is the number of bytes allocated per frame in steady state.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompressedBuffedWriterBenchmark {
+
+    private static final int FRAME_SIZE = 1024 * 1024;
+
+    private byte[] data;
+
+    private CompressedBuffedWriter writer;
+
+    private CountingWriter target;
+
+    @Setup
+    public void setup() {
+        // half random, half repeated bytes, roughly like a block of numeric columns
+        data = new byte[FRAME_SIZE];
+        final Random random = new Random(42);
+        for (int i = 0; i < data.length; i += 16) {
+            final long value = random.nextInt(1000);
+            for (int j = 0; j < 8; j++) {
+                data[i + j] = (byte) (value >>> (j * 8));
+            }
+        }
+        target = new CountingWriter();
+        writer = new CompressedBuffedWriter(FRAME_SIZE, target);
+    }
+
+    @Benchmark
+    public int writeFrame() throws IOException {
+        writer.writeBinary(data);
+        return target.written;
+    }
+
+    /**
+     * Sink that only counts the frame bytes.
+     */
+    private static final class CountingWriter implements BuffedWriter {
+
+        private int written;
+
+        @Override
+        public void writeBinary(final byte byt) {
+            written++;
+        }
+
+        @Override
+        public void writeBinary(final byte[] bytes) {
+            writeBinary(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public void writeBinary(final byte[] bytes, final int offset, final int length) {
+            written += length;
+        }
+
+        @Override
+        public void writeBinaryNow(final byte[] bytes) {
+            writeBinary(bytes);
+        }
+
+        @Override
+        public void flushToTarget(final boolean force) {
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.jdbc.statement;
+
+import com.bytedance.bytehouse.data.Block;
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.DataTypeConverter;
+import com.bytedance.bytehouse.data.IColumn;
+import com.bytedance.bytehouse.data.type.DataTypeFloat64;
+import com.bytedance.bytehouse.data.type.DataTypeInt64;
+import com.bytedance.bytehouse.data.type.complex.DataTypeString;
+import com.bytedance.bytehouse.misc.InfileCSVReaderUtils;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.ZoneId;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parses and encodes a 1 million row CSV file per invocation, with the blocks dropped instead
+ * of sent. Compare the scores of each parallelism to see how the loader scales with cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelCSVLoaderBenchmark {
+
+    private static final int ROWS = 1_000_000;
+
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    private byte[] csv;
+
+    private ParallelCSVLoader loader;
+
+    @Setup
+    public void setup() throws SQLException {
+        final StringBuilder sb = new StringBuilder();
+        final Random random = new Random(42);
+        for (int i = 0; i < ROWS; i++) {
+            sb.append(i).append(',')
+                    .append(random.nextDouble()).append(',')
+                    .append("\"name ").append(random.nextInt(10000)).append("\"\n");
+        }
+        csv = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        final Block sample = new Block(0, new IColumn[]{
+                ColumnFactoryUtils.createColumn("id", new DataTypeInt64(), new Object[0]),
+                ColumnFactoryUtils.createColumn("score", new DataTypeFloat64(), new Object[0]),
+                ColumnFactoryUtils.createColumn("name", new DataTypeString(StandardCharsets.UTF_8), new Object[0])
+        });
+        loader = new ParallelCSVLoader(sample, new DataTypeConverter(ZoneId.of("UTC")),
+                InfileCSVReaderUtils.csvFormat(","), StandardCharsets.UTF_8, new int[]{0, 1, 2},
+                65536, parallelism, ParallelCSVLoader.DEFAULT_CHUNK_SIZE, Block::rowCnt);
+    }
+
+    @Benchmark
+    public int load() throws SQLException {
+        return loader.load(new ByteArrayInputStream(csv), false);
+    }
+}
@@ -33,5 +33,18 @@ public interface BuffedReader {
      * @param bytes byte array container
      * @return amount of bytes read.
      */
-    int readBinary(byte[] bytes) throws IOException;
+    default int readBinary(byte[] bytes) throws IOException {
+        return readBinary(bytes, 0, bytes.length);
+    }
+
+    /**
+     * read exactly {@code length} bytes into the array starting at {@code offset} and return
+     * total amount of bytes read.
+     *
+     * @param bytes  byte array container
+     * @param offset first index of the array to fill
+     * @param length amount of bytes to read
+     * @return amount of bytes read.
+     */
+    int readBinary(byte[] bytes, int offset, int length) throws IOException;
 }
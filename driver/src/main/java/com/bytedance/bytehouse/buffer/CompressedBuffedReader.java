@@ -15,16 +15,21 @@
  */
 package com.bytedance.bytehouse.buffer;
 
+import com.bytedance.bytehouse.misc.ByteHouseCityHashUtils;
 import com.bytedance.bytehouse.misc.BytesHelper;
 import io.airlift.compress.Decompressor;
 import io.airlift.compress.lz4.Lz4Decompressor;
 import java.io.IOException;
+import java.util.Arrays;
 
 import static com.bytedance.bytehouse.settings.BHConstants.CHECKSUM_LENGTH;
 import static com.bytedance.bytehouse.settings.BHConstants.COMPRESSION_HEADER_LENGTH;
 
 /**
  * {@link CompressedBuffedReader} supporting LZ4 fast compression.
+ * <p>
+ * The compressed and decompressed frame buffers only grow, so reading a large result set
+ * does not allocate per frame once the biggest frame has been seen.
  */
 public class CompressedBuffedReader implements BuffedReader, BytesHelper {
 
@@ -37,41 +42,59 @@ public class CompressedBuffedReader implements BuffedReader, BytesHelper {
 
     private final Decompressor lz4Decompressor = new Lz4Decompressor();
 
+    private final boolean verifyChecksum;
+
+    private final byte[] checksumBuf = new byte[CHECKSUM_LENGTH];
+
+    private final long[] checksum = new long[2];
+
     private int position;
 
     private int capacity;
 
-    private byte[] decompressed;
+    /**
+     * compression header followed by the compressed bytes of the current frame.
+     */
+    private byte[] compressed = new byte[COMPRESSION_HEADER_LENGTH];
+
+    private byte[] decompressed = new byte[0];
 
     /**
      * constructor.
      */
     public CompressedBuffedReader(final BuffedReader buf) {
+        this(buf, false);
+    }
+
+    /**
+     * constructor.
+     *
+     * @param verifyChecksum whether to check the CityHash128 checksum of every frame
+     */
+    public CompressedBuffedReader(final BuffedReader buf, final boolean verifyChecksum) {
         this.buf = buf;
+        this.verifyChecksum = verifyChecksum;
     }
 
     @Override
     public int readBinary() throws IOException {
         if (position == capacity) {
-            decompressed = readCompressedData();
-            this.position = 0;
-            this.capacity = decompressed.length;
+            readCompressedData();
         }
 
         return decompressed[position++];
     }
 
     @Override
-    public int readBinary(final byte[] bytes) throws IOException {
-        int i = 0;
-        while (i < bytes.length) {
+    public int readBinary(final byte[] bytes, final int offset, final int length) throws IOException {
+        final int end = offset + length;
+        int i = offset;
+        while (i < end) {
             if (position == capacity) {
-                decompressed = readCompressedData();
-                this.position = 0;
-                this.capacity = decompressed.length;
+                readCompressedData();
             }
 
-            final int padding = bytes.length - i;
+            final int padding = end - i;
             final int fillLength = Math.min(padding, capacity - position);
 
             if (fillLength > 0) {
@@ -81,68 +104,87 @@ public class CompressedBuffedReader implements BuffedReader, BytesHelper {
                 this.position += fillLength;
             }
         }
-        return bytes.length;
+        return length;
     }
     /* @formatter:on */
 
-    private byte[] readCompressedData() throws IOException {
-        //TODO: validate checksum
-        buf.readBinary(new byte[CHECKSUM_LENGTH]);
+    /**
+     * reads the next frame into {@link #decompressed} and resets {@link #position} and
+     * {@link #capacity} to it.
+     */
+    private void readCompressedData() throws IOException {
+        buf.readBinary(checksumBuf);
 
-        final byte[] compressedHeader = new byte[COMPRESSION_HEADER_LENGTH];
+        if (buf.readBinary(compressed, 0, COMPRESSION_HEADER_LENGTH) != COMPRESSION_HEADER_LENGTH) {
+            throw new IOException("Invalid compression header");
+        }
 
-        if (buf.readBinary(compressedHeader) != COMPRESSION_HEADER_LENGTH) {
+        final int method = compressed[0] & 0x0FF;
+        final int compressedSize = getIntLE(compressed, 1);
+        final int decompressedSize = getIntLE(compressed, 5);
+        if (compressedSize < COMPRESSION_HEADER_LENGTH || decompressedSize < 0) {
             throw new IOException("Invalid compression header");
         }
 
-        final int method = compressedHeader[0] & 0x0FF;
-        final int compressedSize = getIntLE(compressedHeader, 1);
-        final int decompressedSize = getIntLE(compressedHeader, 5);
+        if (compressed.length < compressedSize) {
+            compressed = Arrays.copyOf(compressed, Math.max(compressedSize, compressed.length * 2));
+        }
+        final int dataSize = compressedSize - COMPRESSION_HEADER_LENGTH;
+        if (buf.readBinary(compressed, COMPRESSION_HEADER_LENGTH, dataSize) != dataSize) {
+            throw new IOException("Cannot read compressed data.");
+        }
+
+        if (verifyChecksum) {
+            validateChecksum(compressedSize);
+        }
+
+        if (decompressed.length < decompressedSize) {
+            decompressed = new byte[Math.max(decompressedSize, decompressed.length * 2)];
+        }
 
         switch (method) {
             case LZ4:
-                return readLZ4CompressedData(
-                        compressedSize - COMPRESSION_HEADER_LENGTH,
-                        decompressedSize
-                );
+                readLZ4CompressedData(dataSize, decompressedSize);
+                break;
             case NONE:
-                return readNoneCompressedData(decompressedSize);
+                readNoneCompressedData(dataSize, decompressedSize);
+                break;
             default:
                 throw new UnsupportedOperationException("Unknown compression magic code: "
                         + method);
         }
+        this.position = 0;
+        this.capacity = decompressedSize;
     }
 
-    private byte[] readNoneCompressedData(final int size) throws IOException {
-        final byte[] decompressed = new byte[size];
+    private void validateChecksum(final int compressedSize) throws IOException {
+        ByteHouseCityHashUtils.cityHash128(compressed, 0, compressedSize, checksum);
+        if (checksum[0] != getLongLE(checksumBuf, 0) || checksum[1] != getLongLE(checksumBuf, Long.BYTES)) {
+            throw new IOException("Checksum doesn't match: corrupted data.");
+        }
+    }
 
-        if (buf.readBinary(decompressed) != size) {
+    private void readNoneCompressedData(final int dataSize, final int size) throws IOException {
+        if (dataSize != size) {
             throw new IOException("Cannot decompress use None method.");
         }
 
-        return decompressed;
+        System.arraycopy(compressed, COMPRESSION_HEADER_LENGTH, decompressed, 0, size);
     }
 
-    private byte[] readLZ4CompressedData(
-            final int compressedSize,
+    private void readLZ4CompressedData(
+            final int dataSize,
             final int decompressedSize
     ) throws IOException {
-        final byte[] compressed = new byte[compressedSize];
-        if (buf.readBinary(compressed) == compressedSize) {
-            final byte[] decompressed = new byte[decompressedSize];
-
-            if (lz4Decompressor.decompress(
-                    compressed,
-                    0,
-                    compressedSize,
-                    decompressed,
-                    0,
-                    decompressedSize
-            ) == decompressedSize) {
-                return decompressed;
-            }
+        if (lz4Decompressor.decompress(
+                compressed,
+                COMPRESSION_HEADER_LENGTH,
+                dataSize,
+                decompressed,
+                0,
+                decompressedSize
+        ) != decompressedSize) {
+            throw new IOException("Cannot decompress use LZ4 method.");
         }
-
-        throw new IOException("Cannot decompress use LZ4 method.");
     }
 }
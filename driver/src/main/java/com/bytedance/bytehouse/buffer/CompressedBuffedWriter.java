@@ -33,6 +33,13 @@ public class CompressedBuffedWriter implements BuffedWriter, BytesHelper {
 
     private final byte[] writtenBuf;
 
+    /**
+     * Reused for every frame: checksum, header, then the compressed bytes.
+     */
+    private final byte[] compressedBuf;
+
+    private final long[] checksum = new long[2];
+
     private final BuffedWriter writer;
 
     private final Compressor lz4Compressor = new Lz4Compressor();
@@ -48,6 +55,8 @@ public class CompressedBuffedWriter implements BuffedWriter, BytesHelper {
     public CompressedBuffedWriter(final int capacity, final BuffedWriter writer) {
         this.capacity = capacity;
         this.writtenBuf = new byte[capacity];
+        this.compressedBuf = new byte[
+                CHECKSUM_LENGTH + COMPRESSION_HEADER_LENGTH + lz4Compressor.maxCompressedLength(capacity)];
         this.writer = writer;
     }
 
@@ -57,7 +66,9 @@ public class CompressedBuffedWriter implements BuffedWriter, BytesHelper {
     @Override
     public void writeBinary(final byte byt) throws IOException {
         writtenBuf[position++] = byt;
-        flushToTarget(false);
+        if (position == capacity) {
+            flushToTarget(false);
+        }
     }
 
     /**
@@ -107,57 +118,25 @@ public class CompressedBuffedWriter implements BuffedWriter, BytesHelper {
     @Override
     public void flushToTarget(final boolean force) throws IOException {
         if (position > 0 && (force || !hasRemaining())) {
-            final int maxLen = lz4Compressor.maxCompressedLength(position);
-
-            final byte[] compressedBuffer =
-                    new byte[maxLen + COMPRESSION_HEADER_LENGTH + CHECKSUM_LENGTH];
             final int res = lz4Compressor.compress(
                     writtenBuf,
                     0,
                     position,
-                    compressedBuffer,
+                    compressedBuf,
                     COMPRESSION_HEADER_LENGTH + CHECKSUM_LENGTH,
-                    compressedBuffer.length
+                    compressedBuf.length - COMPRESSION_HEADER_LENGTH - CHECKSUM_LENGTH
             );
 
-            compressedBuffer[CHECKSUM_LENGTH] = (byte) (0x82 & 0xFF);
+            compressedBuf[CHECKSUM_LENGTH] = (byte) (0x82 & 0xFF);
             final int compressedSize = res + COMPRESSION_HEADER_LENGTH;
-            System.arraycopy(
-                    getBytesLE(compressedSize),
-                    0,
-                    compressedBuffer,
-                    CHECKSUM_LENGTH + 1,
-                    Integer.BYTES
-            );
-            System.arraycopy(
-                    getBytesLE(position),
-                    0,
-                    compressedBuffer,
-                    CHECKSUM_LENGTH + Integer.BYTES + 1,
-                    Integer.BYTES
-            );
+            setIntLE(compressedBuf, CHECKSUM_LENGTH + 1, compressedSize);
+            setIntLE(compressedBuf, CHECKSUM_LENGTH + Integer.BYTES + 1, position);
 
-            final long[] checksum = ByteHouseCityHashUtils.cityHash128(
-                    compressedBuffer,
-                    CHECKSUM_LENGTH,
-                    compressedSize
-            );
-            System.arraycopy(
-                    getBytesLE(checksum[0]),
-                    0,
-                    compressedBuffer,
-                    0,
-                    Long.BYTES
-            );
-            System.arraycopy(
-                    getBytesLE(checksum[1]),
-                    0,
-                    compressedBuffer,
-                    Long.BYTES,
-                    Long.BYTES
-            );
+            ByteHouseCityHashUtils.cityHash128(compressedBuf, CHECKSUM_LENGTH, compressedSize, checksum);
+            setLongLE(compressedBuf, 0, checksum[0]);
+            setLongLE(compressedBuf, Long.BYTES, checksum[1]);
 
-            writer.writeBinary(compressedBuffer, 0, compressedSize + CHECKSUM_LENGTH);
+            writer.writeBinary(compressedBuf, 0, compressedSize + CHECKSUM_LENGTH);
             position = 0;
         }
     }
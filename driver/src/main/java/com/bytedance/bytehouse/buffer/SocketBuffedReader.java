@@ -75,13 +75,14 @@ public class SocketBuffedReader implements BuffedReader {
      * {@inheritDoc}
      */
     @Override
-    public int readBinary(final byte[] bytes) throws IOException {
-        for (int i = 0; i < bytes.length; ) {
+    public int readBinary(final byte[] bytes, final int offset, final int length) throws IOException {
+        final int end = offset + length;
+        for (int i = offset; i < end; ) {
             if (!remaining() && !refill()) {
                 throw new EOFException("Attempt to read after eof.");
             }
 
-            final int pending = bytes.length - i;
+            final int pending = end - i;
             final int fillLength = Math.min(pending, limit - position);
 
             if (fillLength > 0) {
@@ -91,7 +92,7 @@ public class SocketBuffedReader implements BuffedReader {
                 this.position += fillLength;
             }
         }
-        return bytes.length;
+        return length;
     }
 
     private boolean remaining() {
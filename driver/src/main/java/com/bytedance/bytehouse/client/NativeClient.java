@@ -77,6 +77,8 @@ public class NativeClient implements AutoCloseable {
 
     private final BinaryDeserializer deserializer;
 
+    private volatile long lastActiveNanos;
+
     public NativeClient(
             final Socket socket,
             final BinarySerializer serializer,
@@ -86,6 +88,7 @@ public class NativeClient implements AutoCloseable {
         this.address = socket.getLocalSocketAddress();
         this.serializer = serializer;
         this.deserializer = deserializer;
+        this.lastActiveNanos = System.nanoTime();
     }
 
     public static NativeClient connect(final ByteHouseConfig configure) throws SQLException {
@@ -109,7 +112,11 @@ public class NativeClient implements AutoCloseable {
             return new NativeClient(
                     socket,
                     new BinarySerializer(new SocketBuffedWriter(socket), enableCompression),
-                    new BinaryDeserializer(new SocketBuffedReader(socket), enableCompression)
+                    new BinaryDeserializer(
+                            new SocketBuffedReader(socket),
+                            enableCompression,
+                            configure.verifyChecksum()
+                    )
             );
         } catch (Exception ex) {
             throw new SQLException(ex);
@@ -185,6 +192,24 @@ public class NativeClient implements AutoCloseable {
         return address;
     }
 
+    /**
+     * Returns how long ago a request was last sent or a response last received.
+     */
+    public Duration idleTime() {
+        return Duration.ofNanos(System.nanoTime() - lastActiveNanos);
+    }
+
+    /**
+     * Checks the local state of the socket. This is cheap, as it does not talk to the
+     * server, but it cannot detect a connection silently dropped by the peer.
+     */
+    public boolean isSocketUsable() {
+        return socket.isConnected()
+                && !socket.isClosed()
+                && !socket.isInputShutdown()
+                && !socket.isOutputShutdown();
+    }
+
     public boolean ping(
             final Duration soTimeout,
             final ServerContext info
@@ -337,6 +362,7 @@ public class NativeClient implements AutoCloseable {
             LOG.trace("send request: {}", request.type());
             request.writeTo(serializer);
             serializer.flushToTarget(true);
+            lastActiveNanos = System.nanoTime();
         } catch (IOException ex) {
             throw new SQLException(ex);
         }
@@ -349,6 +375,7 @@ public class NativeClient implements AutoCloseable {
         try {
             socket.setSoTimeout(((int) soTimeout.toMillis()));
             final Response response = Response.readFrom(deserializer, info);
+            lastActiveNanos = System.nanoTime();
             LOG.trace("recv response: {}", response.type());
             return response;
         } catch (IOException ex) {
@@ -80,19 +80,40 @@ public class Block {
         final int rowCnt = (int) deserializer.readVarInt();
 
         final IColumn[] columns = new IColumn[columnCnt];
+        final int stringDedupCacheSize = serverContext.getConfigure().stringDedupCacheSize();
+        final boolean uint64AsLong = serverContext.getConfigure().uint64AsLong();
 
         for (int i = 0; i < columnCnt; i++) {
             final String name = deserializer.readUTF8StringBinary();
             final String type = deserializer.readUTF8StringBinary();
 
             final IDataType dataType = DataTypeFactory.get(type, serverContext);
-            final Object[] arr = dataType.deserializeBinaryBulk(rowCnt, deserializer);
-            columns[i] = ColumnFactoryUtils.createColumn(name, dataType, arr);
+            columns[i] = dataType.deserializeBinaryColumn(name, rowCnt, deserializer);
+            if (stringDedupCacheSize > 0) {
+                enableDedupCache(columns[i], stringDedupCacheSize);
+            }
+            if (uint64AsLong) {
+                returnLongs(columns[i]);
+            }
         }
 
         return new Block(rowCnt, columns, blockSettings);
     }
 
+    private static void enableDedupCache(final IColumn column, final int slots) {
+        final IColumn strings = column instanceof ColumnNullable ? ((ColumnNullable) column).nested() : column;
+        if (strings instanceof ColumnString) {
+            ((ColumnString) strings).enableDedupCache(slots);
+        }
+    }
+
+    private static void returnLongs(final IColumn column) {
+        final IColumn values = column instanceof ColumnNullable ? ((ColumnNullable) column).nested() : column;
+        if (values instanceof ColumnUInt64) {
+            ((ColumnUInt64) values).returnLongs();
+        }
+    }
+
     /**
      * Factory method to create an empty {@link Block}.
      */
@@ -128,6 +149,37 @@ public class Block {
         }
     }
 
+    /**
+     * Counts rows that were serialized straight into the column write buffers, instead of
+     * through {@link #appendRow()}.
+     */
+    public void appendRows(final int rows) {
+        this.rowCnt += rows;
+    }
+
+    /**
+     * Creates an empty {@link Block} with the same columns, settings, placeholders and row
+     * data, to be filled while this one is sent. Write buffers are not initialized.
+     */
+    public Block cloneEmpty() {
+        final IColumn[] newColumns = new IColumn[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            newColumns[i] = ColumnFactoryUtils.createColumn(columns[i].name(), columns[i].type(), new Object[0]);
+        }
+        final Block block = new Block(0, newColumns, settings);
+        System.arraycopy(placeholderIndexes, 0, block.placeholderIndexes, 0, placeholderIndexes.length);
+        block.copyRowData(this);
+        return block;
+    }
+
+    /**
+     * Copies the values of the current row, which include the constants of the VALUES part and
+     * the parameters set so far, from a {@link Block} with the same columns.
+     */
+    public void copyRowData(final Block from) {
+        System.arraycopy(from.rowData, 0, rowData, 0, rowData.length);
+    }
+
     public void reuseBlock() {
         this.rowCnt = 0;
         this.reuseWriteBuffer();
@@ -28,7 +28,7 @@ public class Column extends AbstractColumn {
 
     @Override
     public void write(final Object object) throws IOException, SQLException {
-        type().serializeBinary(object, buffer.column);
+        type().serializeBinaryValue(object, buffer.column);
     }
 
     @Override
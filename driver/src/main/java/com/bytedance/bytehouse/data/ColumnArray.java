@@ -19,31 +19,100 @@ import com.bytedance.bytehouse.data.type.complex.DataTypeArray;
 import com.bytedance.bytehouse.jdbc.ByteHouseArray;
 import com.bytedance.bytehouse.serde.BinarySerializer;
 import java.io.IOException;
+import java.lang.reflect.Array;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 public class ColumnArray extends AbstractColumn {
 
-    private final List<Long> offsets;
+    // end offset of each row in data
+    private long[] offsets;
+
+    private int rowCnt;
 
     // data represents nested column in ColumnArray
     private final IColumn data;
 
     public ColumnArray(String name, DataTypeArray type, Object[] values) {
         super(name, type, values);
-        offsets = new ArrayList<>();
+        offsets = new long[64];
         data = ColumnFactoryUtils.createColumn(null, type.getElemDataType(), null);
     }
 
+    /**
+     * Creates a result column from the end offset of each row and the column of all the
+     * elements. Rows are returned as views over the element column.
+     */
+    public ColumnArray(String name, DataTypeArray type, long[] rowOffsets, IColumn data) {
+        super(name, type, null);
+        this.offsets = rowOffsets;
+        this.rowCnt = rowOffsets.length;
+        this.data = data;
+    }
+
+    /**
+     * Returns the column of the elements of all the rows, e.g. a {@link ColumnFloat} for
+     * Array(Float32).
+     */
+    public IColumn elements() {
+        return data;
+    }
+
+    /**
+     * Returns the end offset of each row in {@link #elements()}, for a result column.
+     */
+    public long[] rowOffsets() {
+        return offsets;
+    }
+
+    @Override
+    public Object value(int idx) {
+        if (values != null) {
+            return values[idx];
+        }
+        final int start = idx == 0 ? 0 : (int) offsets[idx - 1];
+        return new ByteHouseArray(((DataTypeArray) type).getElemDataType(), data,
+                start, (int) offsets[idx] - start);
+    }
+
+    @Override
+    public boolean isNull(int idx) {
+        return values != null && values[idx] == null;
+    }
+
+    /**
+     * Appends a row given as a {@link ByteHouseArray}, an {@code Object[]} or a primitive array
+     * such as {@code long[]}. A primitive array of the element type's own representation is
+     * written in one go, see {@link IDataType#serializeBinaryColumn}.
+     */
     @Override
     public void write(Object object) throws IOException, SQLException {
-        Object[] arr = ((ByteHouseArray) object).getArray();
+        final int length;
+        if (object instanceof ByteHouseArray) {
+            length = writeElements(((ByteHouseArray) object).getArray());
+        } else if (object instanceof Object[]) {
+            length = writeElements((Object[]) object);
+        } else {
+            length = Array.getLength(object);
+            if (!data.type().serializeBinaryColumn(object, length, data.getColumnWriterBuffer().column)) {
+                for (int i = 0; i < length; i++) {
+                    data.write(Array.get(object, i));
+                }
+            }
+        }
 
-        offsets.add(offsets.isEmpty() ? arr.length : offsets.get((offsets.size() - 1)) + arr.length);
-        for (Object field : arr) {
-            data.write(field);
+        if (rowCnt == offsets.length) {
+            offsets = Arrays.copyOf(offsets, rowCnt * 2);
         }
+        offsets[rowCnt] = rowCnt == 0 ? length : offsets[rowCnt - 1] + length;
+        rowCnt++;
+    }
+
+    private int writeElements(Object[] elements) throws IOException, SQLException {
+        for (Object element : elements) {
+            data.write(element);
+        }
+        return elements.length;
     }
 
     @Override
@@ -62,27 +131,26 @@ public class ColumnArray extends AbstractColumn {
     }
 
     public void flushOffsets(BinarySerializer serializer) throws IOException {
-        for (long offsetList : offsets) {
-            serializer.writeLong(offsetList);
-        }
+        serializer.writeLongs(offsets, 0, rowCnt);
     }
 
     @Override
     public void setColumnWriterBuffer(ColumnWriterBuffer buffer) {
         super.setColumnWriterBuffer(buffer);
         data.setColumnWriterBuffer(buffer);
+        rowCnt = 0;
     }
 
     @Override
     public void reuseColumnWriterBuffer() {
         super.reuseColumnWriterBuffer();
-        offsets.clear();
+        rowCnt = 0;
         data.reuseColumnWriterBuffer();
     }
 
     @Override
     public void clear() {
-        offsets.clear();
+        rowCnt = 0;
         data.clear();
     }
 }
@@ -0,0 +1,161 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import com.bytedance.bytehouse.data.type.DataTypeUInt64;
+import com.bytedance.bytehouse.jdbc.ByteHouseArray;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+/**
+ * {@link Column} holding the result of a BitMap64 column as the bytes received for every row.
+ * A row is laid out as the number of distinct 32 most significant bits (UInt64), then for each
+ * of them the bits (UInt32) and a portable RoaringBitmap of the 32 least significant bits, all
+ * in little-endian.
+ * <p>
+ * {@link #msbBitmaps} reads a row without copying its bitmaps, {@link #bitmap} as a
+ * {@link Roaring64NavigableMap}, and {@link #value} as a {@link ByteHouseArray} of
+ * {@link BigInteger}s.
+ */
+public class ColumnBitMap64 extends Column {
+
+    private static final DataTypeUInt64 DATA_TYPE_UINT_64 = new DataTypeUInt64();
+
+    private byte[][] rows;
+
+    public ColumnBitMap64(final String name, final IDataType<?, ?> type, final byte[][] rows) {
+        super(name, type, null);
+        this.rows = rows;
+    }
+
+    /**
+     * Returns the bitmaps of a row by their 32 most significant bits, as views over the bytes
+     * received.
+     */
+    public NavigableMap<Long, ImmutableRoaringBitmap> msbBitmaps(final int idx) {
+        return msbBitmaps(rows[idx]);
+    }
+
+    /**
+     * Returns a row as a {@link Roaring64NavigableMap} with unsigned longs.
+     */
+    public Roaring64NavigableMap bitmap(final int idx) {
+        return bitmap(rows[idx]);
+    }
+
+    /**
+     * Returns the serialized bitmap of a row, as received.
+     */
+    @Override
+    public byte[] bytesValue(final int idx) {
+        return rows[idx];
+    }
+
+    @Override
+    public Object value(final int idx) {
+        final long[] members = members(rows[idx]);
+        final Object[] values = new Object[members.length];
+        for (int i = 0; i < members.length; i++) {
+            values[i] = ColumnUInt64.toBigInteger(members[i]);
+        }
+        return new ByteHouseArray(DATA_TYPE_UINT_64, values);
+    }
+
+    @Override
+    public boolean isNull(final int idx) {
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        rows = new byte[0][];
+    }
+
+    /**
+     * Returns the bitmaps of a serialized BitMap64 by their 32 most significant bits, as views
+     * over bytes.
+     */
+    public static NavigableMap<Long, ImmutableRoaringBitmap> msbBitmaps(final byte[] bytes) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        final long mapSize = buffer.getLong();
+        final NavigableMap<Long, ImmutableRoaringBitmap> bitmaps = new TreeMap<>();
+        for (long i = 0; i < mapSize; i++) {
+            final long msb = buffer.getInt() & 0xFFFFFFFFL;
+            final ImmutableRoaringBitmap bitmap = new ImmutableRoaringBitmap(buffer);
+            buffer.position(buffer.position() + bitmap.serializedSizeInBytes());
+            bitmaps.put(msb, bitmap);
+        }
+        return bitmaps;
+    }
+
+    /**
+     * Returns the members of a serialized BitMap64, in unsigned order.
+     */
+    public static long[] members(final byte[] bytes) {
+        final NavigableMap<Long, ImmutableRoaringBitmap> bitmaps = msbBitmaps(bytes);
+        long cardinality = 0;
+        for (ImmutableRoaringBitmap bitmap : bitmaps.values()) {
+            cardinality += bitmap.getLongCardinality();
+        }
+        final long[] members = new long[Math.toIntExact(cardinality)];
+        int pos = 0;
+        for (Map.Entry<Long, ImmutableRoaringBitmap> entry : bitmaps.entrySet()) {
+            final long high = entry.getKey() << 32;
+            final PeekableIntIterator lsbs = entry.getValue().getIntIterator();
+            while (lsbs.hasNext()) {
+                members[pos++] = high | (lsbs.next() & 0xFFFFFFFFL);
+            }
+        }
+        return members;
+    }
+
+    /**
+     * Reads a serialized BitMap64 into a {@link Roaring64NavigableMap} with unsigned longs.
+     */
+    public static Roaring64NavigableMap bitmap(final byte[] bytes) {
+        // rewrite the header and the keys into the big-endian layout of
+        // Roaring64NavigableMap.serialize: a boolean for signed longs, the int number of bitmaps,
+        // then each int key followed by its bitmap, which is the same portable format
+        final ByteBuffer in = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        final ByteBuffer out = ByteBuffer.allocate(bytes.length - Long.BYTES + 1 + Integer.BYTES);
+        final long mapSize = in.getLong();
+        out.put((byte) 0).putInt(Math.toIntExact(mapSize));
+        for (long i = 0; i < mapSize; i++) {
+            out.putInt(in.getInt());
+            final int size = new ImmutableRoaringBitmap(in).serializedSizeInBytes();
+            out.put(bytes, in.position(), size);
+            in.position(in.position() + size);
+        }
+        final Roaring64NavigableMap bitmap = new Roaring64NavigableMap();
+        try {
+            bitmap.deserialize(new DataInputStream(new ByteArrayInputStream(out.array())));
+        } catch (IOException e) {
+            // the bytes were checked while being rewritten
+            throw new IllegalStateException(e);
+        }
+        return bitmap;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import java.time.LocalDate;
+
+/**
+ * {@link Column} keeping the days since the epoch of a Date column, as received, in a
+ * {@code short[]}. {@link LocalDate} values are only created when they are read, and
+ * {@link #longValue(int)} returns the epoch day.
+ */
+public class ColumnDate extends Column {
+
+    private short[] days;
+
+    public ColumnDate(final String name, final IDataType<?, ?> type, final short[] days) {
+        super(name, type, null);
+        this.days = days;
+    }
+
+    /**
+     * Returns the backing array, for callers that process the whole column at once.
+     */
+    public short[] data() {
+        return days;
+    }
+
+    @Override
+    public Object value(final int idx) {
+        return LocalDate.ofEpochDay(days[idx]);
+    }
+
+    @Override
+    public boolean isNull(final int idx) {
+        return false;
+    }
+
+    @Override
+    public int intValue(final int idx) {
+        return days[idx];
+    }
+
+    @Override
+    public long longValue(final int idx) {
+        return days[idx];
+    }
+
+    @Override
+    public double doubleValue(final int idx) {
+        return days[idx];
+    }
+
+    @Override
+    public void clear() {
+        days = new short[0];
+    }
+}
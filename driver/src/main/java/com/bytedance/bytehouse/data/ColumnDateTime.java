@@ -0,0 +1,139 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import com.bytedance.bytehouse.misc.ZoneOffsetTable;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * {@link Column} keeping the values of a DateTime or DateTime64 column as received: seconds
+ * since the epoch in an {@code int[]}, or ticks of 10^-scale seconds in a {@code long[]}.
+ * Date-time objects are only created when they are read, with the zone offset taken from a
+ * {@link ZoneOffsetTable}.
+ * <p>
+ * {@link #longValue(int)} returns the raw value, i.e. the epoch in seconds for DateTime and
+ * in ticks for DateTime64.
+ */
+public class ColumnDateTime extends Column {
+
+    private static final int NANOS_IN_SECOND = 1_000_000_000;
+
+    private int[] seconds;
+
+    private long[] ticks;
+
+    // 10^scale ticks per second
+    private final long ticksPerSecond;
+
+    private final ZoneId tz;
+
+    private final ZoneOffsetTable offsets;
+
+    public ColumnDateTime(final String name, final IDataType<?, ?> type, final int[] seconds,
+                          final ZoneId tz, final ZoneOffsetTable offsets) {
+        super(name, type, null);
+        this.seconds = seconds;
+        this.ticksPerSecond = 1;
+        this.tz = tz;
+        this.offsets = offsets;
+    }
+
+    public ColumnDateTime(final String name, final IDataType<?, ?> type, final long[] ticks, final int scale,
+                          final ZoneId tz, final ZoneOffsetTable offsets) {
+        super(name, type, null);
+        this.ticks = ticks;
+        long ticksPerSecond = 1;
+        for (int i = 0; i < scale; i++) {
+            ticksPerSecond *= 10;
+        }
+        this.ticksPerSecond = ticksPerSecond;
+        this.tz = tz;
+        this.offsets = offsets;
+    }
+
+    /**
+     * Returns the backing array: an {@code int[]} of epoch seconds for DateTime or a
+     * {@code long[]} of ticks for DateTime64.
+     */
+    public Object data() {
+        return seconds != null ? seconds : ticks;
+    }
+
+    public long epochSecond(final int idx) {
+        return seconds != null ? seconds[idx] : Math.floorDiv(ticks[idx], ticksPerSecond);
+    }
+
+    public int nanos(final int idx) {
+        if (seconds != null) {
+            return 0;
+        }
+        return (int) (Math.floorMod(ticks[idx], ticksPerSecond) * (NANOS_IN_SECOND / ticksPerSecond));
+    }
+
+    /**
+     * Returns the date-time at idx in the zone of the column, without a {@link ZonedDateTime}.
+     */
+    public LocalDateTime localDateTime(final int idx) {
+        final long epochSecond = epochSecond(idx);
+        return LocalDateTime.ofEpochSecond(epochSecond, nanos(idx), offsets.offset(epochSecond));
+    }
+
+    /**
+     * Returns the instant at idx as a {@link Timestamp}, which needs no zone.
+     */
+    public Timestamp timestamp(final int idx) {
+        final Timestamp timestamp = new Timestamp(epochSecond(idx) * 1000);
+        timestamp.setNanos(nanos(idx));
+        return timestamp;
+    }
+
+    @Override
+    public Object value(final int idx) {
+        final long epochSecond = epochSecond(idx);
+        final ZoneOffset offset = offsets.offset(epochSecond);
+        return ZonedDateTime.ofInstant(LocalDateTime.ofEpochSecond(epochSecond, nanos(idx), offset), offset, tz);
+    }
+
+    @Override
+    public boolean isNull(final int idx) {
+        return false;
+    }
+
+    @Override
+    public int intValue(final int idx) {
+        return (int) longValue(idx);
+    }
+
+    @Override
+    public long longValue(final int idx) {
+        return seconds != null ? seconds[idx] : ticks[idx];
+    }
+
+    @Override
+    public double doubleValue(final int idx) {
+        return longValue(idx);
+    }
+
+    @Override
+    public void clear() {
+        seconds = null;
+        ticks = new long[0];
+    }
+}
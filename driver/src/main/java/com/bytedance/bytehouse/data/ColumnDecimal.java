@@ -0,0 +1,121 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import java.math.BigDecimal;
+
+/**
+ * {@link Column} keeping the unscaled values of a Decimal32 or Decimal64 column, in an
+ * {@code int[]} or a {@code long[]}, with the scale of the type. {@link BigDecimal} values
+ * are only created when they are read, and the numeric accessors do not create any.
+ */
+public class ColumnDecimal extends Column {
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private int[] intData;
+
+    private long[] longData;
+
+    private final int scale;
+
+    public ColumnDecimal(final String name, final IDataType<?, ?> type, final int[] unscaled, final int scale) {
+        super(name, type, null);
+        this.intData = unscaled;
+        this.scale = scale;
+    }
+
+    public ColumnDecimal(final String name, final IDataType<?, ?> type, final long[] unscaled, final int scale) {
+        super(name, type, null);
+        this.longData = unscaled;
+        this.scale = scale;
+    }
+
+    /**
+     * Returns the backing array of unscaled values: an {@code int[]} for Decimal32 or a
+     * {@code long[]} for Decimal64.
+     */
+    public Object unscaled() {
+        return intData != null ? intData : longData;
+    }
+
+    public int scale() {
+        return scale;
+    }
+
+    /**
+     * Returns the unscaled value at idx, i.e. the value multiplied by 10^scale.
+     */
+    public long unscaledValue(final int idx) {
+        return intData != null ? intData[idx] : longData[idx];
+    }
+
+    @Override
+    public Object value(final int idx) {
+        return BigDecimal.valueOf(unscaledValue(idx), scale);
+    }
+
+    @Override
+    public boolean isNull(final int idx) {
+        return false;
+    }
+
+    @Override
+    public byte byteValue(final int idx) {
+        return (byte) longValue(idx);
+    }
+
+    @Override
+    public short shortValue(final int idx) {
+        return (short) longValue(idx);
+    }
+
+    @Override
+    public int intValue(final int idx) {
+        return (int) longValue(idx);
+    }
+
+    /**
+     * Returns the integral part of the value, like {@link BigDecimal#longValue()}.
+     */
+    @Override
+    public long longValue(final int idx) {
+        return unscaledValue(idx) / POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public float floatValue(final int idx) {
+        return (float) doubleValue(idx);
+    }
+
+    @Override
+    public double doubleValue(final int idx) {
+        return (double) unscaledValue(idx) / POWERS_OF_TEN[scale];
+    }
+
+    @Override
+    public void clear() {
+        intData = null;
+        longData = new long[0];
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+/**
+ * {@link Column} holding the distinct values once, in a dictionary, and for each row the code
+ * of its value, i.e. its index in the dictionary. Used for the result of LowCardinality and
+ * Enum columns, which have few distinct values.
+ * <p>
+ * The codes are stored in a {@code byte[]}, {@code short[]} or {@code int[]}, the narrowest
+ * that fits the dictionary size; in a {@code byte[]} or {@code short[]} they are unsigned.
+ * Callers can process the codes and the dictionary directly, e.g. to group rows by value.
+ */
+public class ColumnDictionary extends Column {
+
+    private Object[] dictionary;
+
+    private byte[] byteCodes;
+
+    private short[] shortCodes;
+
+    private int[] intCodes;
+
+    public ColumnDictionary(final String name, final IDataType<?, ?> type, final Object[] dictionary,
+                            final byte[] codes) {
+        super(name, type, null);
+        this.dictionary = dictionary;
+        this.byteCodes = codes;
+    }
+
+    public ColumnDictionary(final String name, final IDataType<?, ?> type, final Object[] dictionary,
+                            final short[] codes) {
+        super(name, type, null);
+        this.dictionary = dictionary;
+        this.shortCodes = codes;
+    }
+
+    public ColumnDictionary(final String name, final IDataType<?, ?> type, final Object[] dictionary,
+                            final int[] codes) {
+        super(name, type, null);
+        this.dictionary = dictionary;
+        this.intCodes = codes;
+    }
+
+    /**
+     * Returns the distinct values, indexed by code.
+     */
+    public Object[] dictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Returns the backing array of codes: a {@code byte[]}, {@code short[]} or {@code int[]}.
+     */
+    public Object codes() {
+        if (byteCodes != null) {
+            return byteCodes;
+        }
+        return shortCodes != null ? shortCodes : intCodes;
+    }
+
+    public int rowCnt() {
+        if (byteCodes != null) {
+            return byteCodes.length;
+        }
+        return shortCodes != null ? shortCodes.length : intCodes.length;
+    }
+
+    /**
+     * Returns the code of the value at idx.
+     */
+    public int code(final int idx) {
+        if (byteCodes != null) {
+            return byteCodes[idx] & 0xFF;
+        }
+        if (shortCodes != null) {
+            return shortCodes[idx] & 0xFFFF;
+        }
+        return intCodes[idx];
+    }
+
+    @Override
+    public Object value(final int idx) {
+        return dictionary[code(idx)];
+    }
+
+    @Override
+    public void clear() {
+        dictionary = new Object[0];
+        byteCodes = null;
+        shortCodes = null;
+        intCodes = new int[0];
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import java.net.Inet6Address;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+
+/**
+ * {@link Column} holding the result of an IPv6 column as one {@code byte[]} of 16 bytes per row,
+ * in network byte order. The {@link Inet6Address} of a row is only created when the row is read.
+ */
+public class ColumnIPv6 extends Column {
+
+    private static final int IPV6_BYTES_LEN = 16;
+
+    private byte[] data;
+
+    public ColumnIPv6(final String name, final IDataType<?, ?> type, final byte[] data) {
+        super(name, type, null);
+        this.data = data;
+    }
+
+    /**
+     * Returns the packed addresses, for callers that process the whole column at once.
+     */
+    public byte[] data() {
+        return data;
+    }
+
+    @Override
+    public byte[] bytesValue(final int idx) {
+        return Arrays.copyOfRange(data, idx * IPV6_BYTES_LEN, (idx + 1) * IPV6_BYTES_LEN);
+    }
+
+    @Override
+    public Object value(final int idx) {
+        try {
+            // unlike InetAddress.getByAddress, keeps IPv4-mapped addresses as Inet6Address
+            return Inet6Address.getByAddress(null, bytesValue(idx), -1);
+        } catch (UnknownHostException e) {
+            // never happens for an address of 16 bytes
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public boolean isNull(final int idx) {
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        data = new byte[0];
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+/**
+ * {@link Column} backed by a {@code long[]}, used for the result of Int64 and UInt32 columns
+ * so that the values are not boxed one by one when they are read.
+ */
+public class ColumnLong extends Column {
+
+    private long[] data;
+
+    public ColumnLong(final String name, final IDataType<?, ?> type, final long[] data) {
+        super(name, type, null);
+        this.data = data;
+    }
+
+    /**
+     * Returns the backing array, for callers that process the whole column at once.
+     */
+    public long[] data() {
+        return data;
+    }
+
+    @Override
+    public Object value(final int idx) {
+        return data[idx];
+    }
+
+    @Override
+    public boolean isNull(final int idx) {
+        return false;
+    }
+
+    @Override
+    public byte byteValue(final int idx) {
+        return (byte) data[idx];
+    }
+
+    @Override
+    public short shortValue(final int idx) {
+        return (short) data[idx];
+    }
+
+    @Override
+    public int intValue(final int idx) {
+        return (int) data[idx];
+    }
+
+    @Override
+    public long longValue(final int idx) {
+        return data[idx];
+    }
+
+    @Override
+    public float floatValue(final int idx) {
+        return data[idx];
+    }
+
+    @Override
+    public double doubleValue(final int idx) {
+        return data[idx];
+    }
+
+    @Override
+    public void clear() {
+        data = new long[0];
+    }
+}
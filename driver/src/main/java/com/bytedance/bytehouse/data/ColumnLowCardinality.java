@@ -20,10 +20,7 @@ import com.bytedance.bytehouse.misc.BytesHelper;
 import com.bytedance.bytehouse.serde.BinarySerializer;
 import java.io.IOException;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.Arrays;
 
 /**
  * A custom Column class to be used with the Low Cardinality data type.
@@ -36,19 +33,19 @@ public class ColumnLowCardinality extends AbstractColumn implements BytesHelper
 
     private final IColumn keys;
 
-    private Map<Object, Integer> objectToIndex;
+    private final DictionaryEncoder encoder;
 
-    private List<Integer> valueIndicesList;
+    private int[] valueIndices; // stores the keys to the values
 
-    private byte[] valueIndicesRaw; // stores the keys to the values
+    private int rowCnt;
 
     public ColumnLowCardinality(String name, DataTypeLowCardinality type, Object[] values) {
         super(name, type, values);
 
         header = new byte[HEADER_SIZE];
         keys = ColumnFactoryUtils.createColumn(null, type.getElemDataType(), null);
-        objectToIndex = new HashMap<>();
-        valueIndicesList = new ArrayList<>();
+        encoder = new DictionaryEncoder();
+        valueIndices = new int[64];
     }
 
     /**
@@ -83,12 +80,16 @@ public class ColumnLowCardinality extends AbstractColumn implements BytesHelper
      */
     @Override
     public void write(Object object) throws IOException, SQLException {
-        if (!objectToIndex.containsKey(object)) {
-            objectToIndex.put(object, objectToIndex.size());
+        final int size = encoder.size();
+        final int index = encoder.encode(object);
+        if (encoder.size() > size) {
             keys.write(object);
         }
 
-        valueIndicesList.add(objectToIndex.get(object));
+        if (rowCnt == valueIndices.length) {
+            valueIndices = Arrays.copyOf(valueIndices, rowCnt * 2);
+        }
+        valueIndices[rowCnt++] = index;
     }
 
     /**
@@ -106,44 +107,57 @@ public class ColumnLowCardinality extends AbstractColumn implements BytesHelper
             }
 
             updateHeader();
-            updateValueIndicesRaw();
 
             // write values for all the rows
             serializer.writeBytes(header);
             keys.flushToSerializer(serializer, now);
-            serializer.writeLong(valueIndicesList.size());
-            serializer.writeBytes(valueIndicesRaw);
+            serializer.writeLong(rowCnt);
+            writeValueIndices(serializer);
         } catch (Exception ex) {
             throw new SQLException(ex);
         }
     }
 
-    private void updateValueIndicesRaw() {
-        int rowNum = valueIndicesList.size();
-        int idxSize = minIndexSize(objectToIndex.size());
-        valueIndicesRaw = new byte[rowNum * idxSize];
-        for (int i = 0; i < rowNum; i++) {
-            putIndex(idxSize, valueIndicesList.get(i), i, valueIndicesRaw);
-        }
-    }
-
-    private void putIndex(int idxSize, int idx, int row, byte[] memory) {
-        switch (idxSize) {
-            case 1:
-                memory[row] = (byte) idx;
-                break;
-            case 2:
-                setShortLE(memory, row * idxSize, idx);
-                break;
-            case 3:
-                setIntLE(memory, row * idxSize, idx);
+    /**
+     * Writes the indices with the width of the header. Narrow indices are first packed in
+     * place, several per int, so that they are written in bulk. This destroys the indices,
+     * the column is expected to be reused before it is written again.
+     */
+    private void writeValueIndices(final BinarySerializer serializer) throws IOException {
+        switch (indexType(encoder.size())) {
+            case 0: {
+                final int packed = rowCnt / 4;
+                for (int i = 0; i < packed; i++) {
+                    valueIndices[i] = valueIndices[4 * i]
+                            | valueIndices[4 * i + 1] << 8
+                            | valueIndices[4 * i + 2] << 16
+                            | valueIndices[4 * i + 3] << 24;
+                }
+                final int tail = packed * 4;
+                for (int i = tail; i < rowCnt; i++) {
+                    valueIndices[packed + i - tail] = valueIndices[i];
+                }
+                serializer.writeInts(valueIndices, 0, packed);
+                for (int i = tail; i < rowCnt; i++) {
+                    serializer.writeByte((byte) valueIndices[packed + i - tail]);
+                }
                 break;
-            case 4:
-                setLongLE(memory, row * idxSize, idx);
+            }
+            case 1: {
+                final int packed = rowCnt / 2;
+                final int last = valueIndices[rowCnt - 1];
+                for (int i = 0; i < packed; i++) {
+                    valueIndices[i] = valueIndices[2 * i] | valueIndices[2 * i + 1] << 16;
+                }
+                serializer.writeInts(valueIndices, 0, packed);
+                if (rowCnt % 2 == 1) {
+                    serializer.writeShort((short) last);
+                }
                 break;
+            }
             default:
-                // Won't reach here since minIdxSize return a number only from 1-4
-                throw new IllegalStateException("supposed unreachable execution path");
+                serializer.writeInts(valueIndices, 0, rowCnt);
+                break;
         }
     }
 
@@ -151,9 +165,8 @@ public class ColumnLowCardinality extends AbstractColumn implements BytesHelper
         header[0] = 1; // version
         header[9] = 2; // indicate presence of additional keys
 
-        setLongLE(header, 16, objectToIndex.size());
-        int idxSize = minIndexSize(objectToIndex.size());
-        header[8] = (byte) (idxSize - 1);
+        setLongLE(header, 16, encoder.size());
+        header[8] = (byte) indexType(encoder.size());
     }
 
     /**
@@ -163,35 +176,37 @@ public class ColumnLowCardinality extends AbstractColumn implements BytesHelper
     public void setColumnWriterBuffer(ColumnWriterBuffer buffer) {
         super.setColumnWriterBuffer(buffer);
         keys.setColumnWriterBuffer(buffer);
+        // the keys written so far were in the previous buffer
+        encoder.clear();
+        rowCnt = 0;
     }
 
     @Override
     public void reuseColumnWriterBuffer() {
         super.reuseColumnWriterBuffer();
         keys.reuseColumnWriterBuffer();
-        objectToIndex.clear();
-        valueIndicesList.clear();
+        encoder.clear();
+        rowCnt = 0;
     }
 
     @Override
     public void clear() {
-        objectToIndex.clear();
+        encoder.clear();
+        rowCnt = 0;
         keys.clear();
     }
 
-    private int minIndexSize(int n) {
-        int indexSize = 0;
-
-        if (n > (1 << 24)) {
-            indexSize++;
-        }
+    /**
+     * Returns the type of the indices for a dictionary of n keys: 0 for UInt8, 1 for UInt16
+     * and 2 for UInt32, which fits any int index.
+     */
+    private int indexType(int n) {
         if (n > (1 << 16)) {
-            indexSize++;
+            return 2;
         }
         if (n > (1 << 8)) {
-            indexSize++;
+            return 1;
         }
-
-        return indexSize + 1;
+        return 0;
     }
 }
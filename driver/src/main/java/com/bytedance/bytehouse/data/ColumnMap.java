@@ -16,11 +16,11 @@
 package com.bytedance.bytehouse.data;
 
 import com.bytedance.bytehouse.data.type.complex.DataTypeMap;
+import com.bytedance.bytehouse.jdbc.ByteHouseMap;
 import com.bytedance.bytehouse.serde.BinarySerializer;
 import java.io.IOException;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import java.util.Map;
 
 /**
@@ -31,7 +31,12 @@ import java.util.Map;
  */
 public class ColumnMap extends AbstractColumn {
 
-    private List<Long> offsets;
+    /**
+     * End offset of each row in the keys and values columns.
+     */
+    private long[] offsets;
+
+    private int rowCnt;
 
     /**
      * Column for packing the keys for all the rows together for writing.
@@ -43,27 +48,86 @@ public class ColumnMap extends AbstractColumn {
      */
     private final IColumn valuesColumn;
 
+    /**
+     * Separate buffers of the keys and the values, created once and reused by every block written
+     * through this column.
+     */
+    private ColumnWriterBuffer keysBuffer;
+
+    private ColumnWriterBuffer valuesBuffer;
+
     public ColumnMap(String name, DataTypeMap type, Object[] values) {
         super(name, type, values);
-        offsets = new ArrayList<>();
+        offsets = new long[64];
         keysColumn = ColumnFactoryUtils.createColumn(null, type.getKeyDataType(), null);
         valuesColumn = ColumnFactoryUtils.createColumn(null, type.getValueDataType(), null);
     }
 
+    /**
+     * Creates a result column from the end offset of each row and the columns of the keys and
+     * the values of all the rows. Rows are returned as {@link ByteHouseMap} views over them.
+     */
+    public ColumnMap(String name, DataTypeMap type, long[] rowOffsets, IColumn keys, IColumn values) {
+        super(name, type, null);
+        this.offsets = rowOffsets;
+        this.rowCnt = rowOffsets.length;
+        this.keysColumn = keys;
+        this.valuesColumn = values;
+    }
+
+    /**
+     * Returns the end offset of each row in {@link #keyColumn()} and {@link #valueColumn()},
+     * for a result column.
+     */
+    public long[] rowOffsets() {
+        return offsets;
+    }
+
+    /**
+     * Returns the column of the keys of all the rows.
+     */
+    public IColumn keyColumn() {
+        return keysColumn;
+    }
+
+    /**
+     * Returns the column of the values of all the rows, e.g. a {@link ColumnDouble} for
+     * Map(String, Float64).
+     */
+    public IColumn valueColumn() {
+        return valuesColumn;
+    }
+
+    @Override
+    public Object value(int idx) {
+        if (values != null) {
+            return values[idx];
+        }
+        final int start = idx == 0 ? 0 : (int) offsets[idx - 1];
+        return new ByteHouseMap(keysColumn, valuesColumn, start, (int) offsets[idx] - start);
+    }
+
+    @Override
+    public boolean isNull(int idx) {
+        return values != null && values[idx] == null;
+    }
+
     /**
      * Appends a row with Map data to this column.
      */
     @Override
     public void write(Object object) throws IOException, SQLException {
-        Map map = (Map) object;
-        int size = map.size();
+        Map<?, ?> map = (Map<?, ?>) object;
 
-        // increment offsets
-        offsets.add(offsets.isEmpty() ? size : offsets.get(offsets.size() - 1) + size);
+        if (rowCnt == offsets.length) {
+            offsets = Arrays.copyOf(offsets, rowCnt * 2);
+        }
+        offsets[rowCnt] = rowCnt == 0 ? map.size() : offsets[rowCnt - 1] + map.size();
+        rowCnt++;
         // add keys and values to their respective columns
-        for (Object key : map.keySet()) {
-            keysColumn.write(key);
-            valuesColumn.write(map.get(key));
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            keysColumn.write(entry.getKey());
+            valuesColumn.write(entry.getValue());
         }
     }
 
@@ -78,7 +142,7 @@ public class ColumnMap extends AbstractColumn {
         }
 
         // write offsets
-        flushOffsets(serializer);
+        serializer.writeLongs(offsets, 0, rowCnt);
         // write keys for all the rows
         keysColumn.flushToSerializer(serializer, true);
         // write values for all the rows
@@ -93,28 +157,30 @@ public class ColumnMap extends AbstractColumn {
     @Override
     public void setColumnWriterBuffer(ColumnWriterBuffer buffer) {
         super.setColumnWriterBuffer(buffer);
-        keysColumn.setColumnWriterBuffer(new ColumnWriterBuffer());
-        valuesColumn.setColumnWriterBuffer(new ColumnWriterBuffer());
+        if (keysBuffer == null) {
+            keysBuffer = new ColumnWriterBuffer();
+            valuesBuffer = new ColumnWriterBuffer();
+        } else {
+            keysBuffer.reuseColumnWriterBuffer();
+            valuesBuffer.reuseColumnWriterBuffer();
+        }
+        keysColumn.setColumnWriterBuffer(keysBuffer);
+        valuesColumn.setColumnWriterBuffer(valuesBuffer);
+        rowCnt = 0;
     }
 
     @Override
     public void reuseColumnWriterBuffer() {
         super.reuseColumnWriterBuffer();
-        offsets.clear();
+        rowCnt = 0;
         keysColumn.reuseColumnWriterBuffer();
         valuesColumn.reuseColumnWriterBuffer();
     }
 
     @Override
     public void clear() {
-        offsets.clear();
+        rowCnt = 0;
         keysColumn.clear();
         valuesColumn.clear();
     }
-
-    private void flushOffsets(BinarySerializer serializer) throws IOException {
-        for (long offset : offsets) {
-            serializer.writeLong(offset);
-        }
-    }
 }
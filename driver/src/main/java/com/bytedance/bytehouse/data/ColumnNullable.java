@@ -19,30 +19,104 @@ import com.bytedance.bytehouse.data.type.complex.DataTypeNullable;
 import com.bytedance.bytehouse.serde.BinarySerializer;
 import java.io.IOException;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 import javax.annotation.Nullable;
 
 public class ColumnNullable extends AbstractColumn {
 
-    private List<Byte> nullableSign;
+    // 1 for a null row, 0 otherwise, as sent on the wire
+    private byte[] nullMap;
+
+    private int rowCnt;
 
     // data represents nested column in ColumnArray
     private final IColumn data;
 
     public ColumnNullable(String name, DataTypeNullable type, Object[] values) {
         super(name, type, values);
-        nullableSign = new ArrayList<>();
+        nullMap = new byte[64];
         data = ColumnFactoryUtils.createColumn(null, type.getNestedDataType(), null);
     }
 
+    /**
+     * Creates a result column from the null map and the column of the nested type, whose
+     * values at null rows are ignored.
+     */
+    public ColumnNullable(String name, DataTypeNullable type, byte[] nullMap, IColumn data) {
+        super(name, type, null);
+        this.nullMap = nullMap;
+        this.rowCnt = nullMap.length;
+        this.data = data;
+    }
+
+    /**
+     * Returns the column of the nested type, with unspecified values at null rows.
+     */
+    public IColumn nested() {
+        return data;
+    }
+
+    @Override
+    public Object value(int idx) {
+        if (values != null) {
+            return values[idx];
+        }
+        return nullMap[idx] != 0 ? null : data.value(idx);
+    }
+
+    @Override
+    public boolean isNull(int idx) {
+        if (values != null) {
+            return values[idx] == null;
+        }
+        return nullMap[idx] != 0;
+    }
+
+    @Override
+    public byte byteValue(int idx) {
+        return values != null ? super.byteValue(idx) : data.byteValue(idx);
+    }
+
+    @Override
+    public short shortValue(int idx) {
+        return values != null ? super.shortValue(idx) : data.shortValue(idx);
+    }
+
+    @Override
+    public int intValue(int idx) {
+        return values != null ? super.intValue(idx) : data.intValue(idx);
+    }
+
+    @Override
+    public long longValue(int idx) {
+        return values != null ? super.longValue(idx) : data.longValue(idx);
+    }
+
+    @Override
+    public float floatValue(int idx) {
+        return values != null ? super.floatValue(idx) : data.floatValue(idx);
+    }
+
+    @Override
+    public double doubleValue(int idx) {
+        return values != null ? super.doubleValue(idx) : data.doubleValue(idx);
+    }
+
+    @Override
+    public byte[] bytesValue(int idx) {
+        return values != null ? super.bytesValue(idx) : data.bytesValue(idx);
+    }
+
     @Override
     public void write(@Nullable Object object) throws IOException, SQLException {
+        if (rowCnt == nullMap.length) {
+            nullMap = Arrays.copyOf(nullMap, rowCnt * 2);
+        }
         if (object == null) {
-            nullableSign.add((byte) 1);
+            nullMap[rowCnt++] = 1;
             data.write(type.defaultValue()); // write whatever for padding
         } else {
-            nullableSign.add((byte) 0);
+            nullMap[rowCnt++] = 0;
             data.write(object);
         }
     }
@@ -54,9 +128,7 @@ public class ColumnNullable extends AbstractColumn {
             serializer.writeUTF8StringBinary(type.name());
         }
 
-        for (byte sign : nullableSign) {
-            serializer.writeByte(sign);
-        }
+        serializer.writeBytes(nullMap, 0, rowCnt);
 
         if (data instanceof ColumnArray) {
             ((ColumnArray) data).flushOffsets(serializer);
@@ -70,18 +142,19 @@ public class ColumnNullable extends AbstractColumn {
     public void setColumnWriterBuffer(ColumnWriterBuffer buffer) {
         super.setColumnWriterBuffer(buffer);
         data.setColumnWriterBuffer(buffer);
+        rowCnt = 0;
     }
 
     @Override
     public void reuseColumnWriterBuffer() {
         super.reuseColumnWriterBuffer();
         data.reuseColumnWriterBuffer();
-        nullableSign.clear();
+        rowCnt = 0;
     }
 
     @Override
     public void clear() {
         data.clear();
-        nullableSign.clear();
+        rowCnt = 0;
     }
 }
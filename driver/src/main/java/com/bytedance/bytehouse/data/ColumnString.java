@@ -0,0 +1,197 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * {@link Column} holding the bytes of all the rows of a String or FixedString column in one
+ * array, with the end offset of each row. Values are decoded to {@link String} only when they
+ * are read, and {@link #bytesValue(int)} returns the bytes as received from the server.
+ * <p>
+ * With a dedup cache, see {@link #enableDedupCache(int)}, rows with the same bytes return the same {@link String}, which is
+ * decoded once as long as it stays in the cache. The cache is direct-mapped: each slot keeps
+ * the last value decoded for the hash of its bytes.
+ */
+public class ColumnString extends Column {
+
+    private byte[] bytes;
+
+    private int[] offsets;
+
+    private final Charset charset;
+
+    // whether all the bytes are ASCII, computed on first decode
+    private int ascii = -1;
+
+    private String[] cache;
+
+    private int[] cacheRows;
+
+    /**
+     * @param bytes   the bytes of all the rows, possibly followed by unused capacity
+     * @param offsets end offset of each row in bytes
+     */
+    public ColumnString(final String name, final IDataType<?, ?> type, final byte[] bytes, final int[] offsets,
+                        final Charset charset) {
+        super(name, type, null);
+        this.bytes = bytes;
+        this.offsets = offsets;
+        this.charset = charset;
+    }
+
+    /**
+     * Shares the decoded values between rows with the same bytes, through a cache of
+     * {@code slots} entries, rounded up to a power of two.
+     */
+    public void enableDedupCache(final int slots) {
+        final int size = slots <= 1 ? 1 : Integer.highestOneBit(slots - 1) << 1;
+        this.cache = new String[size];
+        this.cacheRows = new int[size];
+    }
+
+    /**
+     * Returns the backing array, for callers that process the whole column at once.
+     */
+    public byte[] bytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the end offset of each row in {@link #bytes()}.
+     */
+    public int[] offsets() {
+        return offsets;
+    }
+
+    public int rowCnt() {
+        return offsets.length;
+    }
+
+    @Override
+    public Object value(final int idx) {
+        final int start = start(idx);
+        final int end = offsets[idx];
+        if (cache == null) {
+            return decode(start, end);
+        }
+
+        final int slot = hash(start, end) & (cache.length - 1);
+        final String cached = cache[slot];
+        if (cached != null && sameBytes(cacheRows[slot], start, end)) {
+            return cached;
+        }
+        final String value = decode(start, end);
+        cache[slot] = value;
+        cacheRows[slot] = idx;
+        return value;
+    }
+
+    /**
+     * Returns whether the value of a row equals s, without decoding the row when the column is
+     * ASCII, e.g. to look up the key of a Map row.
+     */
+    public boolean valueEquals(final int idx, final String s) {
+        final int start = start(idx);
+        final int end = offsets[idx];
+        if (ascii < 0) {
+            ascii = isAscii() ? 1 : 0;
+        }
+        if (ascii == 0) {
+            return s.equals(value(idx));
+        }
+        if (end - start != s.length()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (bytes[start + i] != s.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean isNull(final int idx) {
+        return false;
+    }
+
+    @Override
+    public byte[] bytesValue(final int idx) {
+        return Arrays.copyOfRange(bytes, start(idx), offsets[idx]);
+    }
+
+    @Override
+    public void clear() {
+        bytes = new byte[0];
+        offsets = new int[0];
+        cache = null;
+        cacheRows = null;
+    }
+
+    private int start(final int idx) {
+        return idx == 0 ? 0 : offsets[idx - 1];
+    }
+
+    @SuppressWarnings("deprecation")
+    private String decode(final int start, final int end) {
+        if (ascii < 0) {
+            ascii = isAscii() ? 1 : 0;
+        }
+        if (ascii == 1) {
+            // every ASCII compatible charset decodes ASCII bytes to the same chars
+            return new String(bytes, 0, start, end - start);
+        }
+        return new String(bytes, start, end - start, charset);
+    }
+
+    private boolean isAscii() {
+        if (!charset.equals(StandardCharsets.UTF_8) && !charset.equals(StandardCharsets.US_ASCII)
+                && !charset.equals(StandardCharsets.ISO_8859_1)) {
+            return false;
+        }
+        final int length = offsets.length == 0 ? 0 : offsets[offsets.length - 1];
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int hash(final int start, final int end) {
+        int hash = end - start;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private boolean sameBytes(final int row, final int start, final int end) {
+        final int rowStart = start(row);
+        if (offsets[row] - rowStart != end - start) {
+            return false;
+        }
+        for (int i = 0; i < end - start; i++) {
+            if (bytes[rowStart + i] != bytes[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
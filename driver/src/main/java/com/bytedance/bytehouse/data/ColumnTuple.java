@@ -36,6 +36,43 @@ public class ColumnTuple extends AbstractColumn {
         }
     }
 
+    /**
+     * Creates a result column from one column per element. Rows are returned as views over the
+     * element columns.
+     */
+    public ColumnTuple(String name, DataTypeTuple type, IColumn[] elements) {
+        super(name, type, null);
+        this.columnDataArray = elements;
+    }
+
+    /**
+     * Returns the column of each element for all the rows, e.g. a {@link ColumnDouble} for the
+     * second element of Tuple(String, Float64).
+     */
+    public IColumn[] elements() {
+        return columnDataArray;
+    }
+
+    /**
+     * Returns the column of the element at index, starting with 0.
+     */
+    public IColumn element(int index) {
+        return columnDataArray[index];
+    }
+
+    @Override
+    public Object value(int idx) {
+        if (values != null) {
+            return values[idx];
+        }
+        return new ByteHouseStruct("Tuple", columnDataArray, idx);
+    }
+
+    @Override
+    public boolean isNull(int idx) {
+        return values != null && values[idx] == null;
+    }
+
     @Override
     public void write(Object object) throws IOException, SQLException {
         ByteHouseStruct tuple = (ByteHouseStruct) object;
@@ -0,0 +1,113 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import java.math.BigInteger;
+
+/**
+ * {@link Column} backed by a {@code long[]} holding the unsigned bits of the result of a UInt64
+ * column. {@link #value} creates a {@link BigInteger} for the row read, or returns the raw
+ * {@link Long} once {@link #returnLongs()} is called.
+ */
+public class ColumnUInt64 extends Column {
+
+    private long[] data;
+
+    private boolean asLong;
+
+    public ColumnUInt64(final String name, final IDataType<?, ?> type, final long[] data) {
+        super(name, type, null);
+        this.data = data;
+    }
+
+    /**
+     * Returns the backing array, for callers that process the whole column at once.
+     */
+    public long[] data() {
+        return data;
+    }
+
+    /**
+     * Makes {@link #value} return the unsigned bits as a {@link Long}.
+     */
+    public void returnLongs() {
+        this.asLong = true;
+    }
+
+    /**
+     * Returns the value as unsigned decimal digits.
+     */
+    public String stringValue(final int idx) {
+        return Long.toUnsignedString(data[idx]);
+    }
+
+    @Override
+    public Object value(final int idx) {
+        return asLong ? data[idx] : toBigInteger(data[idx]);
+    }
+
+    @Override
+    public boolean isNull(final int idx) {
+        return false;
+    }
+
+    @Override
+    public byte byteValue(final int idx) {
+        return (byte) data[idx];
+    }
+
+    @Override
+    public short shortValue(final int idx) {
+        return (short) data[idx];
+    }
+
+    @Override
+    public int intValue(final int idx) {
+        return (int) data[idx];
+    }
+
+    @Override
+    public long longValue(final int idx) {
+        return data[idx];
+    }
+
+    @Override
+    public float floatValue(final int idx) {
+        return (float) doubleValue(idx);
+    }
+
+    @Override
+    public double doubleValue(final int idx) {
+        final long v = data[idx];
+        // halve an unsigned value above Long.MAX_VALUE, keeping the lowest bit for the rounding
+        return v >= 0 ? v : ((v >>> 1) | (v & 1)) * 2.0;
+    }
+
+    @Override
+    public void clear() {
+        data = new long[0];
+    }
+
+    /**
+     * Returns the value of the unsigned bits of a UInt64.
+     */
+    public static BigInteger toBigInteger(final long unsigned) {
+        if (unsigned >= 0) {
+            return BigInteger.valueOf(unsigned);
+        }
+        return BigInteger.valueOf(unsigned >>> 1).shiftLeft(1).or(BigInteger.valueOf(unsigned & 1));
+    }
+}
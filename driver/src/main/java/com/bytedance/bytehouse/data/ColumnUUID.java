@@ -0,0 +1,63 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import java.util.UUID;
+
+/**
+ * {@link Column} holding the result of a UUID column as packed {@code long}s, the most
+ * significant bits of row i at {@code 2 * i} and the least significant bits at {@code 2 * i + 1}.
+ * The {@link UUID} of a row is only created when the row is read.
+ */
+public class ColumnUUID extends Column {
+
+    private long[] data;
+
+    public ColumnUUID(final String name, final IDataType<?, ?> type, final long[] data) {
+        super(name, type, null);
+        this.data = data;
+    }
+
+    /**
+     * Returns the packed bits, for callers that process the whole column at once.
+     */
+    public long[] data() {
+        return data;
+    }
+
+    public long mostSignificantBits(final int idx) {
+        return data[2 * idx];
+    }
+
+    public long leastSignificantBits(final int idx) {
+        return data[2 * idx + 1];
+    }
+
+    @Override
+    public Object value(final int idx) {
+        return new UUID(data[2 * idx], data[2 * idx + 1]);
+    }
+
+    @Override
+    public boolean isNull(final int idx) {
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        data = new long[0];
+    }
+}
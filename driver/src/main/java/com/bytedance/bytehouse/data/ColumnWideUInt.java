@@ -0,0 +1,112 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import java.math.BigInteger;
+
+/**
+ * {@link Column} holding the result of a UInt128 or UInt256 column as packed {@code long}s, in
+ * the order of the wire: the value of row i is the words {@code [i * n, i * n + n)}, lowest word
+ * first. The {@link BigInteger} of a row is only created when the row is read.
+ */
+public class ColumnWideUInt extends Column {
+
+    private static final double TWO_POW_64 = 0x1p64;
+
+    private long[] words;
+
+    private final int wordsPerValue;
+
+    public ColumnWideUInt(final String name, final IDataType<?, ?> type, final long[] words, final int wordsPerValue) {
+        super(name, type, null);
+        this.words = words;
+        this.wordsPerValue = wordsPerValue;
+    }
+
+    /**
+     * Returns the packed words, for callers that process the whole column at once.
+     */
+    public long[] words() {
+        return words;
+    }
+
+    /**
+     * Returns the number of words of a value, 2 for UInt128 and 4 for UInt256.
+     */
+    public int wordsPerValue() {
+        return wordsPerValue;
+    }
+
+    @Override
+    public Object value(final int idx) {
+        final byte[] magnitude = new byte[wordsPerValue * Long.BYTES];
+        final int base = idx * wordsPerValue;
+        for (int w = 0; w < wordsPerValue; w++) {
+            final long word = words[base + w];
+            final int pos = (wordsPerValue - 1 - w) * Long.BYTES;
+            for (int b = 0; b < Long.BYTES; b++) {
+                magnitude[pos + b] = (byte) (word >>> (56 - 8 * b));
+            }
+        }
+        return new BigInteger(1, magnitude);
+    }
+
+    @Override
+    public boolean isNull(final int idx) {
+        return false;
+    }
+
+    @Override
+    public byte byteValue(final int idx) {
+        return (byte) words[idx * wordsPerValue];
+    }
+
+    @Override
+    public short shortValue(final int idx) {
+        return (short) words[idx * wordsPerValue];
+    }
+
+    @Override
+    public int intValue(final int idx) {
+        return (int) words[idx * wordsPerValue];
+    }
+
+    @Override
+    public long longValue(final int idx) {
+        return words[idx * wordsPerValue];
+    }
+
+    @Override
+    public float floatValue(final int idx) {
+        return (float) doubleValue(idx);
+    }
+
+    @Override
+    public double doubleValue(final int idx) {
+        final int base = idx * wordsPerValue;
+        double value = 0;
+        for (int w = wordsPerValue - 1; w >= 0; w--) {
+            final long word = words[base + w];
+            value = value * TWO_POW_64 + (word >= 0 ? word : ((word >>> 1) | (word & 1)) * 2.0);
+        }
+        return value;
+    }
+
+    @Override
+    public void clear() {
+        words = new long[0];
+    }
+}
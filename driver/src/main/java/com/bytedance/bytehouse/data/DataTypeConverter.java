@@ -18,7 +18,10 @@ package com.bytedance.bytehouse.data;
 import static com.bytedance.bytehouse.misc.ExceptionUtil.unchecked;
 
 import com.bytedance.bytehouse.data.type.DataTypeBitMap64;
+import com.bytedance.bytehouse.data.type.DataTypeDate;
 import com.bytedance.bytehouse.data.type.complex.DataTypeArray;
+import com.bytedance.bytehouse.data.type.complex.DataTypeDateTime;
+import com.bytedance.bytehouse.data.type.complex.DataTypeDateTime64;
 import com.bytedance.bytehouse.data.type.complex.DataTypeNothing;
 import com.bytedance.bytehouse.data.type.complex.DataTypeNullable;
 import com.bytedance.bytehouse.data.type.complex.DataTypeTuple;
@@ -27,7 +30,9 @@ import com.bytedance.bytehouse.jdbc.ByteHouseArray;
 import com.bytedance.bytehouse.jdbc.ByteHouseStruct;
 import com.bytedance.bytehouse.log.Logger;
 import com.bytedance.bytehouse.log.LoggerFactoryUtils;
+import java.lang.reflect.Array;
 import java.time.ZoneId;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
 
 /**
  * Converter layer between internal representation of ByteHouse data type (Java type) and JDBC types.
@@ -60,14 +65,18 @@ public class DataTypeConverter {
             return convertJdbcToJava(((DataTypeNullable) type).getNestedDataType(), obj);
         }
         if (type instanceof DataTypeArray) {
-            if (!(obj instanceof ByteHouseArray)) {
-                throw new ByteHouseSQLException(-1, "require ByteHouseArray for column: " + type.name() + ", but found " + obj.getClass());
+            if (obj instanceof ByteHouseArray) {
+                return ((ByteHouseArray) obj).mapElements(unchecked(this::convertJdbcToJava));
             }
-            return ((ByteHouseArray) obj).mapElements(unchecked(this::convertJdbcToJava));
+            return convertArrayElements(((DataTypeArray) type).getElemDataType(), obj);
         }
         if (type instanceof DataTypeBitMap64) {
+            if (obj instanceof Roaring64NavigableMap) {
+                return obj;
+            }
             if (!(obj instanceof ByteHouseArray)) {
-                throw new ByteHouseSQLException(-1, "require ByteHouseArray for column: " + type.name() + ", but found " + obj.getClass());
+                throw new ByteHouseSQLException(-1, "require ByteHouseArray or Roaring64NavigableMap for column: "
+                        + type.name() + ", but found " + obj.getClass());
             }
             return ((ByteHouseArray) obj).mapElements(unchecked(this::convertJdbcToJava));
         }
@@ -77,7 +86,55 @@ public class DataTypeConverter {
             }
             return ((ByteHouseStruct) obj).mapAttributes(((DataTypeTuple) type).getNestedTypes(), unchecked(this::convertJdbcToJava));
         }
+        // dates are written from their epoch value, see IDataType.serializeBinaryValue
+        if (type instanceof DataTypeDateTime) {
+            return ((DataTypeDateTime) type).convertJdbcToEpochSecond(obj, tz);
+        }
+        if (type instanceof DataTypeDateTime64) {
+            return ((DataTypeDateTime64) type).convertJdbcToTicks(obj, tz);
+        }
+        if (type instanceof DataTypeDate) {
+            return ((DataTypeDate) type).convertJdbcToEpochDay(obj, tz);
+        }
         // convert jdbc to java type
         return type.convertJdbcToJavaType(obj, tz);
     }
+
+    /**
+     * Converts a plain Java array to a row of an Array column. A primitive array whose element
+     * type matches the java type of the elements, e.g. {@code long[]} for Array(Int64), is kept
+     * as is, to be written without boxing by {@link ColumnArray}.
+     */
+    private Object convertArrayElements(IDataType<?, ?> elemType, Object obj) throws ByteHouseSQLException {
+        Class<?> componentType = obj.getClass().getComponentType();
+        if (componentType == null) {
+            throw new ByteHouseSQLException(-1, "require ByteHouseArray or java array for column: Array("
+                    + elemType.name() + "), but found " + obj.getClass());
+        }
+        if (componentType.isPrimitive() && elemType.javaType() == boxedType(componentType)) {
+            return obj;
+        }
+        Object[] elements = new Object[Array.getLength(obj)];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = convertJdbcToJava(elemType, Array.get(obj, i));
+        }
+        return elements;
+    }
+
+    private static Class<?> boxedType(Class<?> primitiveType) {
+        if (primitiveType == int.class) {
+            return Integer.class;
+        } else if (primitiveType == long.class) {
+            return Long.class;
+        } else if (primitiveType == float.class) {
+            return Float.class;
+        } else if (primitiveType == double.class) {
+            return Double.class;
+        } else if (primitiveType == short.class) {
+            return Short.class;
+        } else if (primitiveType == byte.class) {
+            return Byte.class;
+        }
+        return null;
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import java.util.Arrays;
+
+/**
+ * Assigns consecutive codes to distinct values, for {@link ColumnLowCardinality}.
+ * <p>
+ * An open-addressing hash table with linear probing maps each value to its code. Integral
+ * numbers are hashed and compared by their long value, byte arrays by content, and other
+ * values, e.g. strings, with {@code hashCode} and {@code equals}.
+ */
+class DictionaryEncoder {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    // code + 1 of the value hashed to each slot, 0 for an empty slot
+    private int[] slots;
+
+    // values by code, for non integral values
+    private Object[] keys;
+
+    // values by code, for integral values
+    private long[] longKeys;
+
+    private int size;
+
+    private int nullCode;
+
+    DictionaryEncoder() {
+        slots = new int[INITIAL_CAPACITY];
+        keys = new Object[INITIAL_CAPACITY / 2];
+        longKeys = new long[INITIAL_CAPACITY / 2];
+        nullCode = -1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the code of the value, adding it to the dictionary if it is new, in which case
+     * the code is {@code size() - 1}.
+     */
+    int encode(final Object value) {
+        if (value == null) {
+            if (nullCode < 0) {
+                nullCode = size;
+                ensureCapacity();
+                size++;
+            }
+            return nullCode;
+        }
+        if (isIntegral(value)) {
+            return encodeLong(((Number) value).longValue());
+        }
+        final int mask = slots.length - 1;
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            final int slot = slots[i];
+            if (slot == 0) {
+                ensureCapacity();
+                keys[size] = value;
+                slots[i] = ++size;
+                rehashIfFull();
+                return size - 1;
+            }
+            final Object key = keys[slot - 1];
+            if (key != null && equal(key, value)) {
+                return slot - 1;
+            }
+        }
+    }
+
+    void clear() {
+        Arrays.fill(slots, 0);
+        Arrays.fill(keys, 0, size, null);
+        size = 0;
+        nullCode = -1;
+    }
+
+    private int encodeLong(final long value) {
+        final int mask = slots.length - 1;
+        for (int i = mix(Long.hashCode(value)) & mask; ; i = (i + 1) & mask) {
+            final int slot = slots[i];
+            if (slot == 0) {
+                ensureCapacity();
+                longKeys[size] = value;
+                slots[i] = ++size;
+                rehashIfFull();
+                return size - 1;
+            }
+            if (longKeys[slot - 1] == value && keys[slot - 1] == null && slot - 1 != nullCode) {
+                return slot - 1;
+            }
+        }
+    }
+
+    private void ensureCapacity() {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            longKeys = Arrays.copyOf(longKeys, size * 2);
+        }
+    }
+
+    // keeps the load factor at most 1/2
+    private void rehashIfFull() {
+        if (size * 2 <= slots.length) {
+            return;
+        }
+        slots = new int[slots.length * 2];
+        final int mask = slots.length - 1;
+        for (int code = 0; code < size; code++) {
+            if (code == nullCode) {
+                continue;
+            }
+            final int hash = keys[code] != null ? hash(keys[code]) : mix(Long.hashCode(longKeys[code]));
+            int i = hash & mask;
+            while (slots[i] != 0) {
+                i = (i + 1) & mask;
+            }
+            slots[i] = code + 1;
+        }
+    }
+
+    private static boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private static int hash(final Object value) {
+        return mix(value instanceof byte[] ? Arrays.hashCode((byte[]) value) : value.hashCode());
+    }
+
+    private static boolean equal(final Object key, final Object value) {
+        if (value instanceof byte[]) {
+            return key instanceof byte[] && Arrays.equals((byte[]) key, (byte[]) value);
+        }
+        return value.equals(key);
+    }
+
+    private static int mix(final int hash) {
+        final int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
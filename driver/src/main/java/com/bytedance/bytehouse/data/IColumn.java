@@ -29,6 +29,51 @@ public interface IColumn {
 
     Object value(int idx);
 
+    /**
+     * Returns whether the value at idx is SQL NULL.
+     */
+    default boolean isNull(int idx) {
+        return value(idx) == null;
+    }
+
+    /*
+     * Primitive accessors. The defaults unbox through {@link Number}; columns backed by primitive
+     * arrays override them so reading a numeric cell does not allocate.
+     * Callers are expected to check {@link #isNull(int)} first.
+     */
+
+    default byte byteValue(int idx) {
+        return ((Number) value(idx)).byteValue();
+    }
+
+    default short shortValue(int idx) {
+        return ((Number) value(idx)).shortValue();
+    }
+
+    default int intValue(int idx) {
+        return ((Number) value(idx)).intValue();
+    }
+
+    default long longValue(int idx) {
+        return ((Number) value(idx)).longValue();
+    }
+
+    default float floatValue(int idx) {
+        return ((Number) value(idx)).floatValue();
+    }
+
+    default double doubleValue(int idx) {
+        return ((Number) value(idx)).doubleValue();
+    }
+
+    /**
+     * Returns the bytes of a String or FixedString value as received from the server, or null
+     * if this column does not keep them.
+     */
+    default byte[] bytesValue(int idx) {
+        return null;
+    }
+
     void write(Object object) throws IOException, SQLException;
 
     /**
@@ -138,6 +138,22 @@ public interface IDataType<CK, JDBC> extends Serializable {
      */
     void serializeBinary(CK data, BinarySerializer serializer) throws SQLException, IOException;
 
+    /**
+     * Serializes a value written to a column, as returned by {@link DataTypeConverter}. This is
+     * a CK type object, except for types whose conversion skips it, which override this method.
+     *
+     * @param data       cell data
+     * @param serializer serializer
+     * @throws SQLException general exception
+     * @throws IOException  exception when serializing
+     */
+    @SuppressWarnings("unchecked")
+    default void serializeBinaryValue(Object data, BinarySerializer serializer) throws SQLException, IOException {
+        // safe: DataTypeConverter returns the CK value of convertJdbcToJavaType, and the types
+        // for which it returns something else override this method
+        serializeBinary((CK) data, serializer);
+    }
+
     /**
      * Serializes data for entire column to format for transfer to server.
      *
@@ -188,6 +204,55 @@ public interface IDataType<CK, JDBC> extends Serializable {
         return data;
     }
 
+    /**
+     * Deserializes data from server (for entire column) into a column of the result block.
+     * Types with a primitive representation override this to keep the values unboxed.
+     *
+     * @param name         name of the column
+     * @param rows         number of rows in column
+     * @param deserializer deserializer
+     * @return column holding the deserialized values
+     * @throws SQLException general exception
+     * @throws IOException  exception when serializing
+     */
+    default IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws SQLException, IOException {
+        return ColumnFactoryUtils.createColumn(name, this, deserializeBinaryBulk(rows, deserializer));
+    }
+
+    /**
+     * Serializes the first {@code rows} values of a primitive or String array for the entire
+     * column, without boxing or converting every value. Used by the columnar insert API.
+     *
+     * @param array      values of the column, e.g. {@code long[]} for Int64
+     * @param rows       number of values to serialize
+     * @param serializer serializer
+     * @return false, without writing anything, if this type does not accept this kind of array
+     * @throws SQLException general exception
+     * @throws IOException  exception when serializing
+     */
+    default boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws SQLException, IOException {
+        return false;
+    }
+
+    /**
+     * Returns how many elements of an array accepted by {@link #serializeBinaryColumn} make one
+     * row, e.g. 2 for the {@code long[]} of a UUID column.
+     *
+     * @param array values of the column
+     * @return elements per row
+     */
+    default int elementsPerRow(Object array) {
+        return 1;
+    }
+
     /**
      * Converts obj of JDBC type to CK java type.
      *
@@ -15,6 +15,10 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnBitMap64;
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.ColumnUInt64;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.jdbc.ByteHouseArray;
 import com.bytedance.bytehouse.misc.BytesHelper;
@@ -27,15 +31,15 @@ import java.io.DataOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
 import java.sql.Array;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import org.roaringbitmap.RoaringBitmap;
 import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
 
 public class DataTypeBitMap64 implements IDataType<ByteHouseArray, Array>, BytesHelper {
 
@@ -81,46 +85,83 @@ public class DataTypeBitMap64 implements IDataType<ByteHouseArray, Array>, Bytes
      */
     @Override
     public void serializeBinary(ByteHouseArray data, BinarySerializer serializer) throws SQLException, IOException {
-
-        // Each UInt64 in the UInt64 array (data) will be split into its 32 most significant bits, and 32 least
-        // significant bits. In the HashMap, the MSB will form the key, and the LSB will form one of the values.
-        Map<Integer, List<Integer>> msbLsbMap = new HashMap<>();
         Object[] uInt64Array = data.getArray();
-        for (Object o : uInt64Array) {
-            long value = ((BigInteger) o).longValue();
-            int msb = (int) (value >> 32);
-            int lsb = (int) value;
-
-            msbLsbMap.computeIfAbsent(msb, k -> new ArrayList<>()).add(lsb);
+        long[] values = new long[uInt64Array.length];
+        for (int i = 0; i < values.length; i++) {
+            // flip the sign bit to sort as unsigned
+            values[i] = ((Number) uInt64Array[i]).longValue() ^ Long.MIN_VALUE;
+        }
+        // sorting brings the values with the same 32 most significant bits together
+        Arrays.sort(values);
+        for (int i = 0; i < values.length; i++) {
+            values[i] ^= Long.MIN_VALUE;
         }
 
-        try (ByteArrayOutputStream byteOutputStream = new ByteArrayOutputStream()) {
-            try (DataOutputStream outputStream = new DataOutputStream(byteOutputStream)) {
-
-                long mapSize = msbLsbMap.size();
-                // write map size as UInt64 in little endian.
-                outputStream.write(getBytesLE(mapSize));
-
-                for (int msb : msbLsbMap.keySet()) {
-                    // write msb as UInt32 in little endian.
-                    outputStream.write(getBytesLE(msb));
+        // Each UInt64 value is split into its 32 most significant bits (MSB), and 32 least significant bits
+        // (LSB). The LSBs of every MSB form one bitmap.
+        int[] msbs = new int[values.length];
+        List<RoaringBitmap> bitmaps = new ArrayList<>();
+        int[] lsbs = new int[values.length];
+        long bytesLen = Long.BYTES;
+        for (int from = 0; from < values.length; ) {
+            int msb = (int) (values[from] >>> 32);
+            int to = from;
+            while (to < values.length && (int) (values[to] >>> 32) == msb) {
+                lsbs[to - from] = (int) values[to];
+                to++;
+            }
+            RoaringBitmap bitmap = new RoaringBitmap();
+            bitmap.addN(lsbs, 0, to - from);
+            msbs[bitmaps.size()] = msb;
+            bitmaps.add(bitmap);
+            bytesLen += Integer.BYTES + bitmap.serializedSizeInBytes();
+            from = to;
+        }
 
-                    // convert lsbValues to bitmap and serialize it
-                    List<Integer> lsbValues = msbLsbMap.get(msb);
-                    ImmutableRoaringBitmap bitmap = ImmutableRoaringBitmap.bitmapOf(
-                            lsbValues.stream().mapToInt(i -> i).toArray()
-                    );
-                    bitmap.serialize(outputStream);
-                }
-                outputStream.flush();
+        // write total length of data in bytes, then the map size as UInt64 and each MSB as UInt32
+        serializer.writeVarInt(bytesLen);
+        serializer.writeLong(bitmaps.size());
+        for (int i = 0; i < bitmaps.size(); i++) {
+            serializer.writeInt(msbs[i]);
+            RoaringBitmap bitmap = bitmaps.get(i);
+            ByteBuffer bytes = ByteBuffer.allocate(bitmap.serializedSizeInBytes());
+            bitmap.serialize(bytes);
+            serializer.writeBytes(bytes.array());
+        }
+    }
 
-                byte[] byteOutput = byteOutputStream.toByteArray();
+    /**
+     * Also writes a {@link Roaring64NavigableMap} as is, without listing its members.
+     */
+    @Override
+    public void serializeBinaryValue(Object data, BinarySerializer serializer) throws SQLException, IOException {
+        if (data instanceof Roaring64NavigableMap) {
+            serializeBitmap((Roaring64NavigableMap) data, serializer);
+        } else {
+            serializeBinary((ByteHouseArray) data, serializer);
+        }
+    }
 
-                // write total length of data in bytes
-                serializer.writeVarInt(byteOutput.length);
-                // write all the byte output
-                serializer.writeBytes(byteOutput);
-            }
+    private void serializeBitmap(Roaring64NavigableMap bitmap, BinarySerializer serializer) throws IOException {
+        // Roaring64NavigableMap.serialize writes a boolean for signed longs and the int number of bitmaps,
+        // then each int MSB followed by its bitmap, in big-endian. The bitmaps have the portable format
+        // of BitMap64 and are written as they are.
+        ByteArrayOutputStream byteOutputStream = new ByteArrayOutputStream();
+        try (DataOutputStream outputStream = new DataOutputStream(byteOutputStream)) {
+            bitmap.serialize(outputStream);
+        }
+        byte[] bytes = byteOutputStream.toByteArray();
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        in.get();
+        int mapSize = in.getInt();
+
+        serializer.writeVarInt(bytes.length - 1 - Integer.BYTES + Long.BYTES);
+        serializer.writeLong(mapSize & 0xFFFFFFFFL);
+        for (int i = 0; i < mapSize; i++) {
+            serializer.writeInt(in.getInt());
+            int size = new ImmutableRoaringBitmap(in).serializedSizeInBytes();
+            serializer.writeBytes(bytes, in.position(), size);
+            in.position(in.position() + size);
         }
     }
 
@@ -133,32 +174,12 @@ public class DataTypeBitMap64 implements IDataType<ByteHouseArray, Array>, Bytes
         // Casting long to int -> assumes that dataBytesLen will never exceed Integer.MAX_VALUE.
         // Integer.MAX_VALUE bytes = 2.15 GB
         int dataBytesLen = Math.toIntExact(deserializer.readVarInt());
-
-        // wraps remaining data bytes in a ByteBuffer. Change order to LITTLE_ENDIAN, which corresponds to how
-        // serializer/deserializer is writing/reading data.
-        ByteBuffer byteBuffer = ByteBuffer.wrap(deserializer.readBytes(dataBytesLen));
-        byteBuffer.order(ByteOrder.LITTLE_ENDIAN);
-
-        // Using long as UInt64 here
-        long mapSize = byteBuffer.getLong();
-        List<BigInteger> result = new ArrayList<>();
-
-        // refer to how it is being serialized to understand how to interpret this
-        for (long i = 0; i < mapSize; i++) {
-            long msb = byteBuffer.getInt() & 0xFFFFFFFFL;
-            // read all lsb values for this msb
-            ImmutableRoaringBitmap bitmap = new ImmutableRoaringBitmap(byteBuffer);
-            // advance position in byteBuffer
-            byteBuffer.position(byteBuffer.position() + bitmap.serializedSizeInBytes());
-
-            bitmap.stream().forEach(lsb -> {
-                // combine msb and lsb to form UInt64 value
-                long value = (msb << 32) | (lsb & 0xFFFFFFFFL);
-                result.add(new BigInteger(1, getBytes(value)));
-            });
+        long[] members = ColumnBitMap64.members(deserializer.readBytes(dataBytesLen));
+        Object[] result = new Object[members.length];
+        for (int i = 0; i < members.length; i++) {
+            result[i] = ColumnUInt64.toBigInteger(members[i]);
         }
-
-        return new ByteHouseArray(DATA_TYPE_UINT_64, result.toArray());
+        return new ByteHouseArray(DATA_TYPE_UINT_64, result);
     }
 
     /**
@@ -191,6 +212,22 @@ public class DataTypeBitMap64 implements IDataType<ByteHouseArray, Array>, Bytes
         return data;
     }
 
+    /**
+     * Keeps the bytes of every row, see {@link ColumnBitMap64}.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0) {
+            return ColumnFactoryUtils.createColumn(name, this, new ByteHouseArray[0]);
+        }
+        byte[][] data = new byte[rows][];
+        for (int row = 0; row < rows; row++) {
+            data[row] = deserializer.readBytes(Math.toIntExact(deserializer.readVarInt()));
+        }
+        return new ColumnBitMap64(name, this, data);
+    }
+
     @Override
     public ByteHouseArray[] allocate(int rows) {
         return new ByteHouseArray[rows];
@@ -15,10 +15,15 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnDate;
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
+import com.bytedance.bytehouse.misc.DateTimeUtil;
 import com.bytedance.bytehouse.misc.SQLLexer;
 import com.bytedance.bytehouse.misc.ValidateUtils;
+import com.bytedance.bytehouse.misc.ZoneOffsetTable;
 import com.bytedance.bytehouse.serde.BinaryDeserializer;
 import com.bytedance.bytehouse.serde.BinarySerializer;
 import java.io.IOException;
@@ -76,6 +81,30 @@ public class DataTypeDate implements IDataType<LocalDate, Date> {
         serializer.writeShort((short) epochDay);
     }
 
+    /**
+     * Also writes the epoch days returned by {@link #convertJdbcToEpochDay}.
+     */
+    @Override
+    public void serializeBinaryValue(Object data, BinarySerializer serializer) throws SQLException, IOException {
+        if (data instanceof Long) {
+            serializer.writeShort((short) (long) (Long) data);
+        } else {
+            serializeBinary((LocalDate) data, serializer);
+        }
+    }
+
+    /**
+     * Writes epoch days given as {@code short[]}.
+     */
+    @Override
+    public boolean serializeBinaryColumn(Object array, int rows, BinarySerializer serializer) throws IOException {
+        if (array instanceof short[]) {
+            serializer.writeShorts((short[]) array, 0, rows);
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public LocalDate deserializeBinary(BinaryDeserializer deserializer) throws IOException {
         short epochDay = deserializer.readShort();
@@ -96,6 +125,34 @@ public class DataTypeDate implements IDataType<LocalDate, Date> {
         throw new ByteHouseSQLException(-1, obj.getClass() + " cannot convert to " + LocalDate.class);
     }
 
+    /**
+     * Converts obj like {@link #convertJdbcToJavaType}, but to the epoch day written for it as a
+     * {@link Long}. Dates, character sequences and epoch days given as a Long or an Integer are
+     * converted without creating a {@link LocalDate}; other values are returned as converted by
+     * {@link #convertJdbcToJavaType}.
+     */
+    public Object convertJdbcToEpochDay(Object obj, ZoneId tz) throws ByteHouseSQLException {
+        if (obj instanceof Date) {
+            // the day in the JVM default zone, as Date.toLocalDate
+            long epochSecond = Math.floorDiv(((Date) obj).getTime(), 1000L);
+            int offset = ZoneOffsetTable.of(ZoneId.systemDefault()).offset(epochSecond).getTotalSeconds();
+            return Math.floorDiv(epochSecond + offset, 86400L);
+        }
+        if (obj instanceof LocalDate) {
+            return ((LocalDate) obj).toEpochDay();
+        }
+        if (obj instanceof Long || obj instanceof Integer) {
+            return ((Number) obj).longValue();
+        }
+        if (obj instanceof CharSequence) {
+            long epochDay = DateTimeUtil.parseEpochDay((CharSequence) obj);
+            if (epochDay != DateTimeUtil.NOT_PARSED) {
+                return epochDay;
+            }
+        }
+        return convertJdbcToJavaType(obj, tz);
+    }
+
     @Override
     public String[] getAliases() {
         return new String[0];
@@ -123,6 +180,20 @@ public class DataTypeDate implements IDataType<LocalDate, Date> {
         return data;
     }
 
+    /**
+     * Keeps the epoch days, see {@link ColumnDate}.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0) {
+            return ColumnFactoryUtils.createColumn(name, this, new LocalDate[0]);
+        }
+        short[] days = new short[rows];
+        deserializer.readShorts(days, 0, rows);
+        return new ColumnDate(name, this, days);
+    }
+
     @Override
     public LocalDate[] allocate(int rows) {
         return new LocalDate[rows];
@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnFloat;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
@@ -92,15 +94,51 @@ public class DataTypeFloat32 implements IDataType<Float, Float> {
         return true;
     }
 
+    @Override
+    public void serializeBinaryBulk(Float[] data, BinarySerializer serializer) throws SQLException, IOException {
+        float[] values = new float[data.length];
+        for (int row = 0; row < data.length; row++) {
+            values[row] = data[row];
+        }
+        serializer.writeFloats(values, 0, values.length);
+    }
+
     @Override
     public Float[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        float[] values = new float[rows];
+        deserializer.readFloats(values, 0, rows);
         Float[] data = new Float[rows];
         for (int row = 0; row < rows; row++) {
-            data[row] = this.deserializeBinary(deserializer);
+            data[row] = values[row];
         }
         return data;
     }
 
+    @Override
+    public boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws IOException {
+        if (array instanceof float[]) {
+            serializer.writeFloats((float[]) array, 0, rows);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws IOException {
+        float[] data = new float[rows];
+        deserializer.readFloats(data, 0, rows);
+        return new ColumnFloat(name, this, data);
+    }
+
     @Override
     public Float[] allocate(int rows) {
         return new Float[rows];
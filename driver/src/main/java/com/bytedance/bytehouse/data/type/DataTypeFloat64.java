@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnDouble;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
@@ -93,15 +95,51 @@ public class DataTypeFloat64 implements IDataType<Double, Double> {
         return true;
     }
 
+    @Override
+    public void serializeBinaryBulk(Double[] data, BinarySerializer serializer) throws SQLException, IOException {
+        double[] values = new double[data.length];
+        for (int row = 0; row < data.length; row++) {
+            values[row] = data[row];
+        }
+        serializer.writeDoubles(values, 0, values.length);
+    }
+
     @Override
     public Double[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        double[] values = new double[rows];
+        deserializer.readDoubles(values, 0, rows);
         Double[] data = new Double[rows];
         for (int row = 0; row < rows; row++) {
-            data[row] = this.deserializeBinary(deserializer);
+            data[row] = values[row];
         }
         return data;
     }
 
+    @Override
+    public boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws IOException {
+        if (array instanceof double[]) {
+            serializer.writeDoubles((double[]) array, 0, rows);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws IOException {
+        double[] data = new double[rows];
+        deserializer.readDoubles(data, 0, rows);
+        return new ColumnDouble(name, this, data);
+    }
+
     @Override
     public Double[] allocate(int rows) {
         return new Double[rows];
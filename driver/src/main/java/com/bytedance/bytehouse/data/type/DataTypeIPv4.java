@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnLong;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
@@ -94,6 +96,45 @@ public class DataTypeIPv4 implements IDataType<Long, Long> {
         return data;
     }
 
+    /**
+     * Accepts {@code int[]} holding the bits of the addresses, and {@code long[]} of the
+     * addresses as unsigned values, which must be within [0, 4294967295].
+     */
+    @Override
+    public boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws SQLException, IOException {
+        if (array instanceof int[]) {
+            serializer.writeInts((int[]) array, 0, rows);
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            int[] narrowed = new int[rows];
+            for (int row = 0; row < rows; row++) {
+                if (values[row] < 0 || values[row] > 4294967295L) {
+                    throw new ByteHouseSQLException(-1, values[row] + " at row " + row + " is out of range for IPv4");
+                }
+                narrowed[row] = (int) values[row];
+            }
+            serializer.writeInts(narrowed, 0, rows);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws IOException {
+        long[] data = new long[rows];
+        deserializer.readUnsignedInts(data, 0, rows);
+        return new ColumnLong(name, this, data);
+    }
+
     @Override
     public Long[] allocate(int rows) {
         return new Long[rows];
@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnIPv6;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.exception.NoDefaultValueException;
@@ -86,10 +88,7 @@ public class DataTypeIPv6 implements IDataType<Inet6Address, String> {
      */
     @Override
     public void serializeBinary(Inet6Address data, BinarySerializer serializer) throws SQLException, IOException {
-        byte[] ipv6InBytes = data.getAddress();
-        for (int i = 0; i < IPV6_BYTES_LEN; i++) {
-            serializer.writeByte(ipv6InBytes[i]);
-        }
+        serializer.writeBytes(data.getAddress());
     }
 
     /**
@@ -97,11 +96,7 @@ public class DataTypeIPv6 implements IDataType<Inet6Address, String> {
      */
     @Override
     public Inet6Address deserializeBinary(BinaryDeserializer deserializer) throws SQLException, IOException {
-        byte[] ipv6InBytes = new byte[IPV6_BYTES_LEN];
-        for (int i = 0; i < IPV6_BYTES_LEN; i++) {
-            ipv6InBytes[i] = deserializer.readByte();
-        }
-        return (Inet6Address) Inet6Address.getByAddress(ipv6InBytes);
+        return Inet6Address.getByAddress(null, deserializer.readBytes(IPV6_BYTES_LEN), -1);
     }
 
     @Override
@@ -142,6 +137,40 @@ public class DataTypeIPv6 implements IDataType<Inet6Address, String> {
         return data;
     }
 
+    /**
+     * Writes addresses given as {@code byte[]} of 16 bytes per row, in network byte order.
+     */
+    @Override
+    public boolean serializeBinaryColumn(Object array, int rows, BinarySerializer serializer)
+            throws SQLException, IOException {
+        if (array instanceof byte[]) {
+            byte[] bytes = (byte[]) array;
+            if (bytes.length < (long) IPV6_BYTES_LEN * rows) {
+                throw new ByteHouseSQLException(-1, "IPv6 column takes " + IPV6_BYTES_LEN + " bytes per row, got "
+                        + bytes.length + " bytes for " + rows + " rows");
+            }
+            serializer.writeBytes(bytes, 0, rows * IPV6_BYTES_LEN);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int elementsPerRow(Object array) {
+        return array instanceof byte[] ? IPV6_BYTES_LEN : 1;
+    }
+
+    /**
+     * Keeps the bytes of the addresses, see {@link ColumnIPv6}.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        byte[] data = new byte[rows * IPV6_BYTES_LEN];
+        deserializer.readBytes(data, 0, data.length);
+        return new ColumnIPv6(name, this, data);
+    }
+
     @Override
     public Inet6Address[] allocate(int rows) {
         return new Inet6Address[rows];
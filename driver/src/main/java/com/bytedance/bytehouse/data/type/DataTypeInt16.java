@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnShort;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
 import com.bytedance.bytehouse.serde.BinaryDeserializer;
@@ -80,15 +82,51 @@ public class DataTypeInt16 implements BaseDataTypeInt16<Short, Short> {
         return true;
     }
 
+    @Override
+    public void serializeBinaryBulk(Short[] data, BinarySerializer serializer) throws SQLException, IOException {
+        short[] values = new short[data.length];
+        for (int row = 0; row < data.length; row++) {
+            values[row] = data[row];
+        }
+        serializer.writeShorts(values, 0, values.length);
+    }
+
     @Override
     public Short[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        short[] values = new short[rows];
+        deserializer.readShorts(values, 0, rows);
         Short[] data = new Short[rows];
         for (int row = 0; row < rows; row++) {
-            data[row] = this.deserializeBinary(deserializer);
+            data[row] = values[row];
         }
         return data;
     }
 
+    @Override
+    public boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws IOException {
+        if (array instanceof short[]) {
+            serializer.writeShorts((short[]) array, 0, rows);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws IOException {
+        short[] data = new short[rows];
+        deserializer.readShorts(data, 0, rows);
+        return new ColumnShort(name, this, data);
+    }
+
     @Override
     public Short[] allocate(int rows) {
         return new Short[rows];
@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnInt;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
 import com.bytedance.bytehouse.serde.BinaryDeserializer;
@@ -81,15 +83,51 @@ public class DataTypeInt32 implements BaseDataTypeInt32<Integer, Integer> {
         return true;
     }
 
+    @Override
+    public void serializeBinaryBulk(Integer[] data, BinarySerializer serializer) throws SQLException, IOException {
+        int[] values = new int[data.length];
+        for (int row = 0; row < data.length; row++) {
+            values[row] = data[row];
+        }
+        serializer.writeInts(values, 0, values.length);
+    }
+
     @Override
     public Integer[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        int[] values = new int[rows];
+        deserializer.readInts(values, 0, rows);
         Integer[] data = new Integer[rows];
         for (int row = 0; row < rows; row++) {
-            data[row] = this.deserializeBinary(deserializer);
+            data[row] = values[row];
         }
         return data;
     }
 
+    @Override
+    public boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws IOException {
+        if (array instanceof int[]) {
+            serializer.writeInts((int[]) array, 0, rows);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws IOException {
+        int[] data = new int[rows];
+        deserializer.readInts(data, 0, rows);
+        return new ColumnInt(name, this, data);
+    }
+
     @Override
     public Integer[] allocate(int rows) {
         return new Integer[rows];
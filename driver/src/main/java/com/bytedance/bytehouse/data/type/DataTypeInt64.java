@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnLong;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
 import com.bytedance.bytehouse.serde.BinaryDeserializer;
@@ -81,15 +83,51 @@ public class DataTypeInt64 implements BaseDataTypeInt64<Long, Long> {
         return true;
     }
 
+    @Override
+    public void serializeBinaryBulk(Long[] data, BinarySerializer serializer) throws SQLException, IOException {
+        long[] values = new long[data.length];
+        for (int row = 0; row < data.length; row++) {
+            values[row] = data[row];
+        }
+        serializer.writeLongs(values, 0, values.length);
+    }
+
     @Override
     public Long[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        long[] values = new long[rows];
+        deserializer.readLongs(values, 0, rows);
         Long[] data = new Long[rows];
         for (int row = 0; row < rows; row++) {
-            data[row] = this.deserializeBinary(deserializer);
+            data[row] = values[row];
         }
         return data;
     }
 
+    @Override
+    public boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws IOException {
+        if (array instanceof long[]) {
+            serializer.writeLongs((long[]) array, 0, rows);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws IOException {
+        long[] data = new long[rows];
+        deserializer.readLongs(data, 0, rows);
+        return new ColumnLong(name, this, data);
+    }
+
     @Override
     public Long[] allocate(int rows) {
         return new Long[rows];
@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnByte;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
 import com.bytedance.bytehouse.serde.BinaryDeserializer;
@@ -80,15 +82,51 @@ public class DataTypeInt8 implements BaseDataTypeInt8<Byte, Byte> {
         return true;
     }
 
+    @Override
+    public void serializeBinaryBulk(Byte[] data, BinarySerializer serializer) throws SQLException, IOException {
+        byte[] values = new byte[data.length];
+        for (int row = 0; row < data.length; row++) {
+            values[row] = data[row];
+        }
+        serializer.writeBytes(values, 0, values.length);
+    }
+
     @Override
     public Byte[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        byte[] values = new byte[rows];
+        deserializer.readBytes(values, 0, rows);
         Byte[] data = new Byte[rows];
         for (int row = 0; row < rows; row++) {
-            data[row] = this.deserializeBinary(deserializer);
+            data[row] = values[row];
         }
         return data;
     }
 
+    @Override
+    public boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws IOException {
+        if (array instanceof byte[]) {
+            serializer.writeBytes((byte[]) array, 0, rows);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws IOException {
+        byte[] data = new byte[rows];
+        deserializer.readBytes(data, 0, rows);
+        return new ColumnByte(name, this, data);
+    }
+
     @Override
     public Byte[] allocate(int rows) {
         return new Byte[rows];
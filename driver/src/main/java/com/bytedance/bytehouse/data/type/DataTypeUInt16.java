@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnInt;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
 import com.bytedance.bytehouse.serde.BinaryDeserializer;
@@ -72,15 +74,65 @@ public class DataTypeUInt16 implements BaseDataTypeInt16<Integer, Integer> {
         return lexer.numberLiteral().intValue();
     }
 
+    @Override
+    public void serializeBinaryBulk(Integer[] data, BinarySerializer serializer) throws SQLException, IOException {
+        short[] values = new short[data.length];
+        for (int row = 0; row < data.length; row++) {
+            values[row] = data[row].shortValue();
+        }
+        serializer.writeShorts(values, 0, values.length);
+    }
+
     @Override
     public Integer[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        int[] values = new int[rows];
+        deserializer.readUnsignedShorts(values, 0, rows);
         Integer[] data = new Integer[rows];
         for (int row = 0; row < rows; row++) {
-            data[row] = this.deserializeBinary(deserializer);
+            data[row] = values[row];
         }
         return data;
     }
 
+    /**
+     * Accepts {@code short[]} holding the bits of the unsigned values, and {@code int[]} of the
+     * values themselves, which must be within [0, 65535].
+     */
+    @Override
+    public boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws SQLException, IOException {
+        if (array instanceof short[]) {
+            serializer.writeShorts((short[]) array, 0, rows);
+        } else if (array instanceof int[]) {
+            int[] values = (int[]) array;
+            short[] narrowed = new short[rows];
+            for (int row = 0; row < rows; row++) {
+                if (values[row] < 0 || values[row] > 65535) {
+                    throw new ByteHouseSQLException(-1, values[row] + " at row " + row + " is out of range for UInt16");
+                }
+                narrowed[row] = (short) values[row];
+            }
+            serializer.writeShorts(narrowed, 0, rows);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws IOException {
+        int[] data = new int[rows];
+        deserializer.readUnsignedShorts(data, 0, rows);
+        return new ColumnInt(name, this, data);
+    }
+
     @Override
     public Integer[] allocate(int rows) {
         return new Integer[rows];
@@ -15,6 +15,9 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.ColumnWideUInt;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.BytesHelper;
 import com.bytedance.bytehouse.misc.SQLLexer;
@@ -104,6 +107,20 @@ public class DataTypeUInt256 implements BaseDataTypeInt64<BigInteger, BigInteger
         return data;
     }
 
+    /**
+     * Keeps the words of the values, see {@link ColumnWideUInt}.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0) {
+            return ColumnFactoryUtils.createColumn(name, this, new BigInteger[0]);
+        }
+        long[] words = new long[rows * 4];
+        deserializer.readLongs(words, 0, words.length);
+        return new ColumnWideUInt(name, this, words, 4);
+    }
+
     @Override
     public BigInteger[] allocate(int rows) {
         return new BigInteger[rows];
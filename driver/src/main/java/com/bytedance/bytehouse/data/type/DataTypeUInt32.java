@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnLong;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
 import com.bytedance.bytehouse.serde.BinaryDeserializer;
@@ -71,15 +73,65 @@ public class DataTypeUInt32 implements BaseDataTypeInt32<Long, Long> {
         return lexer.numberLiteral().longValue();
     }
 
+    @Override
+    public void serializeBinaryBulk(Long[] data, BinarySerializer serializer) throws SQLException, IOException {
+        int[] values = new int[data.length];
+        for (int row = 0; row < data.length; row++) {
+            values[row] = data[row].intValue();
+        }
+        serializer.writeInts(values, 0, values.length);
+    }
+
     @Override
     public Long[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        long[] values = new long[rows];
+        deserializer.readUnsignedInts(values, 0, rows);
         Long[] data = new Long[rows];
         for (int row = 0; row < rows; row++) {
-            data[row] = this.deserializeBinary(deserializer);
+            data[row] = values[row];
         }
         return data;
     }
 
+    /**
+     * Accepts {@code int[]} holding the bits of the unsigned values, and {@code long[]} of the
+     * values themselves, which must be within [0, 4294967295].
+     */
+    @Override
+    public boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws SQLException, IOException {
+        if (array instanceof int[]) {
+            serializer.writeInts((int[]) array, 0, rows);
+        } else if (array instanceof long[]) {
+            long[] values = (long[]) array;
+            int[] narrowed = new int[rows];
+            for (int row = 0; row < rows; row++) {
+                if (values[row] < 0 || values[row] > 4294967295L) {
+                    throw new ByteHouseSQLException(-1, values[row] + " at row " + row + " is out of range for UInt32");
+                }
+                narrowed[row] = (int) values[row];
+            }
+            serializer.writeInts(narrowed, 0, rows);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws IOException {
+        long[] data = new long[rows];
+        deserializer.readUnsignedInts(data, 0, rows);
+        return new ColumnLong(name, this, data);
+    }
+
     @Override
     public Long[] allocate(int rows) {
         return new Long[rows];
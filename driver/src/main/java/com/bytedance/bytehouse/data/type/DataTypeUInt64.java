@@ -15,6 +15,9 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.ColumnUInt64;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.BytesHelper;
 import com.bytedance.bytehouse.misc.SQLLexer;
@@ -55,8 +58,7 @@ public class DataTypeUInt64 implements BaseDataTypeInt64<BigInteger, BigInteger>
 
     @Override
     public BigInteger deserializeBinary(BinaryDeserializer deserializer) throws SQLException, IOException {
-        long l = deserializer.readLong();
-        return new BigInteger(1, getBytes(l));
+        return ColumnUInt64.toBigInteger(deserializer.readLong());
     }
 
     @Override
@@ -86,6 +88,20 @@ public class DataTypeUInt64 implements BaseDataTypeInt64<BigInteger, BigInteger>
         return lexer.bigIntegerLiteral();
     }
 
+    @Override
+    public boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws IOException {
+        if (array instanceof long[]) {
+            serializer.writeLongs((long[]) array, 0, rows);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
     @Override
     public BigInteger[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
         BigInteger[] data = new BigInteger[rows];
@@ -95,6 +111,20 @@ public class DataTypeUInt64 implements BaseDataTypeInt64<BigInteger, BigInteger>
         return data;
     }
 
+    /**
+     * Keeps the unsigned bits, see {@link ColumnUInt64}.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0) {
+            return ColumnFactoryUtils.createColumn(name, this, new BigInteger[0]);
+        }
+        long[] data = new long[rows];
+        deserializer.readLongs(data, 0, rows);
+        return new ColumnUInt64(name, this, data);
+    }
+
     @Override
     public BigInteger[] allocate(int rows) {
         return new BigInteger[rows];
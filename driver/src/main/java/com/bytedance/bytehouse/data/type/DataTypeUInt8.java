@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnShort;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
 import com.bytedance.bytehouse.serde.BinaryDeserializer;
@@ -72,15 +74,65 @@ public class DataTypeUInt8 implements BaseDataTypeInt8<Short, Short> {
         return lexer.numberLiteral().shortValue();
     }
 
+    @Override
+    public void serializeBinaryBulk(Short[] data, BinarySerializer serializer) throws SQLException, IOException {
+        byte[] values = new byte[data.length];
+        for (int row = 0; row < data.length; row++) {
+            values[row] = data[row].byteValue();
+        }
+        serializer.writeBytes(values, 0, values.length);
+    }
+
     @Override
     public Short[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        short[] values = new short[rows];
+        deserializer.readUnsignedBytes(values, 0, rows);
         Short[] data = new Short[rows];
         for (int row = 0; row < rows; row++) {
-            data[row] = this.deserializeBinary(deserializer);
+            data[row] = values[row];
         }
         return data;
     }
 
+    /**
+     * Accepts {@code byte[]} holding the bits of the unsigned values, and {@code short[]} of the
+     * values themselves, which must be within [0, 255].
+     */
+    @Override
+    public boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws SQLException, IOException {
+        if (array instanceof byte[]) {
+            serializer.writeBytes((byte[]) array, 0, rows);
+        } else if (array instanceof short[]) {
+            short[] values = (short[]) array;
+            byte[] narrowed = new byte[rows];
+            for (int row = 0; row < rows; row++) {
+                if (values[row] < 0 || values[row] > 255) {
+                    throw new ByteHouseSQLException(-1, values[row] + " at row " + row + " is out of range for UInt8");
+                }
+                narrowed[row] = (byte) values[row];
+            }
+            serializer.writeBytes(narrowed, 0, rows);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws IOException {
+        short[] data = new short[rows];
+        deserializer.readUnsignedBytes(data, 0, rows);
+        return new ColumnShort(name, this, data);
+    }
+
     @Override
     public Short[] allocate(int rows) {
         return new Short[rows];
@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type;
 
+import com.bytedance.bytehouse.data.ColumnUUID;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
@@ -99,6 +101,40 @@ public class DataTypeUUID implements IDataType<UUID, String> {
         return data;
     }
 
+    /**
+     * Writes UUIDs given as {@code long[]} of two longs per row, the most significant bits first.
+     */
+    @Override
+    public boolean serializeBinaryColumn(Object array, int rows, BinarySerializer serializer)
+            throws SQLException, IOException {
+        if (array instanceof long[]) {
+            long[] bits = (long[]) array;
+            if (bits.length < 2L * rows) {
+                throw new ByteHouseSQLException(-1, "UUID column takes 2 longs per row, got "
+                        + bits.length + " longs for " + rows + " rows");
+            }
+            serializer.writeLongs(bits, 0, 2 * rows);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int elementsPerRow(Object array) {
+        return array instanceof long[] ? 2 : 1;
+    }
+
+    /**
+     * Keeps the bits of the UUIDs, see {@link ColumnUUID}.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        long[] data = new long[2 * rows];
+        deserializer.readLongs(data, 0, data.length);
+        return new ColumnUUID(name, this, data);
+    }
+
     @Override
     public UUID[] allocate(int rows) {
         return new UUID[rows];
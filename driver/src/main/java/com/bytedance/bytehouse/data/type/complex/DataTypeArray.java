@@ -15,7 +15,10 @@
  */
 package com.bytedance.bytehouse.data.type.complex;
 
+import com.bytedance.bytehouse.data.ColumnArray;
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
 import com.bytedance.bytehouse.data.DataTypeFactory;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.data.type.DataTypeInt64;
 import com.bytedance.bytehouse.jdbc.ByteHouseArray;
@@ -28,7 +31,6 @@ import java.sql.Array;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 // TODO avoid using ByteHouseArray because it's a subclass of java.sql.Array
@@ -137,18 +139,35 @@ public class DataTypeArray implements IDataType<ByteHouseArray, Array> {
             return arrays;
         }
 
-        int[] offsets = Arrays.stream(offsetIDataType.deserializeBinaryBulk(rows, deserializer)).mapToInt(value -> ((Long) value).intValue()).toArray();
-        ByteHouseArray res = new ByteHouseArray(elemDataType,
-                elemDataType.deserializeBinaryBulk(offsets[rows - 1], deserializer));
-
-        for (int row = 0, lastOffset = 0; row < rows; row++) {
-            int offset = offsets[row];
-            arrays[row] = res.slice(elemDataType.allocate(offset - lastOffset), lastOffset, offset - lastOffset);
-            lastOffset = offset;
+        ColumnArray column = deserializeArrayColumn(null, rows, deserializer);
+        for (int row = 0; row < rows; row++) {
+            arrays[row] = (ByteHouseArray) column.value(row);
         }
         return arrays;
     }
 
+    /**
+     * Keeps the elements of all the rows in one column of the element type, which is primitive
+     * for numeric elements, and returns rows as views over it.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0) {
+            // the sample block of an insert, written through ColumnArray
+            return ColumnFactoryUtils.createColumn(name, this, new Object[0]);
+        }
+        return deserializeArrayColumn(name, rows, deserializer);
+    }
+
+    private ColumnArray deserializeArrayColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        long[] offsets = new long[rows];
+        deserializer.readLongs(offsets, 0, rows);
+        IColumn elements = elemDataType.deserializeBinaryColumn(null, (int) offsets[rows - 1], deserializer);
+        return new ColumnArray(name, this, offsets, elements);
+    }
+
     public IDataType getElemDataType() {
         return elemDataType;
     }
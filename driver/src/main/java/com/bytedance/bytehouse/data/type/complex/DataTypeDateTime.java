@@ -16,19 +16,25 @@
 package com.bytedance.bytehouse.data.type.complex;
 
 import com.bytedance.bytehouse.client.ServerContext;
+import com.bytedance.bytehouse.data.ColumnDateTime;
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.DateTimeUtil;
 import com.bytedance.bytehouse.misc.SQLLexer;
 import com.bytedance.bytehouse.misc.ValidateUtils;
+import com.bytedance.bytehouse.misc.ZoneOffsetTable;
 import com.bytedance.bytehouse.serde.BinaryDeserializer;
 import com.bytedance.bytehouse.serde.BinarySerializer;
 import java.io.IOException;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
 public class DataTypeDateTime implements IDataType<ZonedDateTime, Timestamp> {
@@ -51,9 +57,12 @@ public class DataTypeDateTime implements IDataType<ZonedDateTime, Timestamp> {
 
     private final ZonedDateTime defaultValue;
 
+    private final ZoneOffsetTable offsets;
+
     public DataTypeDateTime(String name, ServerContext serverContext) {
         this.name = name;
         this.tz = DateTimeUtil.chooseTimeZone(serverContext);
+        this.offsets = ZoneOffsetTable.of(tz);
         this.defaultValue = EPOCH_LOCAL_DT.atZone(tz);
     }
 
@@ -116,6 +125,30 @@ public class DataTypeDateTime implements IDataType<ZonedDateTime, Timestamp> {
         serializer.writeInt((int) DateTimeUtil.toEpochSecond(data));
     }
 
+    /**
+     * Also writes the epoch seconds returned by {@link #convertJdbcToEpochSecond}.
+     */
+    @Override
+    public void serializeBinaryValue(Object data, BinarySerializer serializer) throws SQLException, IOException {
+        if (data instanceof Long) {
+            serializer.writeInt((int) (long) (Long) data);
+        } else {
+            serializeBinary((ZonedDateTime) data, serializer);
+        }
+    }
+
+    /**
+     * Writes epoch seconds given as {@code int[]}.
+     */
+    @Override
+    public boolean serializeBinaryColumn(Object array, int rows, BinarySerializer serializer) throws IOException {
+        if (array instanceof int[]) {
+            serializer.writeInts((int[]) array, 0, rows);
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public ZonedDateTime deserializeBinary(BinaryDeserializer deserializer) throws SQLException, IOException {
         int epochSeconds = deserializer.readInt();
@@ -134,20 +167,49 @@ public class DataTypeDateTime implements IDataType<ZonedDateTime, Timestamp> {
             return (ZonedDateTime) obj;
         }
         if (obj instanceof String) {
-            String given = (String) obj;
-            String removedChar = "";
-            for (int i=0; i<given.length(); i++) {
-                if (given.charAt(i) == 'T') {
-                    removedChar += " ";
-                }
-                else removedChar += given.charAt(i);
-            }
-            Timestamp timestamp = Timestamp.valueOf(removedChar);
+            Timestamp timestamp = Timestamp.valueOf(((String) obj).replace('T', ' '));
             return DateTimeUtil.toZonedDateTime(timestamp, tz);
         }
         throw new ByteHouseSQLException(-1, obj.getClass() + " cannot convert to " + ZonedDateTime.class);
     }
 
+    /**
+     * Converts obj like {@link #convertJdbcToJavaType}, but to the epoch second written for it
+     * as a {@link Long}. Timestamps, java.time values, character sequences and epoch seconds
+     * given as a Long or an Integer are converted without creating a {@link ZonedDateTime};
+     * other values are returned as converted by {@link #convertJdbcToJavaType}.
+     */
+    public Object convertJdbcToEpochSecond(Object obj, ZoneId tz) throws ByteHouseSQLException {
+        if (obj instanceof Timestamp) {
+            return Math.floorDiv(((Timestamp) obj).getTime(), 1000L);
+        }
+        if (obj instanceof LocalDateTime) {
+            long localSecond = ((LocalDateTime) obj).toEpochSecond(ZoneOffset.UTC);
+            return offsets(tz).toEpochSecond(localSecond);
+        }
+        if (obj instanceof ZonedDateTime) {
+            return ((ZonedDateTime) obj).toEpochSecond();
+        }
+        if (obj instanceof Instant) {
+            return ((Instant) obj).getEpochSecond();
+        }
+        if (obj instanceof Long || obj instanceof Integer) {
+            return ((Number) obj).longValue();
+        }
+        if (obj instanceof CharSequence) {
+            long localSecond = DateTimeUtil.parseLocalTicks((CharSequence) obj, 0);
+            if (localSecond != DateTimeUtil.NOT_PARSED) {
+                // the local time of the JVM default zone, resolved as Timestamp.valueOf
+                return ZoneOffsetTable.of(ZoneId.systemDefault()).toEpochSecondLikeCalendar(localSecond);
+            }
+        }
+        return convertJdbcToJavaType(obj, tz);
+    }
+
+    private ZoneOffsetTable offsets(ZoneId zone) {
+        return zone.equals(tz) ? offsets : ZoneOffsetTable.of(zone);
+    }
+
     @Override
     public String[] getAliases() {
         return new String[]{"TIMESTAMP"};
@@ -162,6 +224,20 @@ public class DataTypeDateTime implements IDataType<ZonedDateTime, Timestamp> {
         return data;
     }
 
+    /**
+     * Keeps the epoch seconds, see {@link ColumnDateTime}.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0) {
+            return ColumnFactoryUtils.createColumn(name, this, new ZonedDateTime[0]);
+        }
+        int[] seconds = new int[rows];
+        deserializer.readInts(seconds, 0, rows);
+        return new ColumnDateTime(name, this, seconds, tz, offsets);
+    }
+
     @Override
     public ZonedDateTime[] allocate(int rows) {
         return new ZonedDateTime[rows];
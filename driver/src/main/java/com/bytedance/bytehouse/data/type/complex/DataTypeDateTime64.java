@@ -16,11 +16,15 @@
 package com.bytedance.bytehouse.data.type.complex;
 
 import com.bytedance.bytehouse.client.ServerContext;
+import com.bytedance.bytehouse.data.ColumnDateTime;
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.DateTimeUtil;
 import com.bytedance.bytehouse.misc.SQLLexer;
 import com.bytedance.bytehouse.misc.ValidateUtils;
+import com.bytedance.bytehouse.misc.ZoneOffsetTable;
 import com.bytedance.bytehouse.serde.BinaryDeserializer;
 import com.bytedance.bytehouse.serde.BinarySerializer;
 import java.io.IOException;
@@ -28,8 +32,10 @@ import java.math.BigDecimal;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
 public class DataTypeDateTime64 implements IDataType<ZonedDateTime, Timestamp> {
@@ -75,10 +81,13 @@ public class DataTypeDateTime64 implements IDataType<ZonedDateTime, Timestamp> {
 
     private final ZonedDateTime defaultValue;
 
+    private final ZoneOffsetTable offsets;
+
     public DataTypeDateTime64(String name, int scala, ServerContext serverContext) {
         this.name = name;
         this.scale = scala;
         this.tz = DateTimeUtil.chooseTimeZone(serverContext);
+        this.offsets = ZoneOffsetTable.of(tz);
         this.defaultValue = EPOCH_LOCAL_DT.atZone(tz);
     }
 
@@ -141,10 +150,31 @@ public class DataTypeDateTime64 implements IDataType<ZonedDateTime, Timestamp> {
 
     @Override
     public void serializeBinary(ZonedDateTime data, BinarySerializer serializer) throws IOException {
-        long epochSeconds = DateTimeUtil.toEpochSecond(data);
-        int nanos = data.getNano();
-        long value = (epochSeconds * NANOS_IN_SECOND + nanos) / POW_10[MAX_SCALA - scale];
-        serializer.writeLong(value);
+        serializer.writeLong(ticks(DateTimeUtil.toEpochSecond(data), data.getNano()));
+    }
+
+    /**
+     * Also writes the ticks returned by {@link #convertJdbcToTicks}.
+     */
+    @Override
+    public void serializeBinaryValue(Object data, BinarySerializer serializer) throws IOException {
+        if (data instanceof Long) {
+            serializer.writeLong((Long) data);
+        } else {
+            serializeBinary((ZonedDateTime) data, serializer);
+        }
+    }
+
+    /**
+     * Writes ticks of 10^-scale seconds since the epoch given as {@code long[]}.
+     */
+    @Override
+    public boolean serializeBinaryColumn(Object array, int rows, BinarySerializer serializer) throws IOException {
+        if (array instanceof long[]) {
+            serializer.writeLongs((long[]) array, 0, rows);
+            return true;
+        }
+        return false;
     }
 
     @Override
@@ -174,6 +204,53 @@ public class DataTypeDateTime64 implements IDataType<ZonedDateTime, Timestamp> {
         throw new ByteHouseSQLException(-1, obj.getClass() + " cannot convert to " + ZonedDateTime.class);
     }
 
+    /**
+     * Converts obj like {@link #convertJdbcToJavaType}, but to the ticks of 10^-scale seconds
+     * written for it as a {@link Long}. Timestamps, java.time values, character sequences and
+     * ticks given as a Long are converted without creating a {@link ZonedDateTime}; other values
+     * are returned as converted by {@link #convertJdbcToJavaType}.
+     */
+    public Object convertJdbcToTicks(Object obj, ZoneId tz) throws ByteHouseSQLException {
+        if (obj instanceof Timestamp) {
+            Timestamp timestamp = (Timestamp) obj;
+            return ticks(Math.floorDiv(timestamp.getTime(), MILLIS_IN_SECOND), timestamp.getNanos());
+        }
+        if (obj instanceof LocalDateTime) {
+            LocalDateTime ldt = (LocalDateTime) obj;
+            long epochSecond = offsets(tz).toEpochSecond(ldt.toEpochSecond(ZoneOffset.UTC));
+            return ticks(epochSecond, ldt.getNano());
+        }
+        if (obj instanceof ZonedDateTime) {
+            ZonedDateTime zdt = (ZonedDateTime) obj;
+            return ticks(zdt.toEpochSecond(), zdt.getNano());
+        }
+        if (obj instanceof Instant) {
+            Instant instant = (Instant) obj;
+            return ticks(instant.getEpochSecond(), instant.getNano());
+        }
+        if (obj instanceof Long) {
+            return obj;
+        }
+        if (obj instanceof CharSequence) {
+            long localTicks = DateTimeUtil.parseLocalTicks((CharSequence) obj, scale);
+            if (localTicks != DateTimeUtil.NOT_PARSED) {
+                // the local time of the JVM default zone, resolved as Timestamp.valueOf
+                long localSecond = Math.floorDiv(localTicks, POW_10[scale]);
+                long epochSecond = ZoneOffsetTable.of(ZoneId.systemDefault()).toEpochSecondLikeCalendar(localSecond);
+                return localTicks + (epochSecond - localSecond) * POW_10[scale];
+            }
+        }
+        return convertJdbcToJavaType(obj, tz);
+    }
+
+    private long ticks(long epochSeconds, int nanos) {
+        return (epochSeconds * NANOS_IN_SECOND + nanos) / POW_10[MAX_SCALA - scale];
+    }
+
+    private ZoneOffsetTable offsets(ZoneId zone) {
+        return zone.equals(tz) ? offsets : ZoneOffsetTable.of(zone);
+    }
+
     @Override
     public ZonedDateTime[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
         ZonedDateTime[] data = new ZonedDateTime[rows];
@@ -183,6 +260,20 @@ public class DataTypeDateTime64 implements IDataType<ZonedDateTime, Timestamp> {
         return data;
     }
 
+    /**
+     * Keeps the ticks, see {@link ColumnDateTime}.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0) {
+            return ColumnFactoryUtils.createColumn(name, this, new ZonedDateTime[0]);
+        }
+        long[] ticks = new long[rows];
+        deserializer.readLongs(ticks, 0, rows);
+        return new ColumnDateTime(name, this, ticks, scale, tz, offsets);
+    }
+
     @Override
     public ZonedDateTime[] allocate(int rows) {
         return new ZonedDateTime[rows];
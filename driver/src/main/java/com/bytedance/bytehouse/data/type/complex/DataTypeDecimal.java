@@ -15,6 +15,9 @@
  */
 package com.bytedance.bytehouse.data.type.complex;
 
+import com.bytedance.bytehouse.data.ColumnDecimal;
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.BytesHelper;
@@ -49,15 +52,12 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
 
     private final int scale;
 
-    private final BigDecimal scaleFactor;
-
     private final int nobits;
 
     public DataTypeDecimal(String name, int precision, int scale) {
         this.name = name;
         this.precision = precision;
         this.scale = scale;
-        this.scaleFactor = BigDecimal.valueOf(Math.pow(10, scale));
         if (this.precision <= 9) {
             this.nobits = 32;
         } else if (this.precision <= 18) {
@@ -118,7 +118,8 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
 
     @Override
     public void serializeBinary(BigDecimal data, BinarySerializer serializer) throws IOException {
-        BigDecimal targetValue = data.multiply(scaleFactor);
+        // same as multiplying by 10^scale, without the arithmetic when data already has the scale
+        BigDecimal targetValue = data.scaleByPowerOfTen(scale);
         switch (this.nobits) {
             case 32: {
                 serializer.writeInt(targetValue.intValue());
@@ -154,15 +155,11 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
         BigDecimal value;
         switch (this.nobits) {
             case 32: {
-                int v = deserializer.readInt();
-                value = BigDecimal.valueOf(v);
-                value = value.divide(scaleFactor, scale, RoundingMode.HALF_UP);
+                value = BigDecimal.valueOf(deserializer.readInt(), scale);
                 break;
             }
             case 64: {
-                long v = deserializer.readLong();
-                value = BigDecimal.valueOf(v);
-                value = value.divide(scaleFactor, scale, RoundingMode.HALF_UP);
+                value = BigDecimal.valueOf(deserializer.readLong(), scale);
                 break;
             }
 
@@ -171,8 +168,7 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
                 array[1] = deserializer.readLong();
                 array[0] = deserializer.readLong();
 
-                value = new BigDecimal(new BigInteger(getBytes(array)));
-                value = value.divide(scaleFactor, scale, RoundingMode.HALF_UP);
+                value = new BigDecimal(new BigInteger(getBytes(array)), scale);
                 break;
             }
 
@@ -183,8 +179,7 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
                 array[1] = deserializer.readLong();
                 array[0] = deserializer.readLong();
 
-                value = new BigDecimal(new BigInteger(getBytes(array)));
-                value = value.divide(scaleFactor, scale, RoundingMode.HALF_UP);
+                value = new BigDecimal(new BigInteger(getBytes(array)), scale);
                 break;
             }
 
@@ -204,6 +199,9 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
         if (obj instanceof BigInteger) {
             return new BigDecimal((BigInteger) obj);
         }
+        if (obj instanceof Long || obj instanceof Integer || obj instanceof Short || obj instanceof Byte) {
+            return BigDecimal.valueOf(((Number) obj).longValue());
+        }
         if (obj instanceof Number) {
             return BigDecimal.valueOf(((Number) obj).doubleValue());
         }
@@ -227,6 +225,69 @@ public class DataTypeDecimal implements IDataType<BigDecimal, BigDecimal>, Bytes
         return data;
     }
 
+    /**
+     * Keeps the unscaled values of Decimal32 and Decimal64, see {@link ColumnDecimal}.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0 || nobits > 64) {
+            return ColumnFactoryUtils.createColumn(name, this, deserializeBinaryBulk(rows, deserializer));
+        }
+        if (nobits == 32) {
+            int[] unscaled = new int[rows];
+            deserializer.readInts(unscaled, 0, rows);
+            return new ColumnDecimal(name, this, unscaled, scale);
+        }
+        long[] unscaled = new long[rows];
+        deserializer.readLongs(unscaled, 0, rows);
+        return new ColumnDecimal(name, this, unscaled, scale);
+    }
+
+    /**
+     * Accepts, for Decimal32 and Decimal64, {@code long[]} of unscaled values, i.e. values
+     * multiplied by 10^scale, and {@code double[]} of values, rounded half away from zero to
+     * the scale.
+     */
+    @Override
+    public boolean serializeBinaryColumn(Object array, int rows, BinarySerializer serializer)
+            throws SQLException, IOException {
+        if (nobits > 64 || !(array instanceof long[] || array instanceof double[])) {
+            return false;
+        }
+        long[] unscaled;
+        if (array instanceof long[]) {
+            unscaled = (long[]) array;
+        } else {
+            double[] values = (double[]) array;
+            double factor = Math.pow(10, scale);
+            unscaled = new long[rows];
+            for (int row = 0; row < rows; row++) {
+                double scaled = values[row] * factor;
+                // also catches NaN and infinities, which Math.round would turn into 0 or Long.MAX_VALUE
+                if (!(Math.abs(scaled) < 0x1p63)) {
+                    throw new ByteHouseSQLException(-1, values[row] + " at row " + row
+                            + " is out of range for " + name);
+                }
+                unscaled[row] = scaled < 0 ? -Math.round(-scaled) : Math.round(scaled);
+            }
+        }
+        if (nobits == 64) {
+            serializer.writeLongs(unscaled, 0, rows);
+        } else {
+            int[] narrowed = new int[rows];
+            for (int row = 0; row < rows; row++) {
+                narrowed[row] = (int) unscaled[row];
+                if (narrowed[row] != unscaled[row]) {
+                    throw new ByteHouseSQLException(-1, "unscaled value " + unscaled[row] + " at row " + row
+                            + " is out of range for " + name);
+                }
+            }
+            serializer.writeInts(narrowed, 0, rows);
+        }
+        return true;
+    }
+
     @Override
     public BigDecimal[] allocate(int rows) {
         return new BigDecimal[rows];
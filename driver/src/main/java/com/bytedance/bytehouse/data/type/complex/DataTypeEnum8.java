@@ -15,6 +15,8 @@
  */
 package com.bytedance.bytehouse.data.type.complex;
 
+import com.bytedance.bytehouse.data.ColumnDictionary;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
@@ -26,6 +28,7 @@ import java.sql.SQLException;
 import java.sql.Types;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.StringJoiner;
 
@@ -66,10 +69,28 @@ public class DataTypeEnum8 implements IDataType<String, String> {
 
     private final String[] names;
 
+    private final int minValue;
+
+    // index in names of each value from minValue, -1 if the value is not defined
+    private final int[] indexByValue;
+
     public DataTypeEnum8(String name, String[] names, Byte[] values) {
         this.name = name;
         this.names = names;
         this.values = values;
+
+        int min = 0;
+        int max = -1;
+        for (int i = 0; i < values.length; i++) {
+            min = i == 0 ? values[i] : Math.min(min, values[i]);
+            max = i == 0 ? values[i] : Math.max(max, values[i]);
+        }
+        this.minValue = min;
+        this.indexByValue = new int[max - min + 1];
+        Arrays.fill(indexByValue, -1);
+        for (int i = 0; i < values.length; i++) {
+            indexByValue[values[i] - min] = i;
+        }
     }
 
     @Override
@@ -125,24 +146,49 @@ public class DataTypeEnum8 implements IDataType<String, String> {
 
     @Override
     public String deserializeBinary(BinaryDeserializer deserializer) throws SQLException, IOException {
-        byte value = deserializer.readByte();
-        for (int i = 0; i < values.length; i++) {
-            if (values[i].equals(value)) {
-                return names[i];
-            }
-        }
-        throw new SQLException("");
+        return names[indexOf(deserializer.readByte())];
     }
 
     @Override
     public String[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        final byte[] codes = readCodes(rows, deserializer);
         String[] data = new String[rows];
         for (int row = 0; row < rows; row++) {
-            data[row] = this.deserializeBinary(deserializer);
+            data[row] = names[codes[row] & 0xFF];
         }
         return data;
     }
 
+    /**
+     * Keeps the names once and the index of the name of each row.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws SQLException, IOException {
+        return new ColumnDictionary(name, this, names, readCodes(rows, deserializer));
+    }
+
+    // reads the values of the rows and replaces them with the index of their name
+    private byte[] readCodes(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
+        final byte[] codes = new byte[rows];
+        deserializer.readBytes(codes, 0, rows);
+        for (int row = 0; row < rows; row++) {
+            codes[row] = (byte) indexOf(codes[row]);
+        }
+        return codes;
+    }
+
+    private int indexOf(byte value) throws SQLException {
+        final int offset = value - minValue;
+        if (offset < 0 || offset >= indexByValue.length || indexByValue[offset] < 0) {
+            throw new SQLException("Unknown value " + value + " for " + name);
+        }
+        return indexByValue[offset];
+    }
+
     @Override
     public String[] allocate(int rows) {
         return new String[rows];
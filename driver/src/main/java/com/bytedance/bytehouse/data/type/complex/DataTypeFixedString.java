@@ -16,6 +16,9 @@
 package com.bytedance.bytehouse.data.type.complex;
 
 import com.bytedance.bytehouse.client.ServerContext;
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.ColumnString;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.data.type.SerializableCharset;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
@@ -26,6 +29,7 @@ import com.bytedance.bytehouse.serde.BinaryDeserializer;
 import com.bytedance.bytehouse.serde.BinarySerializer;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.time.ZoneId;
@@ -47,17 +51,17 @@ public class DataTypeFixedString implements IDataType<CharSequence, String> {
 
     private final SerializableCharset serializableCharset;
 
+    // padding of the values shorter than n bytes
+    private final byte[] zeros;
+
     public DataTypeFixedString(String name, int n, ServerContext serverContext) {
         this.n = n;
         this.name = name;
         Charset charset = serverContext.getConfigure().charset();
         this.serializableCharset = new SerializableCharset(charset);
 
-        byte[] data = new byte[n];
-        for (int i = 0; i < n; i++) {
-            data[i] = '\u0000';
-        }
-        this.defaultValue = new String(data, charset);
+        this.zeros = new byte[n];
+        this.defaultValue = new String(zeros, charset);
     }
 
     @Override
@@ -99,23 +103,24 @@ public class DataTypeFixedString implements IDataType<CharSequence, String> {
     public void serializeBinary(CharSequence data, BinarySerializer serializer) throws SQLException, IOException {
         if (data instanceof BytesCharSeq) {
             writeBytes((((BytesCharSeq) data).bytes()), serializer);
+        } else if (StandardCharsets.UTF_8.equals(this.serializableCharset.get())) {
+            int length = BinarySerializer.utf8Length(data);
+            if (length > n) {
+                throw new SQLException("The size of FixString column is too large, got " + length);
+            }
+            serializer.writeUTF8(data);
+            serializer.writeBytes(zeros, 0, n - length);
         } else {
             writeBytes(data.toString().getBytes(this.serializableCharset.get()), serializer);
         }
     }
 
     private void writeBytes(byte[] bs, BinarySerializer serializer) throws IOException, SQLException {
-        byte[] res;
         if (bs.length > n) {
             throw new SQLException("The size of FixString column is too large, got " + bs.length);
         }
-        if (bs.length == n) {
-            res = bs;
-        } else {
-            res = new byte[n];
-            System.arraycopy(bs, 0, res, 0, bs.length);
-        }
-        serializer.writeBytes(res);
+        serializer.writeBytes(bs);
+        serializer.writeBytes(zeros, 0, n - bs.length);
     }
 
     @Override
@@ -154,6 +159,25 @@ public class DataTypeFixedString implements IDataType<CharSequence, String> {
         return data;
     }
 
+    /**
+     * Reads the bytes of all the rows into one array, see {@link ColumnString}.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0) {
+            // the sample block of an insert
+            return ColumnFactoryUtils.createColumn(name, this, new CharSequence[0]);
+        }
+        byte[] bytes = new byte[rows * n];
+        deserializer.readBytes(bytes, 0, bytes.length);
+        int[] offsets = new int[rows];
+        for (int row = 0; row < rows; row++) {
+            offsets[row] = (row + 1) * n;
+        }
+        return new ColumnString(name, this, bytes, offsets, this.serializableCharset.get());
+    }
+
     @Override
     public CharSequence[] allocate(int rows) {
         return new CharSequence[rows];
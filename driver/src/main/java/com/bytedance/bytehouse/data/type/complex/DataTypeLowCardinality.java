@@ -15,7 +15,10 @@
  */
 package com.bytedance.bytehouse.data.type.complex;
 
+import com.bytedance.bytehouse.data.ColumnDictionary;
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
 import com.bytedance.bytehouse.data.DataTypeFactory;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.BytesHelper;
@@ -40,13 +43,8 @@ public class DataTypeLowCardinality implements IDataType<Object, Object>, BytesH
         return new DataTypeLowCardinality(elemDataType);
     };
 
-    private byte[] header;
-
-    private byte[] valueIndicesRaw;
-
     public DataTypeLowCardinality(IDataType<?, ?> elemDataType) {
         this.keys = elemDataType;
-        this.header = new byte[24];
     }
 
     @Override
@@ -100,66 +98,79 @@ public class DataTypeLowCardinality implements IDataType<Object, Object>, BytesH
 
     @Override
     public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException {
-        try {
-            if (rows == 0) {
-                return new Object[0];
-            }
+        if (rows == 0) {
+            return new Object[0];
+        }
+        final ColumnDictionary column = deserializeDictionaryColumn(null, rows, deserializer);
+        final Object[] res = new Object[rows];
+        for (int i = 0; i < rows; i++) {
+            res[i] = column.value(i);
+        }
+        return res;
+    }
 
-            header = deserializer.readBytes(24);
+    /**
+     * Keeps the dictionary sent by the server and the index of each row in it, instead of
+     * expanding them into one value per row.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws SQLException {
+        if (rows == 0) {
+            // the sample block of an insert, written through ColumnLowCardinality
+            return ColumnFactoryUtils.createColumn(name, this, new Object[0]);
+        }
+        return deserializeDictionaryColumn(name, rows, deserializer);
+    }
+
+    private ColumnDictionary deserializeDictionaryColumn(
+            String name,
+            int rows,
+            BinaryDeserializer deserializer
+    ) throws SQLException {
+        try {
+            final byte[] header = deserializer.readBytes(24);
 
             final int numOfUniqueValues = (int) getLongLE(header, 16);
             final Object[] uniqueValues = keys.deserializeBinaryBulk(numOfUniqueValues, deserializer);
             final long numOfRows = deserializer.readLong();
+            ValidateUtils.isTrue(numOfRows == rows,
+                    "LowCardinality column has " + numOfRows + " indexes for " + rows + " rows");
 
-            int indexByteSize = 1;
             switch (header[8]) {
+                case 0:
+                    final byte[] byteCodes = new byte[rows];
+                    deserializer.readBytes(byteCodes, 0, rows);
+                    return new ColumnDictionary(name, this, uniqueValues, byteCodes);
                 case 1:
-                    indexByteSize = 2;
-                    break;
+                    final short[] shortCodes = new short[rows];
+                    deserializer.readShorts(shortCodes, 0, rows);
+                    return new ColumnDictionary(name, this, uniqueValues, shortCodes);
                 case 2:
-                    indexByteSize = 4;
-                    break;
-                case 3:
-                    indexByteSize = 8;
-                    break;
+                    final int[] intCodes = new int[rows];
+                    deserializer.readInts(intCodes, 0, rows);
+                    return new ColumnDictionary(name, this, uniqueValues, intCodes);
+                default:
+                    /*
+                     * The driver will crash if the number of unique values exceeds
+                     * 2147483647, because int is signed.
+                     */
+                    final long[] longCodes = new long[rows];
+                    deserializer.readLongs(longCodes, 0, rows);
+                    final int[] codes = new int[rows];
+                    for (int i = 0; i < rows; i++) {
+                        codes[i] = (int) longCodes[i];
+                    }
+                    return new ColumnDictionary(name, this, uniqueValues, codes);
             }
-
-            int numOfBytesToRead = (int) numOfRows * indexByteSize;
-            valueIndicesRaw = deserializer.readBytes(numOfBytesToRead);
-            final Object[] res = new Object[rows];
-
-            for (int i = 0; i < rows; i++) {
-                res[i] = uniqueValues[getIndex(indexByteSize, i)];
-            }
-            return res;
         } catch (Exception e) {
             throw new SQLException(e);
         }
     }
 
-    private int getIndex(int indexByteSize, int row) {
-        switch (indexByteSize) {
-            case 1:
-                return getByteAsInt(valueIndicesRaw, row);
-            case 2:
-                return getShortAsIntLE(valueIndicesRaw, 2 * row);
-            case 4:
-                /*
-                 * The driver will crash if the number of unique values exceeds
-                 * 2147483647, because int is signed.
-                 */
-                return getIntLE(valueIndicesRaw, 4 * row);
-            case 8:
-                /*
-                 * The driver will crash if the number of unique values exceeds
-                 * 2147483647, because int is signed.
-                 */
-                return (int) getLongLE(valueIndicesRaw, 8 * row);
-            default:
-                throw new IllegalStateException("supposed unreachable execution path");
-        }
-    }
-
     public IDataType getElemDataType() {
         return keys;
     }
@@ -15,27 +15,25 @@
  */
 package com.bytedance.bytehouse.data.type.complex;
 
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.ColumnMap;
 import com.bytedance.bytehouse.data.DataTypeFactory;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
-import com.bytedance.bytehouse.data.type.DataTypeUInt64;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.misc.SQLLexer;
 import com.bytedance.bytehouse.misc.ValidateUtils;
 import com.bytedance.bytehouse.serde.BinaryDeserializer;
 import com.bytedance.bytehouse.serde.BinarySerializer;
 import java.io.IOException;
-import java.math.BigInteger;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.time.ZoneId;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
 public class DataTypeMap implements IDataType<Map, Object> {
 
-    private static final DataTypeUInt64 DATA_TYPE_UINT_64 = new DataTypeUInt64();
-
     private final IDataType<?, ?> keyDataType;
 
     public static DataTypeCreator<Map, Object> creator = (lexer, serverContext) -> {
@@ -152,19 +150,18 @@ public class DataTypeMap implements IDataType<Map, Object> {
 
         // keys[offsets[i - 1] : offsets[i]] gives the keys for row i (zero-indexed)
         // values[offsets[i - 1] : offsets[i]] gives the values for row i (zero-indexed)
-        int[] offsets = Arrays.stream(
-                DATA_TYPE_UINT_64.deserializeBinaryBulk(rows, deserializer)
-        ).mapToInt(value -> ((BigInteger) value).intValue()).toArray();
+        long[] offsets = new long[rows];
+        deserializer.readLongs(offsets, 0, rows);
 
         // deserialize all keys and values for column
-        int size = offsets[rows - 1];
+        int size = (int) offsets[rows - 1];
         Object[] keys = keyDataType.deserializeBinaryBulk(size, deserializer);
         Object[] values = valueDataType.deserializeBinaryBulk(size, deserializer);
 
         // populate Map of each row i
         for (int i = 0; i < rows; i++) {
-            int offset = offsets[i];
-            int offsetPrev = i > 0 ? offsets[i - 1] : 0;
+            int offset = (int) offsets[i];
+            int offsetPrev = i > 0 ? (int) offsets[i - 1] : 0;
             Map<Object, Object> rowMap = new HashMap<>(offset - offsetPrev);
 
             for (int j = offsetPrev; j < offset; j++) {
@@ -177,6 +174,26 @@ public class DataTypeMap implements IDataType<Map, Object> {
         return maps;
     }
 
+    /**
+     * Keeps the keys and the values of all the rows in one column each, laid out as for
+     * {@link #deserializeBinaryBulk}, and returns rows as read-only views over them. Looking up
+     * a key of a row scans the keys of that row only, without building a {@link HashMap}.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0) {
+            // the sample block of an insert, written through ColumnMap
+            return ColumnFactoryUtils.createColumn(name, this, new Map<?, ?>[0]);
+        }
+        long[] offsets = new long[rows];
+        deserializer.readLongs(offsets, 0, rows);
+        int size = (int) offsets[rows - 1];
+        IColumn keys = keyDataType.deserializeBinaryColumn(null, size, deserializer);
+        IColumn values = valueDataType.deserializeBinaryColumn(null, size, deserializer);
+        return new ColumnMap(name, this, offsets, keys, values);
+    }
+
     @Override
     public Map convertJdbcToJavaType(Object obj, ZoneId tz) throws ByteHouseSQLException {
         if (obj instanceof Map) {
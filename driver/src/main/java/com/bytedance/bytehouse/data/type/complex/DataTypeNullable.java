@@ -15,7 +15,10 @@
  */
 package com.bytedance.bytehouse.data.type.complex;
 
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.ColumnNullable;
 import com.bytedance.bytehouse.data.DataTypeFactory;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.misc.SQLLexer;
 import com.bytedance.bytehouse.misc.ValidateUtils;
@@ -26,7 +29,7 @@ import java.sql.SQLException;
 
 public class DataTypeNullable implements IDataType {
 
-    private static final Short IS_NULL = 1;
+    private static final byte IS_NULL = 1;
 
     public IDataType getNestedDataType() {
         return nestedDataType;
@@ -40,7 +43,7 @@ public class DataTypeNullable implements IDataType {
                 "Nullable(" + nestedType.name() + ")", nestedType, DataTypeFactory.get("UInt8", serverContext));
     };
 
-    private static final Short NON_NULL = 0;
+    private static final byte NON_NULL = 0;
 
     private final String name;
 
@@ -113,13 +116,15 @@ public class DataTypeNullable implements IDataType {
 
     @Override
     public void serializeBinaryBulk(Object[] data, BinarySerializer serializer) throws SQLException, IOException {
-        Short[] isNull = new Short[data.length];
+        byte[] nullMap = new byte[data.length];
+        // typed like the nested type's own arrays, which its serializeBinaryBulk may expect
+        Object[] nestedData = nestedDataType.allocate(data.length);
         for (int i = 0; i < data.length; i++) {
-            isNull[i] = (data[i] == null ? IS_NULL : NON_NULL);
-            data[i] = data[i] == null ? nestedDataType.defaultValue() : data[i];
+            nullMap[i] = data[i] == null ? IS_NULL : NON_NULL;
+            nestedData[i] = data[i] == null ? nestedDataType.defaultValue() : data[i];
         }
-        nullMapDataType.serializeBinaryBulk(isNull, serializer);
-        nestedDataType.serializeBinaryBulk(data, serializer);
+        serializer.writeBytes(nullMap, 0, nullMap.length);
+        nestedDataType.serializeBinaryBulk(nestedData, serializer);
     }
 
     @Override
@@ -133,17 +138,35 @@ public class DataTypeNullable implements IDataType {
 
     @Override
     public Object[] deserializeBinaryBulk(int rows, BinaryDeserializer deserializer) throws SQLException, IOException {
-        Object[] nullMap = nullMapDataType.deserializeBinaryBulk(rows, deserializer);
+        byte[] nullMap = new byte[rows];
+        deserializer.readBytes(nullMap, 0, rows);
 
         Object[] data = nestedDataType.deserializeBinaryBulk(rows, deserializer);
-        for (int i = 0; i < nullMap.length; i++) {
-            if (IS_NULL.equals(nullMap[i])) {
+        for (int i = 0; i < rows; i++) {
+            if (nullMap[i] == IS_NULL) {
                 data[i] = null;
             }
         }
         return data;
     }
 
+    /**
+     * Keeps the null map as sent by the server, in front of the column of the nested type,
+     * which may itself hold primitive values.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0) {
+            // the sample block of an insert, written through ColumnNullable
+            return ColumnFactoryUtils.createColumn(name, this, new Object[0]);
+        }
+        byte[] nullMap = new byte[rows];
+        deserializer.readBytes(nullMap, 0, rows);
+        IColumn data = nestedDataType.deserializeBinaryColumn(null, rows, deserializer);
+        return new ColumnNullable(name, this, nullMap, data);
+    }
+
     @Override
     public boolean isSigned() {
         return nestedDataType.isSigned();
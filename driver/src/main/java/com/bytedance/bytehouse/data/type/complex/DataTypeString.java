@@ -15,6 +15,9 @@
  */
 package com.bytedance.bytehouse.data.type.complex;
 
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.ColumnString;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.data.type.SerializableCharset;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
@@ -24,9 +27,11 @@ import com.bytedance.bytehouse.serde.BinaryDeserializer;
 import com.bytedance.bytehouse.serde.BinarySerializer;
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.sql.Types;
 import java.time.ZoneId;
+import java.util.Arrays;
 
 public class DataTypeString implements IDataType<CharSequence, String> {
 
@@ -77,14 +82,49 @@ public class DataTypeString implements IDataType<CharSequence, String> {
     public void serializeBinary(CharSequence data, BinarySerializer serializer) throws SQLException, IOException {
         if (data instanceof BytesCharSeq) {
             serializer.writeBytesBinary(((BytesCharSeq) data).bytes());
+        } else if (StandardCharsets.UTF_8.equals(this.serializableCharset.get())) {
+            // also encodes a StringView of the lexer without creating its String
+            serializer.writeUTF8Binary(data);
         } else {
             serializer.writeStringBinary(data.toString(), this.serializableCharset.get());
         }
     }
 
+    /**
+     * Accepts {@code CharSequence[]} (e.g. {@code String[]}) and {@code byte[][]} of already
+     * encoded values.
+     */
+    @Override
+    public boolean serializeBinaryColumn(
+            Object array,
+            int rows,
+            BinarySerializer serializer
+    ) throws SQLException, IOException {
+        if (array instanceof CharSequence[]) {
+            CharSequence[] values = (CharSequence[]) array;
+            for (int row = 0; row < rows; row++) {
+                if (values[row] == null) {
+                    throw new ByteHouseSQLException(-1, "null value at row " + row + " for " + name());
+                }
+                serializeBinary(values[row], serializer);
+            }
+        } else if (array instanceof byte[][]) {
+            byte[][] values = (byte[][]) array;
+            for (int row = 0; row < rows; row++) {
+                if (values[row] == null) {
+                    throw new ByteHouseSQLException(-1, "null value at row " + row + " for " + name());
+                }
+                serializer.writeBytesBinary(values[row]);
+            }
+        } else {
+            return false;
+        }
+        return true;
+    }
+
     /**
      * deserializeBinary will always returns String
-     * for getBytes(idx) method, we encode the String again
+     * result columns keep the bytes instead, see {@link #deserializeBinaryColumn}
      */
     @Override
     public String deserializeBinary(BinaryDeserializer deserializer) throws SQLException, IOException {
@@ -132,6 +172,46 @@ public class DataTypeString implements IDataType<CharSequence, String> {
         return data;
     }
 
+    /**
+     * Reads the bytes of all the rows into one array, see {@link ColumnString}.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0) {
+            // the sample block of an insert
+            return ColumnFactoryUtils.createColumn(name, this, new CharSequence[0]);
+        }
+        int[] offsets = new int[rows];
+        byte[] bytes = new byte[Math.min(rows, 64) * 16];
+        int end = 0;
+        for (int row = 0; row < rows; row++) {
+            int length = (int) deserializer.readVarInt();
+            if (bytes.length - end < length) {
+                bytes = Arrays.copyOf(bytes, grownCapacity(bytes.length, end + length, row + 1, rows));
+            }
+            deserializer.readBytes(bytes, end, length);
+            end += length;
+            offsets[row] = end;
+        }
+        if (bytes.length - end > end / 4) {
+            // the column keeps the array as long as the block, so do not keep much slack
+            bytes = Arrays.copyOf(bytes, end);
+        }
+        return new ColumnString(name, this, bytes, offsets, this.serializableCharset.get());
+    }
+
+    /**
+     * Returns the capacity for the bytes of all the rows once the first {@code rowsRead} take
+     * {@code needed} bytes: their average length times all the rows, with some headroom, but at
+     * least 1.5 times the current capacity so that a poor estimate still grows geometrically.
+     */
+    private static int grownCapacity(int capacity, int needed, int rowsRead, int rows) {
+        long estimate = (long) needed * rows / rowsRead;
+        long grown = Math.max(estimate + estimate / 8, capacity + (long) (capacity >> 1));
+        return (int) Math.max(needed, Math.min(grown, Integer.MAX_VALUE - 8));
+    }
+
     @Override
     public CharSequence[] allocate(int rows) {
         return new CharSequence[rows];
@@ -15,7 +15,10 @@
  */
 package com.bytedance.bytehouse.data.type.complex;
 
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.ColumnTuple;
 import com.bytedance.bytehouse.data.DataTypeFactory;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.jdbc.ByteHouseStruct;
 import com.bytedance.bytehouse.misc.SQLLexer;
@@ -109,7 +112,7 @@ public class DataTypeTuple implements IDataType<ByteHouseStruct, Struct> {
     @Override
     public void serializeBinaryBulk(ByteHouseStruct[] data, BinarySerializer serializer) throws SQLException, IOException {
         for (int i = 0; i < getNestedTypes().length; i++) {
-            Object[] elemsData = new Object[data.length];
+            Object[] elemsData = getNestedTypes()[i].allocate(data.length);
             for (int row = 0; row < data.length; row++) {
                 elemsData[row] = ((Struct) data[row]).getAttributes()[i];
             }
@@ -142,6 +145,24 @@ public class DataTypeTuple implements IDataType<ByteHouseStruct, Struct> {
         return rowsData;
     }
 
+    /**
+     * Keeps each element of all the rows in one column of the element type and returns rows as
+     * views over them.
+     */
+    @Override
+    public IColumn deserializeBinaryColumn(String name, int rows, BinaryDeserializer deserializer)
+            throws SQLException, IOException {
+        if (rows == 0) {
+            // the sample block of an insert, written through ColumnTuple
+            return ColumnFactoryUtils.createColumn(name, this, new ByteHouseStruct[0]);
+        }
+        IColumn[] elements = new IColumn[getNestedTypes().length];
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = getNestedTypes()[i].deserializeBinaryColumn(null, rows, deserializer);
+        }
+        return new ColumnTuple(name, this, elements);
+    }
+
     private Object[][] getRowsWithElems(int rows, BinaryDeserializer deserializer) throws IOException, SQLException {
         Object[][] rowsWithElems = new Object[getNestedTypes().length][];
         for (int index = 0; index < getNestedTypes().length; index++) {
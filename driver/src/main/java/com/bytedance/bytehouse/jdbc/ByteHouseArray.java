@@ -15,10 +15,18 @@
  */
 package com.bytedance.bytehouse.jdbc;
 
+import com.bytedance.bytehouse.data.ColumnDouble;
+import com.bytedance.bytehouse.data.ColumnFloat;
+import com.bytedance.bytehouse.data.ColumnInt;
+import com.bytedance.bytehouse.data.ColumnLong;
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.jdbc.wrapper.SQLArray;
 import com.bytedance.bytehouse.log.Logger;
 import com.bytedance.bytehouse.log.LoggerFactoryUtils;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.StringJoiner;
@@ -33,16 +41,37 @@ public class ByteHouseArray implements SQLArray, Serializable {
 
     private final IDataType<?, ?> elementDataType;
 
-    private final Object[] elements;
+    // boxed elements, created on first use for a view
+    private Object[] elements;
+
+    // for a view, the elements are [offset, offset + length) of the column
+    private transient IColumn elementColumn;
+
+    private transient int offset;
+
+    private transient int length;
 
     public ByteHouseArray(IDataType<?, ?> elementDataType, Object[] elements) {
         this.elementDataType = elementDataType;
         this.elements = elements;
+        this.length = elements.length;
+    }
+
+    /**
+     * Creates a view over a slice of an element column, e.g. a row of an Array result column.
+     * Nothing is copied until {@link #getArray()} or one of the {@code toXxxArray} methods.
+     */
+    public ByteHouseArray(IDataType<?, ?> elementDataType, IColumn elementColumn, int offset, int length) {
+        this.elementDataType = elementDataType;
+        this.elementColumn = elementColumn;
+        this.offset = offset;
+        this.length = length;
     }
 
     public ByteHouseArray(IDataType<?, ?> elementDataType, Object elements) {
         this.elementDataType = elementDataType;
         this.elements = box(elements);
+        this.length = this.elements.length;
     }
 
     @Override
@@ -61,7 +90,68 @@ public class ByteHouseArray implements SQLArray, Serializable {
 
     @Override
     public Object[] getArray() throws SQLException {
-        return elements;
+        return elements();
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the elements as ints, without boxing them when the elements are Int32 or
+     * narrower values of a result column.
+     */
+    public int[] toIntArray() {
+        if (elements == null && elementColumn instanceof ColumnInt) {
+            return Arrays.copyOfRange(((ColumnInt) elementColumn).data(), offset, offset + length);
+        }
+        final int[] res = new int[length];
+        for (int i = 0; i < length; i++) {
+            res[i] = elements == null ? elementColumn.intValue(offset + i) : ((Number) elements[i]).intValue();
+        }
+        return res;
+    }
+
+    /**
+     * Returns the elements as longs, see {@link #toIntArray()}.
+     */
+    public long[] toLongArray() {
+        if (elements == null && elementColumn instanceof ColumnLong) {
+            return Arrays.copyOfRange(((ColumnLong) elementColumn).data(), offset, offset + length);
+        }
+        final long[] res = new long[length];
+        for (int i = 0; i < length; i++) {
+            res[i] = elements == null ? elementColumn.longValue(offset + i) : ((Number) elements[i]).longValue();
+        }
+        return res;
+    }
+
+    /**
+     * Returns the elements as floats, see {@link #toIntArray()}.
+     */
+    public float[] toFloatArray() {
+        if (elements == null && elementColumn instanceof ColumnFloat) {
+            return Arrays.copyOfRange(((ColumnFloat) elementColumn).data(), offset, offset + length);
+        }
+        final float[] res = new float[length];
+        for (int i = 0; i < length; i++) {
+            res[i] = elements == null ? elementColumn.floatValue(offset + i) : ((Number) elements[i]).floatValue();
+        }
+        return res;
+    }
+
+    /**
+     * Returns the elements as doubles, see {@link #toIntArray()}.
+     */
+    public double[] toDoubleArray() {
+        if (elements == null && elementColumn instanceof ColumnDouble) {
+            return Arrays.copyOfRange(((ColumnDouble) elementColumn).data(), offset, offset + length);
+        }
+        final double[] res = new double[length];
+        for (int i = 0; i < length; i++) {
+            res[i] = elements == null ? elementColumn.doubleValue(offset + i) : ((Number) elements[i]).doubleValue();
+        }
+        return res;
     }
 
     @Override
@@ -72,7 +162,7 @@ public class ByteHouseArray implements SQLArray, Serializable {
     @Override
     public String toString() {
         StringJoiner joiner = new StringJoiner(",", "[", "]");
-        for (Object item : elements) {
+        for (Object item : elements()) {
             // TODO format by itemDataType
             joiner.add(String.valueOf(item));
         }
@@ -80,12 +170,35 @@ public class ByteHouseArray implements SQLArray, Serializable {
     }
 
     public ByteHouseArray slice(Object[] result, int offset, int length) {
-        if (length >= 0) System.arraycopy(elements, offset, result, 0, length);
+        if (length >= 0) System.arraycopy(elements(), offset, result, 0, length);
         return new ByteHouseArray(elementDataType, result);
     }
 
     public ByteHouseArray mapElements(BiFunction<IDataType<?, ?>, Object, Object> mapFunc) {
-        Object[] mapped = Arrays.stream(elements).map(elem -> mapFunc.apply(elementDataType, elem)).toArray();
+        Object[] mapped = Arrays.stream(elements()).map(elem -> mapFunc.apply(elementDataType, elem)).toArray();
         return new ByteHouseArray(elementDataType, mapped);
     }
+
+    private Object[] elements() {
+        if (elements == null) {
+            final Object[] res = elementDataType.allocate(length);
+            for (int i = 0; i < length; i++) {
+                res[i] = elementColumn.value(offset + i);
+            }
+            elements = res;
+        }
+        return elements;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        elements();
+        out.defaultWriteObject();
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        // a view is written with its elements, which are read back as a plain array
+        offset = 0;
+        length = elements.length;
+    }
 }
@@ -23,6 +23,7 @@ import com.bytedance.bytehouse.client.SessionState;
 import com.bytedance.bytehouse.data.Block;
 import com.bytedance.bytehouse.data.DataTypeFactory;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
+import com.bytedance.bytehouse.jdbc.statement.ByteHouseColumnarInsert;
 import com.bytedance.bytehouse.jdbc.statement.ByteHousePreparedInsertStatement;
 import com.bytedance.bytehouse.jdbc.statement.ByteHousePreparedQueryStatement;
 import com.bytedance.bytehouse.jdbc.statement.ByteHouseStatement;
@@ -32,6 +33,7 @@ import com.bytedance.bytehouse.log.LoggerFactoryUtils;
 import com.bytedance.bytehouse.misc.SQLParserUtils;
 import com.bytedance.bytehouse.misc.ValidateUtils;
 import com.bytedance.bytehouse.settings.ByteHouseConfig;
+import com.bytedance.bytehouse.settings.ConnectionValidation;
 import com.bytedance.bytehouse.settings.ByteHouseErrCode;
 import com.bytedance.bytehouse.settings.SettingKey;
 import com.bytedance.bytehouse.stream.QueryResult;
@@ -54,6 +56,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
 
@@ -73,8 +76,14 @@ public class ByteHouseConnection implements BHConnection {
 
     private final AtomicReference<SessionState> state = new AtomicReference<>(SessionState.IDLE);
 
+    private final AtomicLong validationPingCount = new AtomicLong();
+
+    private final AtomicLong reconnectCount = new AtomicLong();
+
     private volatile NativeContext nativeCtx;
 
+    private volatile QueryResult lastQueryResult;
+
     /**
      * Constructor. do not call directly. Use the factory method.
      */
@@ -93,12 +102,19 @@ public class ByteHouseConnection implements BHConnection {
     public static ByteHouseConnection createByteHouseConnection(
             final ByteHouseConfig config
     ) throws SQLException {
+        return new ByteHouseConnection(config, createNativeContext(config));
+    }
+
+    /**
+     * Opens a new physical connection described by the config.
+     */
+    static NativeContext createNativeContext(final ByteHouseConfig config) throws SQLException {
         final NativeClient nativeClient = NativeClient.connect(config);
-        return new ByteHouseConnection(config, new NativeContext(
+        return new NativeContext(
                 ClientContext.create(nativeClient, config),
                 ServerContext.create(nativeClient, config),
                 nativeClient
-        ));
+        );
     }
 
     public ByteHouseConfig cfg() {
@@ -113,6 +129,21 @@ public class ByteHouseConnection implements BHConnection {
         return nativeCtx.clientCtx();
     }
 
+    /**
+     * Returns how many times the connection was pinged before a statement,
+     * as decided by {@link ByteHouseConfig#connectionValidation()}.
+     */
+    public long validationPingCount() {
+        return validationPingCount.get();
+    }
+
+    /**
+     * Returns how many times the underlying connection was re-established.
+     */
+    public long reconnectCount() {
+        return reconnectCount.get();
+    }
+
     /**
      * {@inheritDoc}.
      */
@@ -195,12 +226,28 @@ public class ByteHouseConnection implements BHConnection {
     public void close() throws SQLException {
         synchronized (this) {
             if (!isClosed() && isClosed.compareAndSet(false, true)) {
-                final NativeClient nativeClient = nativeCtx.nativeClient();
-                nativeClient.disconnect();
+                release(nativeCtx);
             }
         }
     }
 
+    /**
+     * Called once when the connection is closed. Disconnects the physical connection.
+     */
+    protected void release(final NativeContext ctx) throws SQLException {
+        ctx.nativeClient().disconnect();
+    }
+
+    /**
+     * Returns true if no insert is in progress and the last query has been read to the end,
+     * so the physical connection can serve another query.
+     */
+    boolean isReusable() {
+        final QueryResult queryResult = lastQueryResult;
+        return state.get() == SessionState.IDLE
+                && (queryResult == null || queryResult.isFullyConsumed());
+    }
+
     @Override
     public boolean isClosed() {
         return isClosed.get();
@@ -231,6 +278,15 @@ public class ByteHouseConnection implements BHConnection {
         }
     }
 
+    /**
+     * Starts a columnar insert, see {@link ByteHouseColumnarInsert}.
+     */
+    public ByteHouseColumnarInsert prepareColumnarInsert(final String insertQuery) throws SQLException {
+        ValidateUtils.isTrue(!isClosed(), "Unable to create ColumnarInsert, "
+                + "because the connection is closed.");
+        return new ByteHouseColumnarInsert(this, nativeCtx.serverCtx(), insertQuery);
+    }
+
     /**
      * Use DatabaseMetaData.getClientInfoProperties() to retrieve client info properties supported.
      * Currently no properties are supported.
@@ -357,11 +413,9 @@ public class ByteHouseConnection implements BHConnection {
      * Get metadata for a insert query.
      */
     public Block getSampleBlock(final String queryId, final String insertQuery) throws SQLException {
-        final NativeClient nativeClient = getHealthyNativeClient();
-        nativeClient.sendQuery(
+        final NativeClient nativeClient = sendQueryOrReconnect(
                 queryId,
                 insertQuery,
-                nativeCtx.clientCtx(),
                 cfg.get().settings(),
                 cfg.get().enableCompression()
         );
@@ -382,8 +436,6 @@ public class ByteHouseConnection implements BHConnection {
         ValidateUtils.isTrue(this.state.get() == SessionState.IDLE,
                 "Connection is currently waiting for an insert operation, "
                         + "check your previous InsertStatement.");
-        final NativeClient nativeClient = getHealthyNativeClient();
-
         // enableCompression is a Connection level parameter, so it is obtained from this.cfg
         boolean enableCompression = this.cfg.get().enableCompression();
 
@@ -392,11 +444,10 @@ public class ByteHouseConnection implements BHConnection {
         final Map<SettingKey, Serializable> settings = cfg.settings();
         final Duration queryTimeout = cfg.queryTimeout();
 
-        try {
-            nativeClient.sendQuery(queryId, query, nativeCtx.clientCtx(), settings, enableCompression);
-        } finally {
-            return nativeClient.receiveQuery(queryTimeout, nativeCtx.serverCtx());
-        }
+        final NativeClient nativeClient = sendQueryOrReconnect(queryId, query, settings, enableCompression);
+        final QueryResult queryResult = nativeClient.receiveQuery(queryTimeout, nativeCtx.serverCtx());
+        lastQueryResult = queryResult;
+        return queryResult;
     }
 
     /**
@@ -420,6 +471,20 @@ public class ByteHouseConnection implements BHConnection {
         return block.rowCnt();
     }
 
+    /**
+     * Abandons the insert in progress, for when its data cannot be completed. There is no way
+     * to cancel an insert in the protocol, so the connection to the server is closed and the
+     * next query opens a new one.
+     */
+    public void abortInsert() {
+        synchronized (this) {
+            LOG.warn("abort insert, close connection to server");
+            getNativeClient().silentDisconnect();
+            lastQueryResult = null;
+            state.set(SessionState.IDLE);
+        }
+    }
+
     /**
      * send single block.
      */
@@ -431,29 +496,72 @@ public class ByteHouseConnection implements BHConnection {
         return block.rowCnt();
     }
 
+    /**
+     * Sends a query over a healthy connection. If writing the request fails, the connection is
+     * broken before the server could read a complete query, so the query is sent again once
+     * over a new connection.
+     */
+    private NativeClient sendQueryOrReconnect(
+            final String queryId,
+            final String query,
+            final Map<SettingKey, Serializable> settings,
+            final boolean enableCompression
+    ) throws SQLException {
+        final NativeClient nativeClient = getHealthyNativeClient();
+        try {
+            nativeClient.sendQuery(queryId, query, nativeCtx.clientCtx(), settings, enableCompression);
+            return nativeClient;
+        } catch (SQLException ex) {
+            LOG.warn("failed to send query, create new connection and retry: {}", ex.getMessage());
+        }
+        final NativeClient newNativeClient = reconnect();
+        newNativeClient.sendQuery(queryId, query, nativeCtx.clientCtx(), settings, enableCompression);
+        return newNativeClient;
+    }
+
     private NativeClient getHealthyNativeClient() throws SQLException {
         synchronized (this) {
-            final NativeContext oldCtx = nativeCtx;
-            if (!oldCtx.nativeClient().ping(cfg.get().queryTimeout(), oldCtx.serverCtx())) {
+            if (!isHealthy(nativeCtx)) {
                 LOG.warn(
                         "connection loss with state [{}], create new connection and reset state",
                         state
                 );
-                final ByteHouseConfig config = cfg.get();
-                final NativeClient nativeClient = NativeClient.connect(config);
-                nativeCtx = new NativeContext(
-                        ClientContext.create(nativeClient, config),
-                        ServerContext.create(nativeClient, config),
-                        nativeClient
-                );
-                state.set(SessionState.IDLE);
-                oldCtx.nativeClient().silentDisconnect();
+                return reconnect();
             }
 
             return nativeCtx.nativeClient();
         }
     }
 
+    private boolean isHealthy(final NativeContext ctx) {
+        final NativeClient nativeClient = ctx.nativeClient();
+        if (!nativeClient.isSocketUsable()) {
+            return false;
+        }
+        final ByteHouseConfig config = cfg.get();
+        if (config.connectionValidation() == ConnectionValidation.NEVER) {
+            return true;
+        }
+        if (config.connectionValidation() == ConnectionValidation.IDLE
+                && nativeClient.idleTime().compareTo(config.connectionValidationIdleTime()) < 0) {
+            return true;
+        }
+        validationPingCount.incrementAndGet();
+        return nativeClient.ping(config.queryTimeout(), ctx.serverCtx());
+    }
+
+    private NativeClient reconnect() throws SQLException {
+        synchronized (this) {
+            final NativeContext oldCtx = nativeCtx;
+            nativeCtx = createNativeContext(cfg.get());
+            lastQueryResult = null;
+            state.set(SessionState.IDLE);
+            oldCtx.nativeClient().silentDisconnect();
+            reconnectCount.incrementAndGet();
+            return nativeCtx.nativeClient();
+        }
+    }
+
     private NativeClient getNativeClient() {
         return nativeCtx.nativeClient();
     }
@@ -0,0 +1,295 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.jdbc;
+
+import com.bytedance.bytehouse.client.NativeContext;
+import com.bytedance.bytehouse.log.Logger;
+import com.bytedance.bytehouse.log.LoggerFactoryUtils;
+import com.bytedance.bytehouse.misc.ValidateUtils;
+import com.bytedance.bytehouse.settings.ByteHouseConfig;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of physical connections used by {@link ByteHouseDataSource} when
+ * {@link ByteHouseConfig#connectionPool()} is enabled.
+ * <p>
+ * Idle connections are kept in a LIFO deque so that the most recently used connection is handed
+ * out first. New connections are opened round-robin across the configured urls. A daemon
+ * housekeeper pings idle connections, closes those past {@link ByteHouseConfig#poolMaxLifetime()}
+ * and keeps {@link ByteHouseConfig#poolMinIdle()} connections open.
+ */
+final class ByteHouseConnectionPool implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactoryUtils.getLogger(ByteHouseConnectionPool.class);
+
+    private static final long WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final List<ByteHouseConfig> configs;
+
+    private final int minIdle;
+
+    private final int maxIdle;
+
+    private final int maxSize;
+
+    private final long maxWaitNanos;
+
+    private final long maxLifetimeNanos;
+
+    private final LinkedBlockingDeque<PooledEntry> idle = new LinkedBlockingDeque<>();
+
+    private final AtomicInteger total = new AtomicInteger();
+
+    private final AtomicInteger nextUrl = new AtomicInteger();
+
+    private final ScheduledExecutorService housekeeper;
+
+    private volatile boolean closed;
+
+    /**
+     * Creates the pool and opens {@link ByteHouseConfig#poolMinIdle()} connections.
+     *
+     * @param configs one config per url, pool limits are taken from the first one
+     */
+    ByteHouseConnectionPool(final List<ByteHouseConfig> configs) {
+        ValidateUtils.ensure(!configs.isEmpty(), "there are no correct urls");
+        this.configs = new ArrayList<>(configs);
+
+        final ByteHouseConfig cfg = configs.get(0);
+        this.maxSize = Math.max(1, cfg.poolMaxSize());
+        this.maxIdle = Math.min(Math.max(0, cfg.poolMaxIdle()), maxSize);
+        this.minIdle = Math.min(Math.max(0, cfg.poolMinIdle()), maxIdle);
+        this.maxWaitNanos = cfg.poolMaxWait().toNanos();
+        this.maxLifetimeNanos = cfg.poolMaxLifetime().toNanos();
+
+        fill();
+
+        final long intervalMillis = cfg.poolValidationInterval().toMillis();
+        if (intervalMillis > 0) {
+            this.housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "bytehouse-pool-housekeeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.housekeeper.scheduleWithFixedDelay(
+                    this::housekeep, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.housekeeper = null;
+        }
+    }
+
+    /**
+     * Returns an idle connection, opens a new one if the pool is not full, or waits up to
+     * {@link ByteHouseConfig#poolMaxWait()} for a connection to be returned.
+     */
+    ByteHouseConnection borrow() throws SQLException {
+        final long deadline = System.nanoTime() + maxWaitNanos;
+        while (true) {
+            ValidateUtils.isTrue(!closed, "Unable to get connection: the connection pool is closed");
+            PooledEntry entry = idle.pollLast();
+            if (entry == null) {
+                if (tryReserve()) {
+                    return wrap(open());
+                }
+                entry = awaitIdle(deadline);
+                if (entry == null) {
+                    continue;
+                }
+            }
+            if (isUsable(entry)) {
+                return wrap(entry);
+            }
+            discard(entry);
+        }
+    }
+
+    /**
+     * Takes back the physical connection of a closed {@link PooledByteHouseConnection}.
+     * The connection is closed instead if it is still busy, broken, too old, or the pool
+     * already has {@link ByteHouseConfig#poolMaxIdle()} idle connections.
+     */
+    void release(
+            final PooledByteHouseConnection connection,
+            final PooledEntry entry,
+            final NativeContext ctx
+    ) {
+        // the logical connection reconnected on its own, the old physical connection is already gone
+        final PooledEntry returned = ctx == entry.ctx
+                ? entry
+                : new PooledEntry(entry.cfg, ctx, System.nanoTime());
+        if (closed
+                || !connection.isReusable()
+                || !isUsable(returned)
+                || idle.size() >= maxIdle) {
+            discard(returned);
+            return;
+        }
+        idle.offerLast(returned);
+        if (closed && idle.remove(returned)) {
+            discard(returned);
+        }
+    }
+
+    int idleCount() {
+        return idle.size();
+    }
+
+    int totalCount() {
+        return total.get();
+    }
+
+    /**
+     * Closes all idle connections. Borrowed connections are closed when they are returned.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (housekeeper != null) {
+            housekeeper.shutdownNow();
+        }
+        PooledEntry entry;
+        while ((entry = idle.pollFirst()) != null) {
+            discard(entry);
+        }
+    }
+
+    private ByteHouseConnection wrap(final PooledEntry entry) {
+        // undo setEnableCompression of the previous borrower
+        entry.ctx.nativeClient().setEnableCompression(entry.cfg.enableCompression());
+        return new PooledByteHouseConnection(this, entry);
+    }
+
+    private PooledEntry awaitIdle(final long deadline) throws SQLException {
+        final long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new SQLException("Unable to get connection: all " + maxSize
+                    + " pooled connections are in use");
+        }
+        try {
+            // wake up regularly, a discarded connection frees a slot without returning an entry
+            return idle.pollLast(Math.min(remaining, WAIT_SLICE_NANOS), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a pooled connection", ex);
+        }
+    }
+
+    private boolean tryReserve() {
+        while (true) {
+            final int current = total.get();
+            if (current >= maxSize) {
+                return false;
+            }
+            if (total.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Opens a connection for a slot reserved by {@link #tryReserve()}, trying every url once
+     * starting from the next one in round-robin order. The slot is freed if all urls fail.
+     */
+    private PooledEntry open() throws SQLException {
+        SQLException lastEx = null;
+        for (int i = 0; i < configs.size(); i++) {
+            final ByteHouseConfig cfg = configs.get(Math.floorMod(nextUrl.getAndIncrement(), configs.size()));
+            try {
+                return new PooledEntry(cfg, ByteHouseConnection.createNativeContext(cfg), System.nanoTime());
+            } catch (SQLException ex) {
+                LOG.warn("failed to open pooled connection to {}:{}: {}", cfg.host(), cfg.port(), ex.getMessage());
+                lastEx = ex;
+            } catch (RuntimeException ex) {
+                total.decrementAndGet();
+                throw ex;
+            }
+        }
+        total.decrementAndGet();
+        throw lastEx;
+    }
+
+    private void discard(final PooledEntry entry) {
+        total.decrementAndGet();
+        entry.ctx.nativeClient().silentDisconnect();
+    }
+
+    private boolean isUsable(final PooledEntry entry) {
+        return entry.ctx.nativeClient().isSocketUsable()
+                && (maxLifetimeNanos <= 0 || System.nanoTime() - entry.createdNanos < maxLifetimeNanos);
+    }
+
+    private void fill() {
+        while (!closed && idle.size() < minIdle && tryReserve()) {
+            try {
+                idle.offerLast(open());
+            } catch (SQLException ex) {
+                LOG.warn("failed to fill connection pool: {}", ex.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Pings every idle connection once, closes broken, expired and surplus ones, then tops the
+     * pool back up to {@link ByteHouseConfig#poolMinIdle()}.
+     */
+    private void housekeep() {
+        try {
+            final int size = idle.size();
+            for (int i = 0; i < size && !closed; i++) {
+                final PooledEntry entry = idle.pollFirst();
+                if (entry == null) {
+                    break;
+                }
+                if (idle.size() >= maxIdle
+                        || !isUsable(entry)
+                        || !entry.ctx.nativeClient().ping(entry.cfg.queryTimeout(), entry.ctx.serverCtx())) {
+                    discard(entry);
+                } else {
+                    idle.offerLast(entry);
+                }
+            }
+            fill();
+        } catch (RuntimeException ex) {
+            LOG.warn("connection pool housekeeping failed: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * A physical connection owned by the pool.
+     */
+    static final class PooledEntry {
+
+        final ByteHouseConfig cfg;
+
+        final NativeContext ctx;
+
+        final long createdNanos;
+
+        PooledEntry(final ByteHouseConfig cfg, final NativeContext ctx, final long createdNanos) {
+            this.cfg = cfg;
+            this.ctx = ctx;
+            this.createdNanos = createdNanos;
+        }
+    }
+}
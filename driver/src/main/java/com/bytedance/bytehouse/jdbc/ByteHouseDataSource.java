@@ -38,6 +38,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 
 /**
  * <p> Database for bytehouse jdbc connections.
@@ -45,8 +46,11 @@ import java.util.stream.Collectors;
  * For every {@link #getConnection() getConnection} invocation, it returns connection to random host from the list.
  * Furthermore, this class has method { #scheduleActualization(int, TimeUnit) scheduleActualization}
  * which test hosts for availability. By default, this option is turned off.
+ * <p> With {@code connection_pool=true}, connections are borrowed from a
+ * {@link ByteHouseConnectionPool} and closing them returns them to the pool.
+ * The pool is released by {@link #close()}.
  */
-public final class ByteHouseDataSource implements BHDataSource {
+public final class ByteHouseDataSource implements BHDataSource, AutoCloseable {
     private static final Logger LOG = LoggerFactoryUtils.getLogger(ByteHouseDataSource.class);
 
     private final ByteHouseConfig cfg;
@@ -55,6 +59,9 @@ public final class ByteHouseDataSource implements BHDataSource {
 
     private final List<String> enabledUrls;
 
+    @Nullable
+    private final ByteHouseConnectionPool pool;
+
     /**
      * create Datasource for bytehouse JDBC connections
      *
@@ -115,6 +122,10 @@ public final class ByteHouseDataSource implements BHDataSource {
         ValidateUtils.ensure(!allUrls.isEmpty(), "there are no correct urls");
 
         this.enabledUrls = Collections.unmodifiableList(allUrls);
+
+        this.pool = cfg.connectionPool()
+                ? new ByteHouseConnectionPool(allUrls.stream().map(cfg::withJdbcUrl).collect(Collectors.toList()))
+                : null;
     }
 
     /**
@@ -169,11 +180,14 @@ public final class ByteHouseDataSource implements BHDataSource {
      */
     @Override
     public ByteHouseConnection getConnection() throws SQLException {
+        if (pool != null) {
+            return pool.borrow();
+        }
         return driver.connect(getAnyUrl(), cfg);
     }
 
     /**
-     * {@inheritDoc}
+     * Connections for explicit credentials are never pooled.
      */
     @Override
     public ByteHouseConnection getConnection(
@@ -183,6 +197,30 @@ public final class ByteHouseDataSource implements BHDataSource {
         return driver.connect(getAnyUrl(), cfg.withCredentials(user, password));
     }
 
+    /**
+     * Returns the number of idle pooled connections, 0 if pooling is disabled.
+     */
+    public int getIdleConnectionCount() {
+        return pool != null ? pool.idleCount() : 0;
+    }
+
+    /**
+     * Returns the number of open pooled connections, idle or borrowed, 0 if pooling is disabled.
+     */
+    public int getPooledConnectionCount() {
+        return pool != null ? pool.totalCount() : 0;
+    }
+
+    /**
+     * Closes the idle pooled connections and stops the pool housekeeper.
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
     /**
      * Logging for data source is disabled.
      */
@@ -0,0 +1,146 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.jdbc;
+
+import com.bytedance.bytehouse.data.ColumnString;
+import com.bytedance.bytehouse.data.IColumn;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Read-only {@link Map} over a row of a Map result column, i.e. the entries
+ * {@code [offset, offset + length)} of its key and value columns. Entries are read from the
+ * columns on demand, so looking up a key reads the keys of the row but no other value.
+ * <p>
+ * A key that appears more than once in the row maps to its last value, and the earlier entries
+ * of the key are not part of the map, as if the row was put into a {@link java.util.HashMap}.
+ */
+public class ByteHouseMap extends AbstractMap<Object, Object> implements Serializable {
+
+    private static final long serialVersionUID = 1;
+
+    private final transient IColumn keys;
+
+    private final transient IColumn values;
+
+    private final transient int offset;
+
+    private final transient int length;
+
+    // entries followed by an entry with the same key, created on first use
+    private transient BitSet shadowed;
+
+    public ByteHouseMap(IColumn keys, IColumn values, int offset, int length) {
+        this.keys = keys;
+        this.values = values;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    @Override
+    public int size() {
+        return length - shadowed().cardinality();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        final int idx = indexOf(key);
+        return idx < 0 ? null : values.value(idx);
+    }
+
+    @Override
+    public Set<Entry<Object, Object>> entrySet() {
+        return new AbstractSet<Entry<Object, Object>>() {
+            @Override
+            public Iterator<Entry<Object, Object>> iterator() {
+                return new Iterator<Entry<Object, Object>>() {
+                    private int next = shadowed().nextClearBit(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return next < length;
+                    }
+
+                    @Override
+                    public Entry<Object, Object> next() {
+                        if (!hasNext()) {
+                            throw new NoSuchElementException();
+                        }
+                        final int idx = offset + next;
+                        next = shadowed.nextClearBit(next + 1);
+                        return new SimpleImmutableEntry<>(keys.value(idx), values.value(idx));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return ByteHouseMap.this.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the index of the last entry with the key in the columns, or -1.
+     */
+    private int indexOf(Object key) {
+        for (int idx = offset + length - 1; idx >= offset; idx--) {
+            if (key instanceof String && keys instanceof ColumnString
+                    ? ((ColumnString) keys).valueEquals(idx, (String) key)
+                    : Objects.equals(keys.value(idx), key)) {
+                return idx;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the entries, relative to offset, whose key appears again later in the row.
+     */
+    private BitSet shadowed() {
+        if (shadowed == null) {
+            final BitSet res = new BitSet(length);
+            if (length > 1) {
+                final Set<Object> seen = new HashSet<>(length * 2);
+                for (int i = length - 1; i >= 0; i--) {
+                    if (!seen.add(keys.value(offset + i))) {
+                        res.set(i);
+                    }
+                }
+            }
+            shadowed = res;
+        }
+        return shadowed;
+    }
+
+    private Object writeReplace() {
+        return new LinkedHashMap<>(this);
+    }
+}
@@ -16,6 +16,10 @@
 package com.bytedance.bytehouse.jdbc;
 
 import com.bytedance.bytehouse.data.Block;
+import com.bytedance.bytehouse.data.ColumnBitMap64;
+import com.bytedance.bytehouse.data.ColumnDateTime;
+import com.bytedance.bytehouse.data.ColumnNullable;
+import com.bytedance.bytehouse.data.ColumnUInt64;
 import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.jdbc.statement.ByteHouseStatement;
@@ -35,12 +39,15 @@ import java.sql.Date;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.util.Calendar;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
 
 /**
  * Bytehouse implementation of {@link ResultSet}.
@@ -71,6 +78,8 @@ public class ByteHouseResultSet implements SQLResultSet {
 
     private Block lastFetchBlock;
 
+    private IColumn lastFetchColumn;
+
     private boolean isFirst;
 
     private boolean isAfterLast;
@@ -196,91 +205,98 @@ public class ByteHouseResultSet implements SQLResultSet {
         return this.getObject(this.findColumn(name));
     }
 
+    @Override
+    public <T> T getObject(final String name, final Class<T> type) throws SQLException {
+        return this.getObject(this.findColumn(name), type);
+    }
+
     @Override
     public boolean getBoolean(final int position) throws SQLException {
-        final Object data = getInternalObject(position);
-        if (data == null) {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
             return false;
         }
-        final Number ndata = (Number) data;
-        return (ndata.shortValue() != 0);
+        return column.shortValue(currentRowNum) != 0;
     }
 
     @Override
     public byte getByte(final int position) throws SQLException {
-        final Object data = getInternalObject(position);
-        if (data == null) {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
             return 0;
         }
-        return ((Number) data).byteValue();
+        return column.byteValue(currentRowNum);
     }
 
     @Override
     public short getShort(final int position) throws SQLException {
-        final Object data = getInternalObject(position);
-        if (data == null) {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
             return 0;
         }
-        return ((Number) data).shortValue();
+        return column.shortValue(currentRowNum);
     }
 
     @Override
     public int getInt(final int position) throws SQLException {
-        final Object data = getInternalObject(position);
-        if (data == null) {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
             return 0;
         }
-        return ((Number) data).intValue();
+        return column.intValue(currentRowNum);
     }
 
     @Override
     public long getLong(final int position) throws SQLException {
-        final Object data = getInternalObject(position);
-        if (data == null) {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
             return 0;
         }
-        return ((Number) data).longValue();
+        return column.longValue(currentRowNum);
     }
 
     @Override
     public float getFloat(final int position) throws SQLException {
-        final Object data = getInternalObject(position);
-        if (data == null) {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
             return 0;
         }
-        return ((Number) data).floatValue();
+        return column.floatValue(currentRowNum);
     }
 
     @Override
     public double getDouble(final int position) throws SQLException {
-        final Object data = getInternalObject(position);
-        if (data == null) {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
             return 0;
         }
-        return ((Number) data).doubleValue();
+        return column.doubleValue(currentRowNum);
     }
 
     @Override
     public Timestamp getTimestamp(final int position) throws SQLException {
-        final Object data = getInternalObject(position);
-        if (data == null) {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
             return null;
         }
-        final ZonedDateTime zts = (ZonedDateTime) data;
+        final IColumn values = nonNullColumn(column);
+        if (values instanceof ColumnDateTime) {
+            return ((ColumnDateTime) values).timestamp(currentRowNum);
+        }
+        final ZonedDateTime zts = (ZonedDateTime) column.value(currentRowNum);
         return DateTimeUtil.toTimestamp(zts, null);
     }
 
     @Override
     public Timestamp getTimestamp(final int position, final Calendar cal) throws SQLException {
-        final Object data = getInternalObject(position);
-        if (data == null) {
+        final LocalDateTime ldt = getLocalDateTime(position);
+        if (ldt == null) {
             return null;
         }
-        final ZonedDateTime zts = (ZonedDateTime) data;
-        cal.set(zts.getYear(), zts.getMonthValue() - 1, zts.getDayOfMonth(), zts.getHour(), zts.getMinute(),
-                zts.getSecond());
+        cal.set(ldt.getYear(), ldt.getMonthValue() - 1, ldt.getDayOfMonth(), ldt.getHour(), ldt.getMinute(),
+                ldt.getSecond());
         Timestamp timestamp = new Timestamp(cal.getTimeInMillis());
-        timestamp.setNanos(zts.getNano());
+        timestamp.setNanos(ldt.getNano());
 
         return timestamp;
     }
@@ -295,16 +311,39 @@ public class ByteHouseResultSet implements SQLResultSet {
 
     @Override
     public Time getTime(final int columnIndex) throws SQLException {
-        final ZonedDateTime dateTime = (ZonedDateTime) getInternalObject(columnIndex);
+        final LocalDateTime dateTime = getLocalDateTime(columnIndex);
+        if (dateTime == null) {
+            return null;
+        }
         return new Time(dateTime.getHour(), dateTime.getMinute(), dateTime.getSecond());
     }
 
+    /**
+     * Returns the date-time at position in the zone of its column, or null.
+     */
+    private LocalDateTime getLocalDateTime(final int position) throws SQLException {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
+            return null;
+        }
+        final IColumn values = nonNullColumn(column);
+        if (values instanceof ColumnDateTime) {
+            return ((ColumnDateTime) values).localDateTime(currentRowNum);
+        }
+        return ((ZonedDateTime) column.value(currentRowNum)).toLocalDateTime();
+    }
+
     @Override
     public BigDecimal getBigDecimal(final int position) throws SQLException {
-        final Object data = getInternalObject(position);
-        if (data == null) {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
             return null;
         }
+        final IColumn values = nonNullColumn(column);
+        if (values instanceof ColumnUInt64) {
+            return new BigDecimal(ColumnUInt64.toBigInteger(values.longValue(currentRowNum)));
+        }
+        final Object data = column.value(currentRowNum);
         if (data instanceof BigDecimal) {
             return ((BigDecimal) data);
         }
@@ -313,20 +352,30 @@ public class ByteHouseResultSet implements SQLResultSet {
 
     @Override
     public String getString(final int position) throws SQLException {
-        final Object data = getInternalObject(position);
-        if (data == null) {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
             return null;
         }
+        final IColumn values = nonNullColumn(column);
+        if (values instanceof ColumnUInt64) {
+            return ((ColumnUInt64) values).stringValue(currentRowNum);
+        }
+        final Object data = column.value(currentRowNum);
         // TODO format by IDataType
         return data.toString();
     }
 
     @Override
     public byte[] getBytes(final int position) throws SQLException {
-        final Object data = getInternalObject(position);
-        if (data == null) {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
             return null;
         }
+        final byte[] bytes = column.bytesValue(currentRowNum);
+        if (bytes != null) {
+            return bytes;
+        }
+        final Object data = column.value(currentRowNum);
         if (data instanceof String) {
             return ((String) data).getBytes(cfg.charset());
         }
@@ -355,10 +404,15 @@ public class ByteHouseResultSet implements SQLResultSet {
 
     @Override
     public Object getObject(final int position) throws SQLException {
-        final Object obj = getInternalObject(position);
-        if (obj == null) {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
             return null;
         }
+        final IColumn values = nonNullColumn(column);
+        if (values instanceof ColumnDateTime) {
+            return ((ColumnDateTime) values).timestamp(currentRowNum);
+        }
+        final Object obj = column.value(currentRowNum);
         if (obj instanceof ZonedDateTime) {
             return DateTimeUtil.toTimestamp((ZonedDateTime) obj, null);
         }
@@ -372,7 +426,76 @@ public class ByteHouseResultSet implements SQLResultSet {
         return obj;
     }
 
+    /**
+     * Returns the value as the given class. BitMap64 values are also returned as a
+     * {@link Roaring64NavigableMap}, without listing their members.
+     */
+    @Override
+    public <T> T getObject(final int position, final Class<T> type) throws SQLException {
+        final IColumn column = getInternalColumn(position);
+        if (column.isNull(currentRowNum)) {
+            return null;
+        }
+        final IColumn values = nonNullColumn(column);
+        if (values instanceof ColumnBitMap64 && type == Roaring64NavigableMap.class) {
+            return type.cast(((ColumnBitMap64) values).bitmap(currentRowNum));
+        }
+        final Object obj = getObject(position);
+        if (type.isInstance(obj)) {
+            return type.cast(obj);
+        }
+        throw new SQLFeatureNotSupportedException("Currently not support getObject as " + type
+                + " from class: " + obj.getClass());
+    }
+
+    /**
+     * Returns the column at position in the current block, which holds the values of all the
+     * rows of the block, e.g. a {@link com.bytedance.bytehouse.data.ColumnTuple} to read one
+     * element of every row through {@link com.bytedance.bytehouse.data.ColumnTuple#element(int)}.
+     * The current row is {@link #getBlockRow()} of the column. The column is only valid until
+     * {@link #next()} moves past the last row of the block.
+     */
+    public IColumn getColumn(final int position) throws SQLException {
+        ValidateUtils.isTrue(currentRowNum >= 0 && currentRowNum < currentBlock.rowCnt(),
+                "No row information was obtained. You must call "
+                        + "ResultSet.next() before that.");
+        return currentBlock.getColumn(position - 1);
+    }
+
+    public IColumn getColumn(final String name) throws SQLException {
+        return this.getColumn(this.findColumn(name));
+    }
+
+    /**
+     * Returns the index of the current row in the columns of the current block, see
+     * {@link #getColumn(int)}.
+     */
+    public int getBlockRow() {
+        return currentRowNum;
+    }
+
+    /**
+     * Returns the number of rows of the current block.
+     */
+    public int getBlockRowCount() {
+        return currentBlock.rowCnt();
+    }
+
+    /**
+     * Returns the column holding the values of column, i.e. the nested column of a Nullable.
+     */
+    private static IColumn nonNullColumn(final IColumn column) {
+        return column instanceof ColumnNullable ? ((ColumnNullable) column).nested() : column;
+    }
+
     private Object getInternalObject(final int position) throws SQLException {
+        return getInternalColumn(position).value(currentRowNum);
+    }
+
+    /**
+     * Returns the column at position in the current block and records it for {@link #wasNull()}.
+     */
+    private IColumn getInternalColumn(final int position) throws SQLException {
         if (LOG.isTraceEnabled()) {
             LOG.trace("get object at row: {}, column position: {} from block with "
                             + "column count: {}, row count: {}",
@@ -381,10 +504,9 @@ public class ByteHouseResultSet implements SQLResultSet {
         ValidateUtils.isTrue(currentRowNum >= 0 && currentRowNum < currentBlock.rowCnt(),
                 "No row information was obtained. You must call "
                         + "ResultSet.next() before that.");
-        final IColumn column = (lastFetchBlock = currentBlock).getColumn(
-                (lastFetchColumnIdx = position - 1)
-        );
-        return column.value((lastFetchRowIdx = currentRowNum));
+        lastFetchRowIdx = currentRowNum;
+        lastFetchColumn = (lastFetchBlock = currentBlock).getColumn((lastFetchColumnIdx = position - 1));
+        return lastFetchColumn;
     }
 
     @Override
@@ -465,7 +587,7 @@ public class ByteHouseResultSet implements SQLResultSet {
                 lastFetchRowIdx >= 0 && lastFetchRowIdx < lastFetchBlock.rowCnt(),
                 "Please call Result.next()"
         );
-        return lastFetchBlock.getColumn(lastFetchColumnIdx).value(lastFetchRowIdx) == null;
+        return lastFetchColumn.isNull(lastFetchRowIdx);
     }
 
     @Override
@@ -15,11 +15,14 @@
  */
 package com.bytedance.bytehouse.jdbc;
 
+import com.bytedance.bytehouse.data.IColumn;
 import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.jdbc.wrapper.SQLStruct;
 import com.bytedance.bytehouse.log.Logger;
 import com.bytedance.bytehouse.log.LoggerFactoryUtils;
 import com.bytedance.bytehouse.misc.ValidateUtils;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.sql.SQLException;
 import java.util.Map;
@@ -36,13 +39,29 @@ public class ByteHouseStruct implements SQLStruct, Serializable {
 
     private final String type;
 
-    private final Object[] attributes;
+    // for a view, created on first use
+    private Object[] attributes;
+
+    // for a view, the attributes are the values of the row in the columns
+    private transient IColumn[] attributeColumns;
+
+    private transient int row;
 
     public ByteHouseStruct(String type, Object[] attributes) {
         this.type = type;
         this.attributes = attributes;
     }
 
+    /**
+     * Creates a view over a row of attribute columns, e.g. a row of a Tuple result column.
+     * Nothing is read until {@link #getAttributes()} or {@link #getAttribute(int)}.
+     */
+    public ByteHouseStruct(String type, IColumn[] attributeColumns, int row) {
+        this.type = type;
+        this.attributeColumns = attributeColumns;
+        this.row = row;
+    }
+
     @Override
     public String getSQLTypeName() throws SQLException {
         return type;
@@ -50,11 +69,20 @@ public class ByteHouseStruct implements SQLStruct, Serializable {
 
     @Override
     public Object[] getAttributes() throws SQLException {
-        return attributes;
+        return attributes();
+    }
+
+    /**
+     * Returns the attribute at index, starting with 0, without reading the other attributes
+     * of a view.
+     */
+    public Object getAttribute(int index) {
+        return attributes == null ? attributeColumns[index].value(row) : attributes[index];
     }
 
     @Override
     public Object[] getAttributes(Map<String, Class<?>> map) throws SQLException {
+        Object[] attributes = attributes();
         int i = 0;
         Object[] res = new Object[map.size()];
         for (String attrName : map.keySet()) {
@@ -80,7 +108,7 @@ public class ByteHouseStruct implements SQLStruct, Serializable {
     @Override
     public String toString() {
         StringJoiner joiner = new StringJoiner(",", "(", ")");
-        for (Object item : attributes) {
+        for (Object item : attributes()) {
             // TODO format by itemDataType
             joiner.add(String.valueOf(item));
         }
@@ -89,6 +117,7 @@ public class ByteHouseStruct implements SQLStruct, Serializable {
 
     // actually we should hold nestedTypes on this
     public ByteHouseStruct mapAttributes(IDataType<?, ?>[] nestedTypes, BiFunction<IDataType<?, ?>, Object, Object> mapFunc) {
+        Object[] attributes = attributes();
         assert nestedTypes.length == attributes.length;
         Object[] mapped = new Object[attributes.length];
         for (int i = 0; i < attributes.length; i++) {
@@ -96,4 +125,20 @@ public class ByteHouseStruct implements SQLStruct, Serializable {
         }
         return new ByteHouseStruct(type, mapped);
     }
+
+    private Object[] attributes() {
+        if (attributes == null) {
+            final Object[] res = new Object[attributeColumns.length];
+            for (int i = 0; i < res.length; i++) {
+                res[i] = attributeColumns[i].value(row);
+            }
+            attributes = res;
+        }
+        return attributes;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        attributes();
+        out.defaultWriteObject();
+    }
 }
@@ -0,0 +1,43 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.jdbc;
+
+import com.bytedance.bytehouse.client.NativeContext;
+
+/**
+ * {@link ByteHouseConnection} borrowed from a {@link ByteHouseConnectionPool}. Closing it hands
+ * the physical connection back to the pool instead of disconnecting.
+ */
+final class PooledByteHouseConnection extends ByteHouseConnection {
+
+    private final ByteHouseConnectionPool pool;
+
+    private final ByteHouseConnectionPool.PooledEntry entry;
+
+    PooledByteHouseConnection(
+            final ByteHouseConnectionPool pool,
+            final ByteHouseConnectionPool.PooledEntry entry
+    ) {
+        super(entry.cfg, entry.ctx);
+        this.pool = pool;
+        this.entry = entry;
+    }
+
+    @Override
+    protected void release(final NativeContext ctx) {
+        pool.release(this, entry, ctx);
+    }
+}
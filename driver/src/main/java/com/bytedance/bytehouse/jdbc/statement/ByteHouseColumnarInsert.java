@@ -0,0 +1,235 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.jdbc.statement;
+
+import com.bytedance.bytehouse.client.ServerContext;
+import com.bytedance.bytehouse.data.Block;
+import com.bytedance.bytehouse.data.DataTypeConverter;
+import com.bytedance.bytehouse.data.IColumn;
+import com.bytedance.bytehouse.exception.ByteHouseSQLException;
+import com.bytedance.bytehouse.jdbc.ByteHouseConnection;
+import com.bytedance.bytehouse.misc.DateTimeUtil;
+import com.bytedance.bytehouse.misc.ExceptionUtil;
+import com.bytedance.bytehouse.misc.SQLParserUtils;
+import com.bytedance.bytehouse.misc.ValidateUtils;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Columnar insert: the caller hands over one array per column for every block, and numeric
+ * and String columns are serialized straight from the array, without boxing, converting and
+ * dispatching every value.
+ * <p>
+ * Accepted arrays, by column type:
+ * <ul>
+ *     <li>Int8: {@code byte[]}; UInt8: {@code byte[]} or {@code short[]}</li>
+ *     <li>Int16: {@code short[]}; UInt16: {@code short[]} or {@code int[]}</li>
+ *     <li>Int32: {@code int[]}; UInt32: {@code int[]} or {@code long[]}</li>
+ *     <li>Int64, UInt64: {@code long[]}</li>
+ *     <li>Float32: {@code float[]}; Float64: {@code double[]}</li>
+ *     <li>String: {@code String[]} (any {@code CharSequence[]}) or {@code byte[][]}</li>
+ *     <li>UUID: {@code long[]} of two longs per row, the most significant bits first</li>
+ *     <li>IPv4: {@code int[]} or {@code long[]}; IPv6: {@code byte[]} of 16 bytes per row</li>
+ *     <li>any type: {@code Object[]} of values accepted by {@code PreparedStatement.setObject},
+ *     converted one by one</li>
+ * </ul>
+ * Unsigned columns given as the signed array of the same width take the raw bits.
+ * <p>
+ * Usage:
+ * <pre>{@code
+ * try (ByteHouseColumnarInsert insert = connection.prepareColumnarInsert("INSERT INTO t (id, name) VALUES")) {
+ *     insert.setColumn(1, ids);
+ *     insert.setColumn(2, names);
+ *     insert.sendBlock();
+ *     ...
+ *     insert.execute();
+ * }
+ * }</pre>
+ * The connection cannot run other statements until {@link #execute()} or {@link #close()}.
+ */
+public class ByteHouseColumnarInsert extends ByteHouseQueryId implements AutoCloseable {
+
+    private final ByteHouseConnection creator;
+
+    private final Block block;
+
+    private final DataTypeConverter dataTypeConverter;
+
+    // rows set per column for the current block, -1 if not set yet
+    private final int[] columnRows;
+
+    private int rowInsertedCount;
+
+    private boolean finished;
+
+    /**
+     * Starts the insert. Use {@link ByteHouseConnection#prepareColumnarInsert(String)}.
+     *
+     * @param insertQuery {@code INSERT INTO table [(columns)] VALUES}, optionally followed by
+     *                    a values part which is ignored
+     */
+    public ByteHouseColumnarInsert(
+            final ByteHouseConnection connection,
+            final ServerContext serverContext,
+            final String insertQuery
+    ) throws SQLException {
+        ValidateUtils.isTrue(SQLParserUtils.isInsertQuery(insertQuery), "not an insert query: " + insertQuery);
+        this.creator = connection;
+        this.dataTypeConverter = new DataTypeConverter(DateTimeUtil.chooseTimeZone(serverContext));
+
+        final String trimmed = insertQuery.trim();
+        final String queryPart = trimmed.toUpperCase(Locale.ROOT).endsWith("VALUES")
+                ? trimmed
+                : ExceptionUtil.rethrowSQLException(() -> SQLParserUtils.splitInsertQuery(trimmed).queryPart);
+        this.block = creator.getSampleBlock(consumeQueryId(), queryPart);
+        this.block.initWriteBuffer();
+        this.columnRows = new int[block.columnCnt()];
+        resetColumns();
+    }
+
+    public int columnCount() {
+        return block.columnCnt();
+    }
+
+    /**
+     * Returns the column at the given position, starting with 1, e.g. to inspect its type.
+     */
+    public IColumn getColumn(final int position) throws SQLException {
+        ValidateUtils.isTrue(position >= 1, "Position " + position + " is out of bound");
+        return block.getColumn(position - 1);
+    }
+
+    /**
+     * Sets all the values of a column for the next block.
+     *
+     * @param position column position, starting with 1
+     * @param array    one of the arrays accepted for the column type
+     */
+    public void setColumn(final int position, final Object array) throws SQLException {
+        ValidateUtils.isTrue(array != null && array.getClass().isArray(), "column values must be an array");
+        final int length = Array.getLength(array);
+        final int elementsPerRow = getColumn(position).type().elementsPerRow(array);
+        ValidateUtils.isTrue(length % elementsPerRow == 0, "array length " + length
+                + " is not a multiple of the " + elementsPerRow + " elements per row");
+        setColumn(position, array, length / elementsPerRow);
+    }
+
+    /**
+     * Sets the first {@code rows} values of the array as the values of a column for the
+     * next block.
+     *
+     * @param position column position, starting with 1
+     * @param array    one of the arrays accepted for the column type
+     * @param rows     number of rows of the block
+     */
+    public void setColumn(final int position, final Object array, final int rows) throws SQLException {
+        ValidateUtils.isTrue(!finished, "insert is already executed");
+        ValidateUtils.isTrue(array != null && array.getClass().isArray(), "column values must be an array");
+        final IColumn column = getColumn(position);
+        final int elementsPerRow = column.type().elementsPerRow(array);
+        ValidateUtils.isTrue(rows >= 0 && (long) rows * elementsPerRow <= Array.getLength(array),
+                "rows " + rows + " is out of bound of the array length " + Array.getLength(array));
+        final int idx = position - 1;
+
+        if (columnRows[idx] >= 0) {
+            column.reuseColumnWriterBuffer();
+            columnRows[idx] = -1;
+        }
+        try {
+            if (!column.type().serializeBinaryColumn(array, rows, column.getColumnWriterBuffer().column)) {
+                ValidateUtils.isTrue(array instanceof Object[], "column " + column.name() + " of type "
+                        + column.type().name() + " does not accept " + array.getClass().getSimpleName());
+                final Object[] values = (Object[]) array;
+                for (int row = 0; row < rows; row++) {
+                    column.write(dataTypeConverter.convertJdbcToJava(column.type(), values[row]));
+                }
+            }
+        } catch (SQLException | RuntimeException ex) {
+            // drop what was written of this column, the block stays consistent
+            column.reuseColumnWriterBuffer();
+            throw ex;
+        } catch (IOException ex) {
+            column.reuseColumnWriterBuffer();
+            throw new ByteHouseSQLException(-1, "Exception processing values for column: " + column.name(), ex);
+        }
+        columnRows[idx] = rows;
+    }
+
+    /**
+     * Sends the block made of the columns set since the last block. Every column must be set,
+     * with the same number of rows. A block without rows is not sent.
+     *
+     * @return number of rows sent
+     */
+    public int sendBlock() throws SQLException {
+        ValidateUtils.isTrue(!finished, "insert is already executed");
+        final int rows = columnRows.length == 0 ? 0 : columnRows[0];
+        for (int i = 0; i < columnRows.length; i++) {
+            ValidateUtils.isTrue(columnRows[i] >= 0, "column " + block.getColumn(i).name() + " is not set");
+            ValidateUtils.isTrue(columnRows[i] == rows, "column " + block.getColumn(i).name() + " has "
+                    + columnRows[i] + " rows, expected " + rows);
+        }
+        try {
+            // an empty block would end the insert on the server side
+            if (rows > 0) {
+                block.appendRows(rows);
+                rowInsertedCount += creator.sendBlock(block);
+            }
+        } finally {
+            block.reuseBlock();
+            resetColumns();
+        }
+        return rows;
+    }
+
+    /**
+     * Sends the pending block, if any, and completes the insert.
+     *
+     * @return total number of rows inserted
+     */
+    public int execute() throws SQLException {
+        ValidateUtils.isTrue(!finished, "insert is already executed");
+        for (final int rows : columnRows) {
+            if (rows >= 0) {
+                sendBlock();
+                break;
+            }
+        }
+        finished = true;
+        creator.sendInsertRequest(Block.empty());
+        return rowInsertedCount;
+    }
+
+    /**
+     * Completes the insert if {@link #execute()} was not called. Blocks already sent are
+     * inserted, columns set for a block that was not sent are dropped.
+     */
+    @Override
+    public void close() throws SQLException {
+        if (!finished) {
+            finished = true;
+            creator.sendInsertRequest(Block.empty());
+        }
+    }
+
+    private void resetColumns() {
+        for (int i = 0; i < columnRows.length; i++) {
+            columnRows[i] = -1;
+        }
+    }
+}
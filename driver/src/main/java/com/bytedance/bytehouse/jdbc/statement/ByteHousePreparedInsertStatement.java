@@ -18,7 +18,9 @@ package com.bytedance.bytehouse.jdbc.statement;
 import com.bytedance.bytehouse.client.ServerContext;
 import com.bytedance.bytehouse.data.DataTypeConverter;
 import com.bytedance.bytehouse.data.IColumn;
+import com.bytedance.bytehouse.data.IDataType;
 import com.bytedance.bytehouse.exception.ByteHouseClientException;
+import com.bytedance.bytehouse.exception.ByteHouseSQLException;
 import com.bytedance.bytehouse.jdbc.ByteHouseConnection;
 import com.bytedance.bytehouse.jdbc.ByteHouseResultSet;
 import com.bytedance.bytehouse.log.Logger;
@@ -27,6 +29,9 @@ import com.bytedance.bytehouse.misc.ExceptionUtil;
 import com.bytedance.bytehouse.misc.InfileCSVReaderUtils;
 import com.bytedance.bytehouse.misc.SQLParserUtils;
 import com.bytedance.bytehouse.stream.ValuesWithParametersNativeInputFormat;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Arrays;
@@ -46,6 +51,9 @@ public class ByteHousePreparedInsertStatement extends AbstractPreparedStatement
 
     private int rowInsertedCount;
 
+    // sends full blocks in the background, null if insert_pipeline_blocks is 0
+    private InsertBlockPipeline pipeline;
+
     public ByteHousePreparedInsertStatement(
             final String insertQueryPart,
             final String valuePart,
@@ -58,6 +66,9 @@ public class ByteHousePreparedInsertStatement extends AbstractPreparedStatement
         this.valuePart = valuePart;
         this.dataTypeConverter = new DataTypeConverter(tz);
         this.rowInsertedCount = 0;
+        if (cfg.insertPipelineBlocks() > 0) {
+            this.pipeline = new InsertBlockPipeline(conn, cfg.insertPipelineBlocks());
+        }
 
         initBlockIfPossible();
         final SQLParserUtils.DbTable dbTable = SQLParserUtils.extractDBAndTableName(insertQueryPart);
@@ -81,6 +92,9 @@ public class ByteHousePreparedInsertStatement extends AbstractPreparedStatement
     @Override
     public int executeUpdate() throws SQLException {
         addParameters();
+        if (pipeline != null) {
+            finishPipeline();
+        }
         int result = creator.sendInsertRequest(block);
         this.blockInit = false;
         this.block.initWriteBuffer();
@@ -103,10 +117,95 @@ public class ByteHousePreparedInsertStatement extends AbstractPreparedStatement
         if (block.rowCnt() < cfg.maxBlockSize()) {
             return;
         }
+        if (pipeline != null) {
+            block = pipeline.handOff(block);
+            return;
+        }
         rowInsertedCount += creator.sendBlock(block);
         block.reuseBlock();
     }
 
+    /**
+     * Inserts the records of a CSV stream. A block is sent every max_block_size rows, so the
+     * memory used does not depend on the size of the input; with insert_pipeline_blocks set,
+     * blocks are sent by a background thread while the next records are parsed.
+     * <p>
+     * If a record cannot be read or converted, the insert is aborted by closing the connection
+     * to the server, which is reopened by the next query. Blocks sent before may be inserted.
+     *
+     * @return number of rows inserted
+     */
+    public int executeCSV(final InfileCSVReaderUtils.CSVStream csv) throws SQLException {
+        initBlockIfPossible();
+        final int fieldCnt = csv.getColumnCount();
+        final int[] columnIdxes = csvColumnIdxes(csv);
+        final IDataType<?, ?>[] types = new IDataType<?, ?>[fieldCnt];
+        for (int i = 0; i < fieldCnt; i++) {
+            types[i] = block.getColumn(columnIdxes[i]).type();
+        }
+        try {
+            while (csv.next()) {
+                for (int i = 0; i < fieldCnt; i++) {
+                    block.setObject(columnIdxes[i], dataTypeConverter.convertJdbcToJava(types[i], csv.get(i)));
+                }
+                addParameters();
+                executeBatchIfReachMaxSize();
+            }
+        } catch (SQLException | RuntimeException ex) {
+            abortInsert();
+            throw ex;
+        }
+        return finishInsert();
+    }
+
+    /**
+     * Inserts a CSV file with {@code parallelism} threads parsing and encoding the records,
+     * see {@link ParallelCSVLoader}. Blocks are sent in the order of the file. With a
+     * parallelism of 1, this is {@link #executeCSV(InfileCSVReaderUtils.CSVStream)}.
+     *
+     * @param csv          the file, opened to read its header and column count
+     * @param fileLocation the file, read again in chunks
+     * @return number of rows inserted
+     */
+    public int executeCSV(
+            final InfileCSVReaderUtils.CSVStream csv,
+            final String fileLocation,
+            final String csvDelimiter,
+            final int parallelism
+    ) throws SQLException {
+        if (parallelism <= 1) {
+            return executeCSV(csv);
+        }
+        initBlockIfPossible();
+        final ParallelCSVLoader loader = new ParallelCSVLoader(
+                block,
+                dataTypeConverter,
+                InfileCSVReaderUtils.csvFormat(csvDelimiter),
+                // same charset as the CSVStream
+                cfg.charset(),
+                csvColumnIdxes(csv),
+                cfg.maxBlockSize(),
+                parallelism,
+                ParallelCSVLoader.DEFAULT_CHUNK_SIZE,
+                creator::sendBlock
+        );
+        try (InputStream in = new FileInputStream(fileLocation)) {
+            rowInsertedCount += loader.load(in, !csv.getHeaders().isEmpty());
+        } catch (SQLException | RuntimeException ex) {
+            abortInsert();
+            throw ex;
+        } catch (IOException ex) {
+            abortInsert();
+            throw new ByteHouseSQLException(-1, "failed to read csv: " + ex.getMessage(), ex);
+        }
+        return finishInsert();
+    }
+
+    /**
+     * Replays a CSV file read in memory, use {@link #executeCSV(InfileCSVReaderUtils.CSVStream)}
+     * instead.
+     */
+    @Deprecated
     public int executeCSVBlock(InfileCSVReaderUtils.CSVBlock csvBlock, boolean hasHeader) throws SQLException {
         for (List<String> recordList: csvBlock.getRows()) {
             for (int i=0; i<recordList.size(); i++) {
@@ -125,18 +224,22 @@ public class ByteHousePreparedInsertStatement extends AbstractPreparedStatement
 
     @Override
     public int[] executeBatch() throws SQLException {
-        rowInsertedCount += creator.sendInsertRequest(block);
-        final int[] result = new int[rowInsertedCount];
+        final int[] result = new int[finishInsert()];
         Arrays.fill(result, 1);
         clearBatch();
-        this.blockInit = false;
-        this.block.initWriteBuffer();
-        this.rowInsertedCount = 0;
         return result;
     }
 
     @Override
     public void close() throws SQLException {
+        if (pipeline != null) {
+            try {
+                pipeline.finish();
+            } catch (SQLException ex) {
+                LOG.warn("insert blocks were not all sent before close: {}", ex.getMessage());
+            }
+            pipeline = null;
+        }
         if (blockInit) {
             this.blockInit = false;
             this.block.initWriteBuffer();
@@ -170,6 +273,54 @@ public class ByteHousePreparedInsertStatement extends AbstractPreparedStatement
         return sb.toString();
     }
 
+    // column index of each field of the csv records
+    private int[] csvColumnIdxes(final InfileCSVReaderUtils.CSVStream csv) throws SQLException {
+        final int[] columnIdxes = new int[csv.getColumnCount()];
+        for (int i = 0; i < columnIdxes.length; i++) {
+            final int position = csv.getHeaders().isEmpty() ? i + 1 : block.getPositionByName(csv.getHeaders().get(i));
+            columnIdxes[i] = block.paramIdx2ColumnIdx(position - 1);
+        }
+        return columnIdxes;
+    }
+
+    private int finishInsert() throws SQLException {
+        if (pipeline != null) {
+            finishPipeline();
+        }
+        final int rows = rowInsertedCount + creator.sendInsertRequest(block);
+        this.blockInit = false;
+        this.block.initWriteBuffer();
+        this.rowInsertedCount = 0;
+        return rows;
+    }
+
+    private void abortInsert() {
+        if (pipeline != null) {
+            try {
+                pipeline.finish();
+            } catch (SQLException ex) {
+                pipeline = new InsertBlockPipeline(creator, cfg.insertPipelineBlocks());
+            }
+        }
+        creator.abortInsert();
+        this.blockInit = false;
+        this.block.initWriteBuffer();
+        this.rowInsertedCount = 0;
+    }
+
+    private void finishPipeline() throws SQLException {
+        try {
+            rowInsertedCount += pipeline.finish();
+        } catch (SQLException ex) {
+            // the insert is broken, start the next one with an empty block and a new pipeline
+            pipeline = new InsertBlockPipeline(creator, cfg.insertPipelineBlocks());
+            this.blockInit = false;
+            this.block.initWriteBuffer();
+            this.rowInsertedCount = 0;
+            throw ex;
+        }
+    }
+
     private void initBlockIfPossible() throws SQLException {
         if (this.blockInit) {
             return;
@@ -128,10 +128,15 @@ public class ByteHouseStatement extends ByteHouseQueryId implements Statement, S
                 final SQLParserUtils.InsertInfileQueryParts parts = SQLParserUtils.splitInsertInfileQuery(query);
 
                 boolean hasHeader = parts.formatPart.equals(CSV_WITH_HEADER_IDENTIFIER);
-                InfileCSVReaderUtils.CSVBlock csvBlock = InfileCSVReaderUtils.fromCSV(parts.fileLocationPart, this.creator.cfg().formatCSVDelimiter(), hasHeader);
-                final String insertQuery = SQLParserUtils.appendQuestionMarks(parts.queryPart, csvBlock.getColumnCount());
-                ByteHousePreparedInsertStatement preparedStatement = (ByteHousePreparedInsertStatement) this.creator.prepareStatement(insertQuery);
-                return updateCount = preparedStatement.executeCSVBlock(csvBlock, hasHeader);
+                try (InfileCSVReaderUtils.CSVStream csv = InfileCSVReaderUtils.openCSV(
+                        parts.fileLocationPart, this.creator.cfg().formatCSVDelimiter(), hasHeader, this.cfg.charset())) {
+                    final String insertQuery = SQLParserUtils.appendQuestionMarks(parts.queryPart, csv.getColumnCount());
+                    try (ByteHousePreparedInsertStatement preparedStatement =
+                                 (ByteHousePreparedInsertStatement) this.creator.prepareStatement(insertQuery)) {
+                        return updateCount = preparedStatement.executeCSV(csv, parts.fileLocationPart,
+                                this.creator.cfg().formatCSVDelimiter(), this.cfg.insertInfileParallelism());
+                    }
+                }
             } else {
                 final SQLParserUtils.DbTable dbTable = SQLParserUtils.extractDBAndTableName(query);
                 // other statement we return 0.
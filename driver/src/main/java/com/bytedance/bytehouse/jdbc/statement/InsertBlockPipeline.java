@@ -0,0 +1,187 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.jdbc.statement;
+
+import com.bytedance.bytehouse.data.Block;
+import com.bytedance.bytehouse.exception.ByteHouseSQLException;
+import com.bytedance.bytehouse.jdbc.ByteHouseConnection;
+import com.bytedance.bytehouse.log.Logger;
+import com.bytedance.bytehouse.log.LoggerFactoryUtils;
+import java.sql.SQLException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends the full blocks of a batch insert on a background thread, so that the next block
+ * is filled while the previous one is compressed and written to the socket.
+ * <p>
+ * At most {@code depth} full blocks are handed to the sender at a time, plus the block being
+ * filled: when they are all in use, {@link #handOff(Block)} waits for the sender to return
+ * one. A failure of the sender is thrown by the next {@link #handOff(Block)} or
+ * {@link #finish()}, blocks handed off after it are dropped.
+ */
+class InsertBlockPipeline {
+
+    private static final Logger LOG = LoggerFactoryUtils.getLogger(InsertBlockPipeline.class);
+
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+    private static final ExecutorService SENDERS = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "bytehouse-insert-sender-" + THREAD_ID.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // marks the end of the insert in the queue of full blocks
+    private static final Block END = Block.empty();
+
+    private final ByteHouseConnection creator;
+
+    private final BlockingQueue<Block> fullBlocks;
+
+    private final BlockingQueue<Block> freeBlocks;
+
+    private final int maxBlocks;
+
+    private int allocatedBlocks;
+
+    private int rowsSent;
+
+    private volatile Throwable failure;
+
+    private Future<?> sender;
+
+    /**
+     * @param depth number of full blocks the sender may hold, at least 1
+     */
+    InsertBlockPipeline(final ByteHouseConnection creator, final int depth) {
+        this.creator = creator;
+        // the block being filled is not counted in depth
+        this.maxBlocks = depth + 1;
+        this.fullBlocks = new ArrayBlockingQueue<>(depth + 1);
+        this.freeBlocks = new ArrayBlockingQueue<>(depth + 1);
+        // the first block is the one of the statement
+        this.allocatedBlocks = 1;
+    }
+
+    /**
+     * Hands a full block to the sender and returns an empty block to fill next, with the row
+     * data of the full one.
+     */
+    Block handOff(final Block full) throws SQLException {
+        throwIfFailed();
+        if (sender == null) {
+            sender = SENDERS.submit(this::sendLoop);
+        }
+        Block next = freeBlocks.poll();
+        if (next == null && allocatedBlocks < maxBlocks) {
+            next = full.cloneEmpty();
+            next.initWriteBuffer();
+            allocatedBlocks++;
+        }
+        put(full);
+        if (next == null) {
+            next = takeFreeBlock();
+        }
+        next.copyRowData(full);
+        return next;
+    }
+
+    /**
+     * Waits for every block handed off to be sent. The pipeline can then be used for the next
+     * insert, unless this threw.
+     *
+     * @return number of rows sent since the last call
+     */
+    int finish() throws SQLException {
+        if (sender != null) {
+            put(END);
+            try {
+                sender.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ByteHouseSQLException(-1, "interrupted while waiting for insert blocks to be sent", ex);
+            } catch (ExecutionException ex) {
+                failure = ex.getCause();
+            } finally {
+                sender = null;
+            }
+        }
+        throwIfFailed();
+        final int rows = rowsSent;
+        rowsSent = 0;
+        return rows;
+    }
+
+    private void sendLoop() {
+        while (true) {
+            final Block block;
+            try {
+                block = fullBlocks.take();
+            } catch (InterruptedException ex) {
+                failure = ex;
+                return;
+            }
+            if (block == END) {
+                return;
+            }
+            if (failure == null) {
+                try {
+                    rowsSent += creator.sendBlock(block);
+                } catch (Throwable th) {
+                    LOG.warn("failed to send insert block: {}", th.getMessage());
+                    failure = th;
+                }
+            }
+            block.reuseBlock();
+            freeBlocks.add(block);
+        }
+    }
+
+    private void throwIfFailed() throws SQLException {
+        final Throwable th = failure;
+        if (th == null) {
+            return;
+        }
+        if (th instanceof SQLException) {
+            throw (SQLException) th;
+        }
+        throw new ByteHouseSQLException(-1, "failed to send insert block: " + th.getMessage(), th);
+    }
+
+    private void put(final Block block) throws SQLException {
+        try {
+            fullBlocks.put(block);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ByteHouseSQLException(-1, "interrupted while handing off an insert block", ex);
+        }
+    }
+
+    private Block takeFreeBlock() throws SQLException {
+        try {
+            return freeBlocks.take();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ByteHouseSQLException(-1, "interrupted while waiting for an insert block", ex);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.jdbc.statement;
+
+import com.bytedance.bytehouse.data.Block;
+import com.bytedance.bytehouse.data.DataTypeConverter;
+import com.bytedance.bytehouse.data.IDataType;
+import com.bytedance.bytehouse.exception.ByteHouseSQLException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+/**
+ * Inserts a CSV file using several cores. The calling thread cuts the input into chunks that
+ * end on a record boundary, worker threads parse the chunks and encode them into blocks, and
+ * the calling thread sends the blocks of each chunk in the order of the file.
+ * <p>
+ * At most {@code 2 * parallelism} chunks are read ahead of the block being sent, which bounds
+ * the memory used. Chunks are cut after a line feed outside double quotes, so the input
+ * charset must encode line feeds and quotes as single ASCII bytes, which holds for UTF-8.
+ */
+class ParallelCSVLoader {
+
+    /**
+     * Sends a full block.
+     */
+    interface BlockSender {
+
+        /**
+         * @return number of rows sent
+         */
+        int send(Block block) throws SQLException;
+    }
+
+    static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    private static final AtomicInteger THREAD_ID = new AtomicInteger();
+
+    private final Block sampleBlock;
+
+    private final DataTypeConverter converter;
+
+    private final CSVFormat format;
+
+    private final Charset charset;
+
+    private final int[] columnIdxes;
+
+    private final IDataType<?, ?>[] types;
+
+    private final long maxBlockSize;
+
+    private final int parallelism;
+
+    private final int chunkSize;
+
+    private final BlockSender sender;
+
+    private final Queue<Block> freeBlocks = new ConcurrentLinkedQueue<>();
+
+    private final Queue<byte[]> freeChunks = new ConcurrentLinkedQueue<>();
+
+    /**
+     * @param sampleBlock block whose empty clones are filled, with the row data of the
+     *                    columns absent from the file
+     * @param columnIdxes index of the column of each field of a record
+     */
+    ParallelCSVLoader(
+            final Block sampleBlock,
+            final DataTypeConverter converter,
+            final CSVFormat format,
+            final Charset charset,
+            final int[] columnIdxes,
+            final long maxBlockSize,
+            final int parallelism,
+            final int chunkSize,
+            final BlockSender sender
+    ) throws SQLException {
+        this.sampleBlock = sampleBlock;
+        this.converter = converter;
+        this.format = format;
+        this.charset = charset;
+        this.columnIdxes = columnIdxes;
+        this.types = new IDataType<?, ?>[columnIdxes.length];
+        for (int i = 0; i < columnIdxes.length; i++) {
+            types[i] = sampleBlock.getColumn(columnIdxes[i]).type();
+        }
+        this.maxBlockSize = maxBlockSize;
+        this.parallelism = parallelism;
+        this.chunkSize = chunkSize;
+        this.sender = sender;
+    }
+
+    /**
+     * Inserts all the records of the input.
+     *
+     * @param skipHeader whether the first record is a header
+     * @return number of rows sent
+     */
+    int load(final InputStream in, final boolean skipHeader) throws SQLException {
+        final ExecutorService workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "bytehouse-csv-worker-" + THREAD_ID.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        final Deque<Future<List<Block>>> pending = new ArrayDeque<>();
+        int rows = 0;
+        try {
+            byte[] buf = new byte[chunkSize];
+            int len = 0;
+            boolean first = true;
+            boolean eof = false;
+            while (!eof) {
+                len += readFully(in, buf, len);
+                eof = len < buf.length;
+                final int end = eof ? len : lastRecordEnd(buf, len);
+                if (end == 0) {
+                    if (!eof) {
+                        // a record longer than the buffer
+                        buf = Arrays.copyOf(buf, buf.length * 2);
+                    }
+                    continue;
+                }
+                final byte[] chunk = buf;
+                final boolean header = first && skipHeader;
+                buf = takeChunk(len - end);
+                System.arraycopy(chunk, end, buf, 0, len - end);
+                len -= end;
+                first = false;
+
+                pending.add(workers.submit(() -> encode(chunk, end, header)));
+                while (pending.size() >= 2 * parallelism) {
+                    rows += send(pending.poll());
+                }
+            }
+            while (!pending.isEmpty()) {
+                rows += send(pending.poll());
+            }
+            return rows;
+        } catch (IOException ex) {
+            throw new ByteHouseSQLException(-1, "failed to read csv: " + ex.getMessage(), ex);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the end of the last complete record of the buffer, 0 if there is none.
+     */
+    static int lastRecordEnd(final byte[] buf, final int len) {
+        boolean quoted = false;
+        int end = 0;
+        for (int i = 0; i < len; i++) {
+            final byte b = buf[i];
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == '\n' && !quoted) {
+                end = i + 1;
+            }
+        }
+        return end;
+    }
+
+    private List<Block> encode(final byte[] chunk, final int len, final boolean skipHeader)
+            throws IOException, SQLException {
+        final List<Block> blocks = new ArrayList<>();
+        Block block = takeBlock();
+        try (CSVParser parser = format.parse(new InputStreamReader(new ByteArrayInputStream(chunk, 0, len), charset))) {
+            final Iterator<CSVRecord> records = parser.iterator();
+            if (skipHeader && records.hasNext()) {
+                records.next();
+            }
+            while (records.hasNext()) {
+                final CSVRecord record = records.next();
+                if (record.size() != columnIdxes.length) {
+                    throw new IllegalArgumentException("invalid csv format");
+                }
+                for (int i = 0; i < columnIdxes.length; i++) {
+                    block.setObject(columnIdxes[i], converter.convertJdbcToJava(types[i], record.get(i)));
+                }
+                block.appendRow();
+                if (block.rowCnt() >= maxBlockSize) {
+                    blocks.add(block);
+                    block = takeBlock();
+                }
+            }
+        }
+        if (block.rowCnt() > 0) {
+            blocks.add(block);
+        } else {
+            freeBlocks.add(block);
+        }
+        if (chunk.length == chunkSize) {
+            freeChunks.add(chunk);
+        }
+        return blocks;
+    }
+
+    private int send(final Future<List<Block>> future) throws SQLException {
+        final List<Block> blocks;
+        try {
+            blocks = future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ByteHouseSQLException(-1, "interrupted while encoding csv", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new ByteHouseSQLException(-1, "failed to encode csv: " + ex.getCause().getMessage(), ex.getCause());
+        }
+        int rows = 0;
+        for (final Block block : blocks) {
+            rows += sender.send(block);
+            block.reuseBlock();
+            freeBlocks.add(block);
+        }
+        return rows;
+    }
+
+    private Block takeBlock() {
+        Block block = freeBlocks.poll();
+        if (block == null) {
+            block = sampleBlock.cloneEmpty();
+            block.initWriteBuffer();
+        }
+        return block;
+    }
+
+    private byte[] takeChunk(final int minSize) {
+        if (minSize <= chunkSize) {
+            final byte[] chunk = freeChunks.poll();
+            return chunk != null ? chunk : new byte[chunkSize];
+        }
+        // keep room to read more of the long record
+        return new byte[minSize * 2];
+    }
+
+    private static int readFully(final InputStream in, final byte[] buf, final int offset) throws IOException {
+        int read = 0;
+        while (offset + read < buf.length) {
+            final int n = in.read(buf, offset + read, buf.length - offset - read);
+            if (n < 0) {
+                break;
+            }
+            read += n;
+        }
+        return read;
+    }
+}
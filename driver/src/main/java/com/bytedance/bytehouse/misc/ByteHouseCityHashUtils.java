@@ -30,6 +30,8 @@ public final class ByteHouseCityHashUtils {
 
     private static final long K_MUL = 0x9ddfea08eb382d69L;
 
+    private static final byte[] EMPTY = new byte[0];
+
     ByteHouseCityHashUtils() {
         // no creation
     }
@@ -106,31 +108,31 @@ public final class ByteHouseCityHashUtils {
         return K2;
     }
 
-    private static long[] weakHashLen32WithSeeds(
-            long w, long x, long y, long z,
-            long a, long b) {
+    /**
+     * First half of WeakHashLen32WithSeeds(s[pos..pos+32), a, b), which does not depend on b.
+     */
+    private static long weakHashLen32First(byte[] s, int pos, long a) {
+        return a + fetch64(s, pos) + fetch64(s, pos + 8) + fetch64(s, pos + 16) + fetch64(s, pos + 24);
+    }
 
+    /**
+     * Second half of WeakHashLen32WithSeeds(s[pos..pos+32), a, b).
+     */
+    private static long weakHashLen32Second(byte[] s, int pos, long a, long b) {
+        final long w = fetch64(s, pos);
+        final long x = fetch64(s, pos + 8);
+        final long y = fetch64(s, pos + 16);
+        final long z = fetch64(s, pos + 24);
         a += w;
         b = rotate(b + a + z, 21);
         long c = a;
         a += x;
         a += y;
         b += rotate(a, 44);
-        return new long[]{a + z, b + c};
-    }
-
-    private static long[] weakHashLen32WithSeeds(byte[] s, int pos, long a, long b) {
-        return weakHashLen32WithSeeds(
-                fetch64(s, pos + 0),
-                fetch64(s, pos + 8),
-                fetch64(s, pos + 16),
-                fetch64(s, pos + 24),
-                a,
-                b
-        );
+        return b + c;
     }
 
-    private static long[] cityMurmur(byte[] s, int pos, int len, long seed0, long seed1) {
+    private static void cityMurmur(byte[] s, int pos, int len, long seed0, long seed1, long[] out) {
 
         long a = seed0;
         long b = seed1;
@@ -163,34 +165,44 @@ public final class ByteHouseCityHashUtils {
         a = hashLen16(a, c);
         b = hashLen16(d, b);
 
-        return new long[]{a ^ b, hashLen16(b, a)};
+        out[0] = a ^ b;
+        out[1] = hashLen16(b, a);
     }
 
-    private static long[] cityHash128WithSeed(byte[] s, int pos, int len, long seed0, long seed1) {
+    // v and w of the reference implementation are kept in locals (v0, v1, w0, w1), so that
+    // hashing does not allocate.
+    private static void cityHash128WithSeed(byte[] s, int pos, int len, long seed0, long seed1, long[] out) {
         if (len < 128) {
-            return cityMurmur(s, pos, len, seed0, seed1);
+            cityMurmur(s, pos, len, seed0, seed1, out);
+            return;
         }
 
-        long[] v = new long[2], w = new long[2];
         long x = seed0;
         long y = seed1;
         long z = K1 * len;
-        v[0] = rotate(y ^ K1, 49) * K1 + fetch64(s, pos);
-        v[1] = rotate(v[0], 42) * K1 + fetch64(s, pos + 8);
-        w[0] = rotate(y + z, 35) * K1 + x;
-        w[1] = rotate(x + fetch64(s, pos + 88), 53) * K1;
+        long v0 = rotate(y ^ K1, 49) * K1 + fetch64(s, pos);
+        long v1 = rotate(v0, 42) * K1 + fetch64(s, pos + 8);
+        long w0 = rotate(y + z, 35) * K1 + x;
+        long w1 = rotate(x + fetch64(s, pos + 88), 53) * K1;
+        long a;
+        long b;
 
         // This is the same inner loop as CityHash64(), manually unrolled.
         do {
-            x = rotate(x + y + v[0] + fetch64(s, pos + 16), 37) * K1;
-            y = rotate(y + v[1] + fetch64(s, pos + 48), 42) * K1;
+            x = rotate(x + y + v0 + fetch64(s, pos + 16), 37) * K1;
+            y = rotate(y + v1 + fetch64(s, pos + 48), 42) * K1;
 
-            x ^= w[1];
-            y ^= v[0];
+            x ^= w1;
+            y ^= v0;
 
-            z = rotate(z ^ w[0], 33);
-            v = weakHashLen32WithSeeds(s, pos, v[1] * K1, x + w[0]);
-            w = weakHashLen32WithSeeds(s, pos + 32, z + w[1], y);
+            z = rotate(z ^ w0, 33);
+            a = v1 * K1;
+            b = x + w0;
+            v0 = weakHashLen32First(s, pos, a);
+            v1 = weakHashLen32Second(s, pos, a, b);
+            a = z + w1;
+            w0 = weakHashLen32First(s, pos + 32, a);
+            w1 = weakHashLen32Second(s, pos + 32, a, y);
 
             {
                 long swap = z;
@@ -198,13 +210,18 @@ public final class ByteHouseCityHashUtils {
                 x = swap;
             }
             pos += 64;
-            x = rotate(x + y + v[0] + fetch64(s, pos + 16), 37) * K1;
-            y = rotate(y + v[1] + fetch64(s, pos + 48), 42) * K1;
-            x ^= w[1];
-            y ^= v[0];
-            z = rotate(z ^ w[0], 33);
-            v = weakHashLen32WithSeeds(s, pos, v[1] * K1, x + w[0]);
-            w = weakHashLen32WithSeeds(s, pos + 32, z + w[1], y);
+            x = rotate(x + y + v0 + fetch64(s, pos + 16), 37) * K1;
+            y = rotate(y + v1 + fetch64(s, pos + 48), 42) * K1;
+            x ^= w1;
+            y ^= v0;
+            z = rotate(z ^ w0, 33);
+            a = v1 * K1;
+            b = x + w0;
+            v0 = weakHashLen32First(s, pos, a);
+            v1 = weakHashLen32Second(s, pos, a, b);
+            a = z + w1;
+            w0 = weakHashLen32First(s, pos + 32, a);
+            w1 = weakHashLen32Second(s, pos + 32, a, y);
             {
                 long swap = z;
                 z = x;
@@ -214,47 +231,62 @@ public final class ByteHouseCityHashUtils {
             len -= 128;
         } while (len >= 128);
 
-        y += rotate(w[0], 37) * K0 + z;
-        x += rotate(v[0] + z, 49) * K0;
+        y += rotate(w0, 37) * K0 + z;
+        x += rotate(v0 + z, 49) * K0;
 
         // If 0 < len < 128, hash up to 4 chunks of 32 bytes each from the end of s.
         for (int tailDone = 0; tailDone < len; ) {
             tailDone += 32;
-            y = rotate(y - x, 42) * K0 + v[1];
-            w[0] += fetch64(s, pos + len - tailDone + 16);
-            x = rotate(x, 49) * K0 + w[0];
-            w[0] += v[0];
-            v = weakHashLen32WithSeeds(s, pos + len - tailDone, v[0], v[1]);
+            y = rotate(y - x, 42) * K0 + v1;
+            w0 += fetch64(s, pos + len - tailDone + 16);
+            x = rotate(x, 49) * K0 + w0;
+            w0 += v0;
+            a = v0;
+            b = v1;
+            v0 = weakHashLen32First(s, pos + len - tailDone, a);
+            v1 = weakHashLen32Second(s, pos + len - tailDone, a, b);
         }
 
         // At this point our 48 bytes of state should contain more than
         // enough information for a strong 128-bit hash.  We use two
         // different 48-byte-to-8-byte hashes to get a 16-byte final result.
 
-        x = hashLen16(x, v[0]);
-        y = hashLen16(y, w[0]);
+        x = hashLen16(x, v0);
+        y = hashLen16(y, w0);
 
-        return new long[]{
-                hashLen16(x + v[1], w[1]) + y,
-                hashLen16(x + w[1], y + v[1])
-        };
+        out[0] = hashLen16(x + v1, w1) + y;
+        out[1] = hashLen16(x + w1, y + v1);
     }
 
     public static long[] cityHash128(byte[] s, int pos, int len) {
+        final long[] out = new long[2];
+        cityHash128(s, pos, len, out);
+        return out;
+    }
+
+    /**
+     * Same as {@link #cityHash128(byte[], int, int)}, but stores the two halves of the hash
+     * into {@code out} instead of allocating a new array.
+     */
+    public static void cityHash128(byte[] s, int pos, int len, long[] out) {
 
         if (len >= 16) {
-            return cityHash128WithSeed(
+            cityHash128WithSeed(
                     s, pos + 16,
                     len - 16,
                     fetch64(s, pos) ^ K3,
-                    fetch64(s, pos + 8));
+                    fetch64(s, pos + 8),
+                    out);
+            return;
         }
         if (len >= 8) {
-            return cityHash128WithSeed(
-                    new byte[0], 0, 0,
+            cityHash128WithSeed(
+                    EMPTY, 0, 0,
                     fetch64(s, pos) ^ (len * K0),
-                    fetch64(s, pos + len - 8) ^ K1);
+                    fetch64(s, pos + len - 8) ^ K1,
+                    out);
+            return;
         }
-        return cityHash128WithSeed(s, pos, len, K0, K1);
+        cityHash128WithSeed(s, pos, len, K0, K1, out);
     }
 }
@@ -26,6 +26,18 @@ import javax.annotation.Nullable;
 
 public class DateTimeUtil {
 
+    /**
+     * Returned by {@link #parseLocalTicks} and {@link #parseEpochDay} for text in another format.
+     */
+    public static final long NOT_PARSED = Long.MIN_VALUE;
+
+    private static final long SECONDS_PER_DAY = 86400;
+
+    private static final long DAYS_0000_TO_1970 = 719528;
+
+    private static final int[] POW_10 = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000,
+            100_000_000, 1_000_000_000};
+
     public static ZoneId chooseTimeZone(final ServerContext serverContext) {
         return (boolean) serverContext.getConfigure().settings()
                 .getOrDefault(SettingKey.use_client_time_zone, false)
@@ -63,4 +75,166 @@ public class DateTimeUtil {
         }
         return Timestamp.from(zdt.withZoneSameLocal(tz).toInstant());
     }
+
+    /**
+     * Parses {@code yyyy-[m]m-[d]d} followed by an optional {@code ( |T)[h]h:[m]m:[s]s[.f...]},
+     * the formats of {@link Timestamp#valueOf} and {@link java.sql.Date#valueOf}, without creating
+     * any object. Fraction digits beyond the scale are truncated.
+     *
+     * @param text  date-time, leading and trailing whitespace is ignored
+     * @param scale number of fraction digits of the result, between 0 and 9
+     * @return ticks of 10^-scale seconds since 1970-01-01T00:00 in local time, or
+     * {@link #NOT_PARSED}
+     */
+    public static long parseLocalTicks(final CharSequence text, final int scale) {
+        int end = text.length();
+        int pos = 0;
+        while (pos < end && text.charAt(pos) <= ' ') {
+            pos++;
+        }
+        while (end > pos && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        final int dateEnd = dateEnd(text, pos, end);
+        if (dateEnd < 0) {
+            return NOT_PARSED;
+        }
+        final long day = epochDay(text, pos);
+        if (day == NOT_PARSED) {
+            return NOT_PARSED;
+        }
+        long seconds = day * SECONDS_PER_DAY;
+        long fraction = 0;
+        if (dateEnd < end) {
+            final char separator = text.charAt(dateEnd);
+            if (separator != ' ' && separator != 'T') {
+                return NOT_PARSED;
+            }
+            int from = dateEnd + 1;
+            int to = digitsEnd(text, from, end);
+            if (to - from < 1 || to - from > 2 || to == end || text.charAt(to) != ':') {
+                return NOT_PARSED;
+            }
+            final int hour = number(text, from, to);
+            from = to + 1;
+            to = digitsEnd(text, from, end);
+            if (to - from < 1 || to - from > 2 || to == end || text.charAt(to) != ':') {
+                return NOT_PARSED;
+            }
+            final int minute = number(text, from, to);
+            from = to + 1;
+            to = digitsEnd(text, from, end);
+            if (to - from < 1 || to - from > 2) {
+                return NOT_PARSED;
+            }
+            final int second = number(text, from, to);
+            if (hour > 23 || minute > 59 || second > 59) {
+                return NOT_PARSED;
+            }
+            if (to < end) {
+                from = to + 1;
+                to = digitsEnd(text, from, end);
+                if (text.charAt(from - 1) != '.' || to != end || to - from < 1 || to - from > 9) {
+                    return NOT_PARSED;
+                }
+                final int nanos = number(text, from, to) * POW_10[9 - (to - from)];
+                fraction = nanos / POW_10[9 - scale];
+            }
+            seconds += hour * 3600L + minute * 60L + second;
+        }
+        return seconds * POW_10[scale] + fraction;
+    }
+
+    /**
+     * Parses {@code yyyy-[m]m-[d]d}, the format of {@link java.sql.Date#valueOf}, without creating
+     * any object.
+     *
+     * @param text date, leading and trailing whitespace is ignored
+     * @return days since 1970-01-01, or {@link #NOT_PARSED}
+     */
+    public static long parseEpochDay(final CharSequence text) {
+        int end = text.length();
+        int pos = 0;
+        while (pos < end && text.charAt(pos) <= ' ') {
+            pos++;
+        }
+        while (end > pos && text.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        if (dateEnd(text, pos, end) != end) {
+            return NOT_PARSED;
+        }
+        return epochDay(text, pos);
+    }
+
+    /**
+     * Returns the end of the date starting at pos, or -1 if there is no date.
+     */
+    private static int dateEnd(final CharSequence text, final int pos, final int end) {
+        int to = digitsEnd(text, pos, end);
+        if (to - pos != 4 || to == end || text.charAt(to) != '-') {
+            return -1;
+        }
+        int from = to + 1;
+        to = digitsEnd(text, from, end);
+        if (to - from < 1 || to - from > 2 || to == end || text.charAt(to) != '-') {
+            return -1;
+        }
+        from = to + 1;
+        to = digitsEnd(text, from, end);
+        if (to - from < 1 || to - from > 2) {
+            return -1;
+        }
+        return to;
+    }
+
+    /**
+     * Returns the epoch day of the date starting at pos, checked by {@link #dateEnd}.
+     */
+    private static long epochDay(final CharSequence text, final int pos) {
+        final int year = number(text, pos, pos + 4);
+        final int monthEnd = digitsEnd(text, pos + 5, text.length());
+        final int month = number(text, pos + 5, monthEnd);
+        final int day = number(text, monthEnd + 1, digitsEnd(text, monthEnd + 1, text.length()));
+        final boolean leap = (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+        if (month < 1 || month > 12 || day < 1 || day > lengthOfMonth(month, leap)) {
+            return NOT_PARSED;
+        }
+        // same as LocalDate.toEpochDay for years from 0
+        long total = 365L * year + (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12 + day - 1;
+        if (month > 2) {
+            total -= leap ? 1 : 2;
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static int lengthOfMonth(final int month, final boolean leap) {
+        switch (month) {
+            case 2:
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    private static int digitsEnd(final CharSequence text, int pos, final int end) {
+        while (pos < end && text.charAt(pos) >= '0' && text.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int number(final CharSequence text, final int from, final int to) {
+        int value = 0;
+        for (int i = from; i < to; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
 }
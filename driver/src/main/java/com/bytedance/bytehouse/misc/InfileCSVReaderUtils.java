@@ -17,10 +17,17 @@ package com.bytedance.bytehouse.misc;
 
 import jdk.nashorn.internal.ir.annotations.Immutable;
 import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
+import java.io.Closeable;
+import java.io.FileInputStream;
 import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -28,6 +35,36 @@ public class InfileCSVReaderUtils {
     private InfileCSVReaderUtils() {
     }
 
+    /**
+     * Returns the format of INSERT INFILE CSV files with the given delimiter.
+     */
+    public static CSVFormat csvFormat(String csvDelimiter) {
+        if (csvDelimiter.length() == 0) {
+            throw new IllegalArgumentException("invalid csv delimiter");
+        }
+        return CSVFormat.DEFAULT.withDelimiter(csvDelimiter.charAt(csvDelimiter.length()-1));
+    }
+
+    /**
+     * Opens a CSV file in the given charset for reading record by record, see {@link CSVStream}.
+     */
+    public static CSVStream openCSV(String fileLocation, String csvDelimiter, boolean hasHeader, Charset charset)
+            throws IOException {
+        CSVFormat format = csvFormat(csvDelimiter);
+        Reader in = new InputStreamReader(new FileInputStream(fileLocation), charset);
+        try {
+            CSVParser parser = format.parse(in);
+            return new CSVStream(parser, hasHeader);
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the whole file in memory, use {@link #openCSV(String, String, boolean, Charset)} instead.
+     */
+    @Deprecated
     public static CSVBlock fromCSV(String fileLocation, String csvDelimiter, boolean hasHeader) throws Exception {
         if (csvDelimiter.length() == 0) {
             throw new IllegalArgumentException("invalid csv delimiter");
@@ -65,6 +102,73 @@ public class InfileCSVReaderUtils {
         return new CSVBlock(headers, rows);
     }
 
+    /**
+     * Cursor over the records of a CSV file, which holds one record in memory at a time.
+     * The header, if any, and the first record are read when the stream is opened, to check
+     * that the file is not empty and to know the column count. Every record must have that
+     * many fields.
+     */
+    public static class CSVStream implements Closeable {
+        private final CSVParser parser;
+        private final Iterator<CSVRecord> records;
+        private final List<String> headers;
+        private final int colSize;
+        private CSVRecord next;
+        private CSVRecord current;
+
+        CSVStream(CSVParser parser, boolean hasHeader) {
+            this.parser = parser;
+            this.records = parser.iterator();
+            List<String> header = new ArrayList<>();
+            if (records.hasNext() && hasHeader) {
+                records.next().iterator().forEachRemaining(header::add);
+            }
+            this.headers = Collections.unmodifiableList(header);
+            this.next = records.hasNext() ? records.next() : null;
+            if ((hasHeader && headers.size() == 0) || next == null || next.size() == 0) {
+                throw new IllegalArgumentException("invalid csv format");
+            }
+            this.colSize = hasHeader ? headers.size() : next.size();
+        }
+
+        public List<String> getHeaders() {
+            return headers;
+        }
+
+        public int getColumnCount() {
+            return colSize;
+        }
+
+        /**
+         * Moves to the next record.
+         *
+         * @return false at the end of the file
+         */
+        public boolean next() {
+            current = next;
+            if (current == null) {
+                return false;
+            }
+            next = records.hasNext() ? records.next() : null;
+            if (current.size() != colSize) {
+                throw new IllegalArgumentException("invalid csv format at record " + current.getRecordNumber());
+            }
+            return true;
+        }
+
+        /**
+         * Returns a field of the current record, starting with 0.
+         */
+        public String get(int i) {
+            return current.get(i);
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
     @Immutable
     public static class CSVBlock {
         public List<String> headers;
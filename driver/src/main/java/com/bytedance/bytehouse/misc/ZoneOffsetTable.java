@@ -0,0 +1,169 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.misc;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Offsets of a time zone, cached by the interval between two transitions of the zone. Looking
+ * up an instant in an interval already seen is a binary search over a few entries instead of
+ * a {@link ZoneRules} lookup.
+ * <p>
+ * The table only grows. It is safe to share between threads: lookups read an immutable
+ * snapshot, and a concurrent insert at worst loses an interval that is computed again later.
+ */
+public final class ZoneOffsetTable {
+
+    private static final int SECONDS_PER_DAY = 86400;
+
+    private static final ConcurrentMap<ZoneId, ZoneOffsetTable> SHARED = new ConcurrentHashMap<>();
+
+    private final ZoneRules rules;
+
+    // offset of a zone without transitions
+    private final ZoneOffset fixedOffset;
+
+    private volatile Intervals intervals = new Intervals(new long[0], new long[0], new ZoneOffset[0]);
+
+    public ZoneOffsetTable(final ZoneId zone) {
+        this.rules = zone.getRules();
+        this.fixedOffset = rules.isFixedOffset() ? rules.getOffset(Instant.EPOCH) : null;
+    }
+
+    /**
+     * Returns the table of the zone shared by all callers, e.g. for the JVM default zone.
+     */
+    public static ZoneOffsetTable of(final ZoneId zone) {
+        final ZoneOffsetTable table = SHARED.get(zone);
+        return table != null ? table : SHARED.computeIfAbsent(zone, ZoneOffsetTable::new);
+    }
+
+    /**
+     * Returns the offset of the zone at the given instant.
+     */
+    public ZoneOffset offset(final long epochSecond) {
+        if (fixedOffset != null) {
+            return fixedOffset;
+        }
+        final Intervals snapshot = intervals;
+        final int idx = snapshot.find(epochSecond);
+        if (idx >= 0) {
+            return snapshot.offsets[idx];
+        }
+        return addInterval(snapshot, epochSecond);
+    }
+
+    /**
+     * Returns the instant of a local date-time of the zone, given in seconds since
+     * 1970-01-01T00:00. It is resolved like {@link java.time.LocalDateTime#atZone}: the earlier
+     * instant in an overlap, and the local date-time moved forward by the length of a gap.
+     */
+    public long toEpochSecond(final long localSecond) {
+        return toEpochSecond(localSecond, false);
+    }
+
+    /**
+     * Returns the instant of a local date-time of the zone like {@link #toEpochSecond(long)},
+     * but resolved like {@link java.util.GregorianCalendar} and so {@link java.sql.Timestamp#valueOf}:
+     * the later instant in an overlap.
+     */
+    public long toEpochSecondLikeCalendar(final long localSecond) {
+        return toEpochSecond(localSecond, true);
+    }
+
+    private long toEpochSecond(final long localSecond, final boolean laterInOverlap) {
+        if (fixedOffset != null) {
+            return localSecond - fixedOffset.getTotalSeconds();
+        }
+        // zones do not change their offset twice within a day
+        final int before = offset(localSecond - SECONDS_PER_DAY).getTotalSeconds();
+        final int after = offset(localSecond + SECONDS_PER_DAY).getTotalSeconds();
+        if (before != after
+                && offset(localSecond - after).getTotalSeconds() == after
+                && (laterInOverlap || offset(localSecond - before).getTotalSeconds() != before)) {
+            return localSecond - after;
+        }
+        return localSecond - before;
+    }
+
+    private ZoneOffset addInterval(final Intervals snapshot, final long epochSecond) {
+        final Instant instant = Instant.ofEpochSecond(epochSecond);
+        final ZoneOffset offset = rules.getOffset(instant);
+        // the last transition at or before the instant, and the first one after it
+        final ZoneOffsetTransition previous = rules.previousTransition(instant.plusSeconds(1));
+        final ZoneOffsetTransition next = rules.nextTransition(instant);
+        final long from = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+        final long until = next == null ? Long.MAX_VALUE : next.toEpochSecond();
+
+        final int size = snapshot.starts.length;
+        final int pos = -snapshot.find(epochSecond) - 1;
+        final long[] starts = new long[size + 1];
+        final long[] ends = new long[size + 1];
+        final ZoneOffset[] offsets = new ZoneOffset[size + 1];
+        System.arraycopy(snapshot.starts, 0, starts, 0, pos);
+        System.arraycopy(snapshot.ends, 0, ends, 0, pos);
+        System.arraycopy(snapshot.offsets, 0, offsets, 0, pos);
+        starts[pos] = from;
+        ends[pos] = until;
+        offsets[pos] = offset;
+        System.arraycopy(snapshot.starts, pos, starts, pos + 1, size - pos);
+        System.arraycopy(snapshot.ends, pos, ends, pos + 1, size - pos);
+        System.arraycopy(snapshot.offsets, pos, offsets, pos + 1, size - pos);
+        intervals = new Intervals(starts, ends, offsets);
+        return offset;
+    }
+
+    private static final class Intervals {
+
+        // sorted, disjoint intervals [starts[i], ends[i]) with a constant offset
+        final long[] starts;
+
+        final long[] ends;
+
+        final ZoneOffset[] offsets;
+
+        Intervals(final long[] starts, final long[] ends, final ZoneOffset[] offsets) {
+            this.starts = starts;
+            this.ends = ends;
+            this.offsets = offsets;
+        }
+
+        /**
+         * Returns the index of the interval holding epochSecond, or -(insertion point) - 1.
+         */
+        int find(final long epochSecond) {
+            int low = 0;
+            int high = starts.length - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                if (epochSecond < starts[mid]) {
+                    high = mid - 1;
+                } else if (epochSecond >= ends[mid]) {
+                    low = mid + 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -low - 1;
+        }
+    }
+}
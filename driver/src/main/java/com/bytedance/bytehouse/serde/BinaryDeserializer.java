@@ -19,6 +19,13 @@ import com.bytedance.bytehouse.buffer.BuffedReader;
 import com.bytedance.bytehouse.buffer.CompressedBuffedReader;
 import com.bytedance.bytehouse.misc.Switcher;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.nio.charset.StandardCharsets;
 
 /**
@@ -26,8 +33,27 @@ import java.nio.charset.StandardCharsets;
  */
 public class BinaryDeserializer {
 
+    /**
+     * size of the chunk the bulk reads copy out of the reader before decoding it.
+     */
+    private static final int BULK_BUFFER_BYTES = 8192;
+
     private final Switcher<BuffedReader> switcher;
 
+    private final byte[] bulkBuf = new byte[BULK_BUFFER_BYTES];
+
+    private final ByteBuffer bulkBytes = ByteBuffer.wrap(bulkBuf).order(ByteOrder.LITTLE_ENDIAN);
+
+    private final ShortBuffer bulkShorts = bulkBytes.asShortBuffer();
+
+    private final IntBuffer bulkInts = bulkBytes.asIntBuffer();
+
+    private final LongBuffer bulkLongs = bulkBytes.asLongBuffer();
+
+    private final FloatBuffer bulkFloats = bulkBytes.asFloatBuffer();
+
+    private final DoubleBuffer bulkDoubles = bulkBytes.asDoubleBuffer();
+
     private volatile boolean enableCompression;
 
     /**
@@ -39,9 +65,23 @@ public class BinaryDeserializer {
     public BinaryDeserializer(
             final BuffedReader buffedReader,
             final boolean enableCompression
+    ) {
+        this(buffedReader, enableCompression, false);
+    }
+
+    /**
+     * constructor.
+     *
+     * @param verifyChecksum whether the checksum of compressed frames is verified
+     * @see #BinaryDeserializer(BuffedReader, boolean)
+     */
+    public BinaryDeserializer(
+            final BuffedReader buffedReader,
+            final boolean enableCompression,
+            final boolean verifyChecksum
     ) {
         this.enableCompression = enableCompression;
-        final BuffedReader compressedReader = new CompressedBuffedReader(buffedReader);
+        final BuffedReader compressedReader = new CompressedBuffedReader(buffedReader, verifyChecksum);
         switcher = new Switcher<>(compressedReader, buffedReader);
     }
 
@@ -165,4 +205,120 @@ public class BinaryDeserializer {
         switcher.get().readBinary(bytes);
         return bytes;
     }
+
+    /**
+     * read {@code length} bytes into {@code dst} starting at {@code offset}.
+     */
+    public void readBytes(final byte[] dst, final int offset, final int length) throws IOException {
+        switcher.get().readBinary(dst, offset, length);
+    }
+
+    /**
+     * read {@code length} UInt8 values into {@code dst} starting at {@code offset}.
+     */
+    public void readUnsignedBytes(final short[] dst, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = fillBulkBuffer(length - done, Byte.BYTES);
+            for (int i = 0; i < n; i++) {
+                dst[offset + done + i] = (short) (bulkBuf[i] & 0xFF);
+            }
+            done += n;
+        }
+    }
+
+    /**
+     * read {@code length} little-endian shorts into {@code dst} starting at {@code offset}.
+     */
+    public void readShorts(final short[] dst, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = fillBulkBuffer(length - done, Short.BYTES);
+            bulkShorts.clear();
+            bulkShorts.get(dst, offset + done, n);
+            done += n;
+        }
+    }
+
+    /**
+     * read {@code length} little-endian UInt16 values into {@code dst} starting at {@code offset}.
+     */
+    public void readUnsignedShorts(final int[] dst, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = fillBulkBuffer(length - done, Short.BYTES);
+            for (int i = 0; i < n; i++) {
+                dst[offset + done + i] = bulkShorts.get(i) & 0xFFFF;
+            }
+            done += n;
+        }
+    }
+
+    /**
+     * read {@code length} little-endian ints into {@code dst} starting at {@code offset}.
+     */
+    public void readInts(final int[] dst, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = fillBulkBuffer(length - done, Integer.BYTES);
+            bulkInts.clear();
+            bulkInts.get(dst, offset + done, n);
+            done += n;
+        }
+    }
+
+    /**
+     * read {@code length} little-endian UInt32 values into {@code dst} starting at {@code offset}.
+     */
+    public void readUnsignedInts(final long[] dst, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = fillBulkBuffer(length - done, Integer.BYTES);
+            for (int i = 0; i < n; i++) {
+                dst[offset + done + i] = bulkInts.get(i) & 0xFFFFFFFFL;
+            }
+            done += n;
+        }
+    }
+
+    /**
+     * read {@code length} little-endian longs into {@code dst} starting at {@code offset}.
+     */
+    public void readLongs(final long[] dst, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = fillBulkBuffer(length - done, Long.BYTES);
+            bulkLongs.clear();
+            bulkLongs.get(dst, offset + done, n);
+            done += n;
+        }
+    }
+
+    /**
+     * read {@code length} little-endian floats into {@code dst} starting at {@code offset}.
+     */
+    public void readFloats(final float[] dst, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = fillBulkBuffer(length - done, Float.BYTES);
+            bulkFloats.clear();
+            bulkFloats.get(dst, offset + done, n);
+            done += n;
+        }
+    }
+
+    /**
+     * read {@code length} little-endian doubles into {@code dst} starting at {@code offset}.
+     */
+    public void readDoubles(final double[] dst, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = fillBulkBuffer(length - done, Double.BYTES);
+            bulkDoubles.clear();
+            bulkDoubles.get(dst, offset + done, n);
+            done += n;
+        }
+    }
+
+    /**
+     * copies as many of the {@code pending} values of {@code width} bytes as fit into
+     * {@link #bulkBuf} and returns how many were copied.
+     */
+    private int fillBulkBuffer(final int pending, final int width) throws IOException {
+        final int n = Math.min(pending, BULK_BUFFER_BYTES / width);
+        switcher.get().readBinary(bulkBuf, 0, n * width);
+        return n;
+    }
 }
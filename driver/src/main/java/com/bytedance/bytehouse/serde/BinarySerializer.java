@@ -20,6 +20,13 @@ import com.bytedance.bytehouse.buffer.CompressedBuffedWriter;
 import com.bytedance.bytehouse.misc.Switcher;
 import com.bytedance.bytehouse.settings.BHConstants;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.ShortBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -28,8 +35,27 @@ import java.nio.charset.StandardCharsets;
  */
 public class BinarySerializer {
 
+    /**
+     * size of the chunk the bulk writes encode before handing it to the writer.
+     */
+    private static final int BULK_BUFFER_BYTES = 8192;
+
     private final Switcher<BuffedWriter> switcher;
 
+    private final byte[] bulkBuf = new byte[BULK_BUFFER_BYTES];
+
+    private final ByteBuffer bulkBytes = ByteBuffer.wrap(bulkBuf).order(ByteOrder.LITTLE_ENDIAN);
+
+    private final ShortBuffer bulkShorts = bulkBytes.asShortBuffer();
+
+    private final IntBuffer bulkInts = bulkBytes.asIntBuffer();
+
+    private final LongBuffer bulkLongs = bulkBytes.asLongBuffer();
+
+    private final FloatBuffer bulkFloats = bulkBytes.asFloatBuffer();
+
+    private final DoubleBuffer bulkDoubles = bulkBytes.asDoubleBuffer();
+
     private volatile boolean enableCompression;
 
     public BinarySerializer(
@@ -75,43 +101,107 @@ public class BinarySerializer {
     }
 
     public void writeShort(final short i) throws IOException {
-        // @formatter:off
-        switcher.get().writeBinary((byte) ((i >> 0) & 0xFF));
-        switcher.get().writeBinary((byte) ((i >> 8) & 0xFF));
-        // @formatter:on
+        bulkBytes.putShort(0, i);
+        switcher.get().writeBinary(bulkBuf, 0, Short.BYTES);
     }
 
     public void writeInt(final int i) throws IOException {
-        // @formatter:off
-        switcher.get().writeBinary((byte) ((i >> 0) & 0xFF));
-        switcher.get().writeBinary((byte) ((i >> 8) & 0xFF));
-        switcher.get().writeBinary((byte) ((i >> 16) & 0xFF));
-        switcher.get().writeBinary((byte) ((i >> 24) & 0xFF));
-        // @formatter:on
+        bulkBytes.putInt(0, i);
+        switcher.get().writeBinary(bulkBuf, 0, Integer.BYTES);
     }
 
     public void writeLong(final long i) throws IOException {
-        // @formatter:off
-        switcher.get().writeBinary((byte) ((i >> 0) & 0xFF));
-        switcher.get().writeBinary((byte) ((i >> 8) & 0xFF));
-        switcher.get().writeBinary((byte) ((i >> 16) & 0xFF));
-        switcher.get().writeBinary((byte) ((i >> 24) & 0xFF));
-        switcher.get().writeBinary((byte) ((i >> 32) & 0xFF));
-        switcher.get().writeBinary((byte) ((i >> 40) & 0xFF));
-        switcher.get().writeBinary((byte) ((i >> 48) & 0xFF));
-        switcher.get().writeBinary((byte) ((i >> 56) & 0xFF));
-        // @formatter:on
+        bulkBytes.putLong(0, i);
+        switcher.get().writeBinary(bulkBuf, 0, Long.BYTES);
     }
 
     public void writeUTF8StringBinary(final String utf8) throws IOException {
-        writeStringBinary(utf8, StandardCharsets.UTF_8);
+        writeUTF8Binary(utf8);
     }
 
     public void writeStringBinary(final String data, Charset charset) throws IOException {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            writeUTF8Binary(data);
+            return;
+        }
         byte[] bs = data.getBytes(charset);
         writeBytesBinary(bs);
     }
 
+    /**
+     * write the length and the UTF-8 encoding of {@code chars}, encoded in chunks without
+     * creating a temporary array for the whole value.
+     */
+    public void writeUTF8Binary(final CharSequence chars) throws IOException {
+        writeVarInt(utf8Length(chars));
+        writeUTF8(chars);
+    }
+
+    /**
+     * write the UTF-8 encoding of {@code chars}, whose length is {@link #utf8Length}. Like
+     * {@link String#getBytes(Charset)}, an unpaired surrogate is encoded as '?'.
+     */
+    public void writeUTF8(final CharSequence chars) throws IOException {
+        final int length = chars.length();
+        final byte[] buf = bulkBuf;
+        int pos = 0;
+        for (int i = 0; i < length; i++) {
+            // room for the 4 bytes of a surrogate pair
+            if (pos > BULK_BUFFER_BYTES - 4) {
+                switcher.get().writeBinary(buf, 0, pos);
+                pos = 0;
+            }
+            final char c = chars.charAt(i);
+            if (c < 0x80) {
+                buf[pos++] = (byte) c;
+            } else if (c < 0x800) {
+                buf[pos++] = (byte) (0xC0 | (c >> 6));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                final char low = i + 1 < length ? chars.charAt(i + 1) : 0;
+                if (Character.isHighSurrogate(c) && Character.isLowSurrogate(low)) {
+                    final int cp = Character.toCodePoint(c, low);
+                    buf[pos++] = (byte) (0xF0 | (cp >> 18));
+                    buf[pos++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+                    buf[pos++] = (byte) (0x80 | (cp & 0x3F));
+                    i++;
+                } else {
+                    buf[pos++] = '?';
+                }
+            } else {
+                buf[pos++] = (byte) (0xE0 | (c >> 12));
+                buf[pos++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buf[pos++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        switcher.get().writeBinary(buf, 0, pos);
+    }
+
+    /**
+     * returns the number of bytes {@link #writeUTF8} writes for {@code chars}.
+     */
+    public static int utf8Length(final CharSequence chars) {
+        final int length = chars.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            final char c = chars.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                    // 4 bytes for the 2 chars of the pair
+                    bytes += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+            }
+        }
+        return bytes;
+    }
+
     public void writeBytesBinary(final byte[] bs) throws IOException {
         writeVarInt(bs.length);
         switcher.get().writeBinary(bs);
@@ -146,20 +236,82 @@ public class BinarySerializer {
     }
 
     public void writeDouble(final double datum) throws IOException {
-        long x = Double.doubleToLongBits(datum);
-        // @formatter:off
-        switcher.get().writeBinary((byte) ((x >>> 0) & 0xFF));
-        switcher.get().writeBinary((byte) ((x >>> 8) & 0xFF));
-        switcher.get().writeBinary((byte) ((x >>> 16) & 0xFF));
-        switcher.get().writeBinary((byte) ((x >>> 24) & 0xFF));
-        switcher.get().writeBinary((byte) ((x >>> 32) & 0xFF));
-        switcher.get().writeBinary((byte) ((x >>> 40) & 0xFF));
-        switcher.get().writeBinary((byte) ((x >>> 48) & 0xFF));
-        switcher.get().writeBinary((byte) ((x >>> 56) & 0xFF));
-        // @formatter:on
+        writeLong(Double.doubleToLongBits(datum));
     }
 
     public void writeBytes(final byte[] bytes) throws IOException {
         switcher.get().writeBinary(bytes);
     }
+
+    /**
+     * write {@code length} bytes of {@code src} starting at {@code offset}.
+     */
+    public void writeBytes(final byte[] src, final int offset, final int length) throws IOException {
+        switcher.get().writeBinary(src, offset, length);
+    }
+
+    /**
+     * write {@code length} shorts of {@code src} starting at {@code offset} in little-endian.
+     */
+    public void writeShorts(final short[] src, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = Math.min(length - done, BULK_BUFFER_BYTES / Short.BYTES);
+            bulkShorts.clear();
+            bulkShorts.put(src, offset + done, n);
+            switcher.get().writeBinary(bulkBuf, 0, n * Short.BYTES);
+            done += n;
+        }
+    }
+
+    /**
+     * write {@code length} ints of {@code src} starting at {@code offset} in little-endian.
+     */
+    public void writeInts(final int[] src, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = Math.min(length - done, BULK_BUFFER_BYTES / Integer.BYTES);
+            bulkInts.clear();
+            bulkInts.put(src, offset + done, n);
+            switcher.get().writeBinary(bulkBuf, 0, n * Integer.BYTES);
+            done += n;
+        }
+    }
+
+    /**
+     * write {@code length} longs of {@code src} starting at {@code offset} in little-endian.
+     */
+    public void writeLongs(final long[] src, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = Math.min(length - done, BULK_BUFFER_BYTES / Long.BYTES);
+            bulkLongs.clear();
+            bulkLongs.put(src, offset + done, n);
+            switcher.get().writeBinary(bulkBuf, 0, n * Long.BYTES);
+            done += n;
+        }
+    }
+
+    /**
+     * write {@code length} floats of {@code src} starting at {@code offset} in little-endian.
+     */
+    public void writeFloats(final float[] src, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = Math.min(length - done, BULK_BUFFER_BYTES / Float.BYTES);
+            bulkFloats.clear();
+            bulkFloats.put(src, offset + done, n);
+            switcher.get().writeBinary(bulkBuf, 0, n * Float.BYTES);
+            done += n;
+        }
+    }
+
+    /**
+     * write {@code length} doubles of {@code src} starting at {@code offset} in little-endian.
+     */
+    public void writeDoubles(final double[] src, final int offset, final int length) throws IOException {
+        for (int done = 0; done < length; ) {
+            final int n = Math.min(length - done, BULK_BUFFER_BYTES / Double.BYTES);
+            bulkDoubles.clear();
+            bulkDoubles.put(src, offset + done, n);
+            switcher.get().writeBinary(bulkBuf, 0, n * Double.BYTES);
+            done += n;
+        }
+    }
 }
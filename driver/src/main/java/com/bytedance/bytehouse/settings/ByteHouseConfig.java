@@ -89,6 +89,34 @@ public class ByteHouseConfig implements Serializable {
 
     private final boolean insertInfileLocal;
 
+    private final ConnectionValidation connectionValidation;
+
+    private final Duration connectionValidationIdleTime;
+
+    private final boolean connectionPool;
+
+    private final int poolMinIdle;
+
+    private final int poolMaxIdle;
+
+    private final int poolMaxSize;
+
+    private final Duration poolMaxWait;
+
+    private final Duration poolMaxLifetime;
+
+    private final Duration poolValidationInterval;
+
+    private final boolean verifyChecksum;
+
+    private final int insertPipelineBlocks;
+
+    private final int insertInfileParallelism;
+
+    private final int stringDedupCacheSize;
+
+    private final boolean uint64AsLong;
+
     private final Map<SettingKey, Serializable> settings;
 
     private ByteHouseConfig(
@@ -116,6 +144,20 @@ public class ByteHouseConfig implements Serializable {
             final long maxBlockSize,
             final String booleanColumnPrefix,
             final boolean insertInfileLocal,
+            final ConnectionValidation connectionValidation,
+            final Duration connectionValidationIdleTime,
+            final boolean connectionPool,
+            final int poolMinIdle,
+            final int poolMaxIdle,
+            final int poolMaxSize,
+            final Duration poolMaxWait,
+            final Duration poolMaxLifetime,
+            final Duration poolValidationInterval,
+            final boolean verifyChecksum,
+            final int insertPipelineBlocks,
+            final int insertInfileParallelism,
+            final int stringDedupCacheSize,
+            final boolean uint64AsLong,
             final Map<SettingKey, Serializable> settings
     ) {
         this.region = region;
@@ -142,6 +184,20 @@ public class ByteHouseConfig implements Serializable {
         this.maxBlockSize = maxBlockSize;
         this.booleanColumnPrefix = booleanColumnPrefix;
         this.insertInfileLocal = insertInfileLocal;
+        this.connectionValidation = connectionValidation;
+        this.connectionValidationIdleTime = connectionValidationIdleTime;
+        this.connectionPool = connectionPool;
+        this.poolMinIdle = poolMinIdle;
+        this.poolMaxIdle = poolMaxIdle;
+        this.poolMaxSize = poolMaxSize;
+        this.poolMaxWait = poolMaxWait;
+        this.poolMaxLifetime = poolMaxLifetime;
+        this.poolValidationInterval = poolValidationInterval;
+        this.verifyChecksum = verifyChecksum;
+        this.insertPipelineBlocks = insertPipelineBlocks;
+        this.insertInfileParallelism = insertInfileParallelism;
+        this.stringDedupCacheSize = stringDedupCacheSize;
+        this.uint64AsLong = uint64AsLong;
         this.settings = settings;
     }
 
@@ -251,6 +307,62 @@ public class ByteHouseConfig implements Serializable {
         return insertInfileLocal;
     }
 
+    public ConnectionValidation connectionValidation() {
+        return connectionValidation;
+    }
+
+    public Duration connectionValidationIdleTime() {
+        return connectionValidationIdleTime;
+    }
+
+    public boolean connectionPool() {
+        return connectionPool;
+    }
+
+    public int poolMinIdle() {
+        return poolMinIdle;
+    }
+
+    public int poolMaxIdle() {
+        return poolMaxIdle;
+    }
+
+    public int poolMaxSize() {
+        return poolMaxSize;
+    }
+
+    public Duration poolMaxWait() {
+        return poolMaxWait;
+    }
+
+    public Duration poolMaxLifetime() {
+        return poolMaxLifetime;
+    }
+
+    public Duration poolValidationInterval() {
+        return poolValidationInterval;
+    }
+
+    public boolean verifyChecksum() {
+        return verifyChecksum;
+    }
+
+    public int insertPipelineBlocks() {
+        return insertPipelineBlocks;
+    }
+
+    public int insertInfileParallelism() {
+        return insertInfileParallelism;
+    }
+
+    public int stringDedupCacheSize() {
+        return stringDedupCacheSize;
+    }
+
+    public boolean uint64AsLong() {
+        return uint64AsLong;
+    }
+
     public Map<SettingKey, Serializable> settings() {
         return settings;
     }
@@ -444,6 +556,132 @@ public class ByteHouseConfig implements Serializable {
                 .build();
     }
 
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withConnectionValidation(final ConnectionValidation connectionValidation) {
+        return Builder.builder(this)
+                .connectionValidation(connectionValidation)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withConnectionValidationIdleTime(final Duration connectionValidationIdleTime) {
+        return Builder.builder(this)
+                .connectionValidationIdleTime(connectionValidationIdleTime)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withConnectionPool(final boolean connectionPool) {
+        return Builder.builder(this)
+                .connectionPool(connectionPool)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withPoolMinIdle(final int poolMinIdle) {
+        return Builder.builder(this)
+                .poolMinIdle(poolMinIdle)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withPoolMaxIdle(final int poolMaxIdle) {
+        return Builder.builder(this)
+                .poolMaxIdle(poolMaxIdle)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withPoolMaxSize(final int poolMaxSize) {
+        return Builder.builder(this)
+                .poolMaxSize(poolMaxSize)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withPoolMaxWait(final Duration poolMaxWait) {
+        return Builder.builder(this)
+                .poolMaxWait(poolMaxWait)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withPoolMaxLifetime(final Duration poolMaxLifetime) {
+        return Builder.builder(this)
+                .poolMaxLifetime(poolMaxLifetime)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withPoolValidationInterval(final Duration poolValidationInterval) {
+        return Builder.builder(this)
+                .poolValidationInterval(poolValidationInterval)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withVerifyChecksum(final boolean verifyChecksum) {
+        return Builder.builder(this)
+                .verifyChecksum(verifyChecksum)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withInsertPipelineBlocks(final int insertPipelineBlocks) {
+        return Builder.builder(this)
+                .insertPipelineBlocks(insertPipelineBlocks)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withInsertInfileParallelism(final int insertInfileParallelism) {
+        return Builder.builder(this)
+                .insertInfileParallelism(insertInfileParallelism)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withStringDedupCacheSize(final int stringDedupCacheSize) {
+        return Builder.builder(this)
+                .stringDedupCacheSize(stringDedupCacheSize)
+                .build();
+    }
+
+    /**
+     * cloning method.
+     */
+    public ByteHouseConfig withUint64AsLong(final boolean uint64AsLong) {
+        return Builder.builder(this)
+                .uint64AsLong(uint64AsLong)
+                .build();
+    }
+
     /**
      * cloning method.
      */
@@ -534,6 +772,34 @@ public class ByteHouseConfig implements Serializable {
 
         private boolean insertInfileLocal;
 
+        private ConnectionValidation connectionValidation;
+
+        private Duration connectionValidationIdleTime;
+
+        private boolean connectionPool;
+
+        private int poolMinIdle;
+
+        private int poolMaxIdle;
+
+        private int poolMaxSize;
+
+        private Duration poolMaxWait;
+
+        private Duration poolMaxLifetime;
+
+        private Duration poolValidationInterval;
+
+        private boolean verifyChecksum;
+
+        private int insertPipelineBlocks;
+
+        private int insertInfileParallelism;
+
+        private int stringDedupCacheSize;
+
+        private boolean uint64AsLong;
+
         private Map<SettingKey, Serializable> settings = new HashMap<>();
 
         private Builder() {
@@ -575,6 +841,20 @@ public class ByteHouseConfig implements Serializable {
                     .maxBlockSize(cfg.maxBlockSize())
                     .booleanColumnPrefix(cfg.booleanColumnPrefix())
                     .insertInfileLocal(cfg.insertInfileLocal())
+                    .connectionValidation(cfg.connectionValidation())
+                    .connectionValidationIdleTime(cfg.connectionValidationIdleTime())
+                    .connectionPool(cfg.connectionPool())
+                    .poolMinIdle(cfg.poolMinIdle())
+                    .poolMaxIdle(cfg.poolMaxIdle())
+                    .poolMaxSize(cfg.poolMaxSize())
+                    .poolMaxWait(cfg.poolMaxWait())
+                    .poolMaxLifetime(cfg.poolMaxLifetime())
+                    .poolValidationInterval(cfg.poolValidationInterval())
+                    .verifyChecksum(cfg.verifyChecksum())
+                    .insertPipelineBlocks(cfg.insertPipelineBlocks())
+                    .insertInfileParallelism(cfg.insertInfileParallelism())
+                    .stringDedupCacheSize(cfg.stringDedupCacheSize())
+                    .uint64AsLong(cfg.uint64AsLong())
                     .withSettings(cfg.settings());
         }
 
@@ -713,6 +993,76 @@ public class ByteHouseConfig implements Serializable {
             return this;
         }
 
+        public Builder connectionValidation(final ConnectionValidation connectionValidation) {
+            this.withSetting(SettingKey.connectionValidation, connectionValidation.name());
+            return this;
+        }
+
+        public Builder connectionValidationIdleTime(final Duration connectionValidationIdleTime) {
+            this.withSetting(SettingKey.connectionValidationIdleTime, connectionValidationIdleTime);
+            return this;
+        }
+
+        public Builder connectionPool(final boolean connectionPool) {
+            this.withSetting(SettingKey.connectionPool, connectionPool);
+            return this;
+        }
+
+        public Builder poolMinIdle(final int poolMinIdle) {
+            this.withSetting(SettingKey.poolMinIdle, poolMinIdle);
+            return this;
+        }
+
+        public Builder poolMaxIdle(final int poolMaxIdle) {
+            this.withSetting(SettingKey.poolMaxIdle, poolMaxIdle);
+            return this;
+        }
+
+        public Builder poolMaxSize(final int poolMaxSize) {
+            this.withSetting(SettingKey.poolMaxSize, poolMaxSize);
+            return this;
+        }
+
+        public Builder poolMaxWait(final Duration poolMaxWait) {
+            this.withSetting(SettingKey.poolMaxWait, poolMaxWait);
+            return this;
+        }
+
+        public Builder poolMaxLifetime(final Duration poolMaxLifetime) {
+            this.withSetting(SettingKey.poolMaxLifetime, poolMaxLifetime);
+            return this;
+        }
+
+        public Builder poolValidationInterval(final Duration poolValidationInterval) {
+            this.withSetting(SettingKey.poolValidationInterval, poolValidationInterval);
+            return this;
+        }
+
+        public Builder verifyChecksum(final boolean verifyChecksum) {
+            this.withSetting(SettingKey.verifyChecksum, verifyChecksum);
+            return this;
+        }
+
+        public Builder insertPipelineBlocks(final int insertPipelineBlocks) {
+            this.withSetting(SettingKey.insertPipelineBlocks, insertPipelineBlocks);
+            return this;
+        }
+
+        public Builder insertInfileParallelism(final int insertInfileParallelism) {
+            this.withSetting(SettingKey.insertInfileParallelism, insertInfileParallelism);
+            return this;
+        }
+
+        public Builder stringDedupCacheSize(final int stringDedupCacheSize) {
+            this.withSetting(SettingKey.stringDedupCacheSize, stringDedupCacheSize);
+            return this;
+        }
+
+        public Builder uint64AsLong(final boolean uint64AsLong) {
+            this.withSetting(SettingKey.uint64AsLong, uint64AsLong);
+            return this;
+        }
+
         public Builder settings(final Map<SettingKey, Serializable> settings) {
             this.settings = settings;
             return this;
@@ -758,6 +1108,27 @@ public class ByteHouseConfig implements Serializable {
             this.booleanColumnPrefix = (String) this.settings.getOrDefault(SettingKey.booleanColumnPrefix, "");
             this.insertInfileLocal = (boolean) this.settings.getOrDefault(SettingKey.insertInfileLocal, false);
             this.formatCSVDelimiter = (String) this.settings.getOrDefault(SettingKey.formatCSVDelimiter, ",");
+            this.connectionValidation = ConnectionValidation.fromString((String) this.settings.getOrDefault(
+                    SettingKey.connectionValidation, ConnectionValidation.IDLE.name()));
+            this.connectionValidationIdleTime = (Duration) this.settings.getOrDefault(
+                    SettingKey.connectionValidationIdleTime, Duration.ofSeconds(30));
+            this.connectionPool = (boolean) this.settings.getOrDefault(SettingKey.connectionPool, false);
+            this.poolMinIdle = ((Number) this.settings.getOrDefault(SettingKey.poolMinIdle, 1)).intValue();
+            this.poolMaxIdle = ((Number) this.settings.getOrDefault(SettingKey.poolMaxIdle, 10)).intValue();
+            this.poolMaxSize = ((Number) this.settings.getOrDefault(SettingKey.poolMaxSize, 10)).intValue();
+            this.poolMaxWait = (Duration) this.settings.getOrDefault(SettingKey.poolMaxWait, Duration.ofSeconds(30));
+            this.poolMaxLifetime = (Duration) this.settings.getOrDefault(
+                    SettingKey.poolMaxLifetime, Duration.ofMinutes(30));
+            this.poolValidationInterval = (Duration) this.settings.getOrDefault(
+                    SettingKey.poolValidationInterval, Duration.ofSeconds(30));
+            this.verifyChecksum = (boolean) this.settings.getOrDefault(SettingKey.verifyChecksum, false);
+            this.insertPipelineBlocks = ((Number) this.settings.getOrDefault(
+                    SettingKey.insertPipelineBlocks, 0)).intValue();
+            this.insertInfileParallelism = ((Number) this.settings.getOrDefault(
+                    SettingKey.insertInfileParallelism, 1)).intValue();
+            this.stringDedupCacheSize = ((Number) this.settings.getOrDefault(
+                    SettingKey.stringDedupCacheSize, 0)).intValue();
+            this.uint64AsLong = (boolean) this.settings.getOrDefault(SettingKey.uint64AsLong, false);
 
             useDefaultIfNotSet();
             purgeClientSettings();
@@ -787,6 +1158,20 @@ public class ByteHouseConfig implements Serializable {
                     maxBlockSize,
                     booleanColumnPrefix,
                     insertInfileLocal,
+                    connectionValidation,
+                    connectionValidationIdleTime,
+                    connectionPool,
+                    poolMinIdle,
+                    poolMaxIdle,
+                    poolMaxSize,
+                    poolMaxWait,
+                    poolMaxLifetime,
+                    poolValidationInterval,
+                    verifyChecksum,
+                    insertPipelineBlocks,
+                    insertInfileParallelism,
+                    stringDedupCacheSize,
+                    uint64AsLong,
                     settings
             );
         }
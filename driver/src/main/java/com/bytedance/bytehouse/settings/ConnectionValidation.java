@@ -0,0 +1,44 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.settings;
+
+import java.util.Locale;
+
+/**
+ * Policy deciding when a connection is validated with a ping before a statement is sent.
+ * <br><br>
+ * Whatever the policy, a closed socket is detected locally, and a query whose request
+ * cannot be written is resent once over a new connection.
+ */
+public enum ConnectionValidation {
+    /**
+     * ping the server before every statement.
+     */
+    ALWAYS,
+    /**
+     * ping the server only if the connection has been idle for longer than
+     * {@link SettingKey#connectionValidationIdleTime}.
+     */
+    IDLE,
+    /**
+     * never ping; a broken connection is detected when sending a request fails.
+     */
+    NEVER;
+
+    public static ConnectionValidation fromString(final String name) {
+        return ConnectionValidation.valueOf(name.trim().toUpperCase(Locale.ROOT));
+    }
+}
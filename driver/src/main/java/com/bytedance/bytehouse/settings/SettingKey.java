@@ -1830,6 +1830,107 @@ public class SettingKey implements Serializable {
             .withType(SettingType.UTF_8)
             .build();
 
+    @ClientConfigKey
+    public static SettingKey connectionValidation = SettingKey.builder()
+            .withName("connection_validation")
+            .withType(SettingType.UTF_8)
+            .withDescription("when to ping the server before a statement: ALWAYS, IDLE or NEVER")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey connectionValidationIdleTime = SettingKey.builder()
+            .withName("connection_validation_idle_time")
+            .withType(SettingType.SECONDS)
+            .withDescription("idle time after which the connection is pinged when connection_validation is IDLE")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey connectionPool = SettingKey.builder()
+            .withName("connection_pool")
+            .withType(SettingType.BOOL)
+            .withDescription("defines if ByteHouseDataSource pools its connections")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey poolMinIdle = SettingKey.builder()
+            .withName("pool_min_idle")
+            .withType(SettingType.INT_32)
+            .withDescription("number of idle connections the pool opens at startup and keeps available")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey poolMaxIdle = SettingKey.builder()
+            .withName("pool_max_idle")
+            .withType(SettingType.INT_32)
+            .withDescription("maximum number of idle connections kept by the pool")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey poolMaxSize = SettingKey.builder()
+            .withName("pool_max_size")
+            .withType(SettingType.INT_32)
+            .withDescription("maximum number of connections opened by the pool")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey poolMaxWait = SettingKey.builder()
+            .withName("pool_max_wait")
+            .withType(SettingType.SECONDS)
+            .withDescription("how long getConnection waits for a connection when the pool is exhausted")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey poolMaxLifetime = SettingKey.builder()
+            .withName("pool_max_lifetime")
+            .withType(SettingType.SECONDS)
+            .withDescription("age after which a pooled connection is closed instead of being reused")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey poolValidationInterval = SettingKey.builder()
+            .withName("pool_validation_interval")
+            .withType(SettingType.SECONDS)
+            .withDescription("interval at which idle pooled connections are pinged and the pool is topped up")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey verifyChecksum = SettingKey.builder()
+            .withName("verify_checksum")
+            .withType(SettingType.BOOL)
+            .withDescription("defines if the CityHash128 checksum of every compressed block received is verified")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey insertPipelineBlocks = SettingKey.builder()
+            .withName("insert_pipeline_blocks")
+            .withType(SettingType.INT_32)
+            .withDescription("number of full insert blocks a background thread may be sending while the next "
+                    + "block is filled, 0 to send on the calling thread")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey insertInfileParallelism = SettingKey.builder()
+            .withName("insert_infile_parallelism")
+            .withType(SettingType.INT_32)
+            .withDescription("number of threads parsing and encoding the file of an INSERT INFILE query")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey stringDedupCacheSize = SettingKey.builder()
+            .withName("string_dedup_cache_size")
+            .withType(SettingType.INT_32)
+            .withDescription("number of slots of the cache sharing the decoded values of a String result column, "
+                    + "0 to decode every value separately")
+            .build();
+
+    @ClientConfigKey
+    public static SettingKey uint64AsLong = SettingKey.builder()
+            .withName("uint64_as_long")
+            .withType(SettingType.BOOL)
+            .withDescription("return UInt64 values from getObject as Long holding the unsigned bits, and from "
+                    + "getString as unsigned decimals, instead of as BigInteger")
+            .build();
+
     private final String name;
 
     private final SettingType<?> type;
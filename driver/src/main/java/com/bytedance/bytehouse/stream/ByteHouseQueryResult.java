@@ -78,6 +78,11 @@ public class ByteHouseQueryResult implements QueryResult {
         };
     }
 
+    @Override
+    public boolean isFullyConsumed() {
+        return atEnd;
+    }
+
     private void ensureHeaderConsumed() throws SQLException {
         if (header == null) {
             final DataResponse firstDataResponse = consumeDataResponse();
@@ -31,4 +31,12 @@ public interface QueryResult {
     Block header() throws SQLException;
 
     CheckedIterator<DataResponse, SQLException> data();
+
+    /**
+     * Returns true once every response of the query has been read from the connection,
+     * so that the connection can be used for another query.
+     */
+    default boolean isFullyConsumed() {
+        return true;
+    }
 }
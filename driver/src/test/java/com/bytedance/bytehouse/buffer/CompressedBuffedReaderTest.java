@@ -18,12 +18,16 @@ package com.bytedance.bytehouse.buffer;
 
 import static com.bytedance.bytehouse.settings.BHConstants.CHECKSUM_LENGTH;
 import static com.bytedance.bytehouse.settings.BHConstants.COMPRESSION_HEADER_LENGTH;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.bytedance.bytehouse.jdbc.tool.FragmentBuffedReader;
 import io.airlift.compress.Compressor;
 import io.airlift.compress.lz4.Lz4Compressor;
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.Random;
 import org.junit.jupiter.api.Test;
 
 public class CompressedBuffedReaderTest {
@@ -49,6 +53,40 @@ public class CompressedBuffedReaderTest {
         assertEquals(compressedBuffed.readBinary(), 7);
     }
 
+    @Test
+    public void successfullyVerifyChecksum() throws Exception {
+        byte[] data = new byte[3000];
+        new Random(7).nextBytes(data);
+        byte[] frames = framesOf(data, 1000);
+
+        CompressedBuffedReader compressedBuffed = new CompressedBuffedReader(new FragmentBuffedReader(frames), true);
+        byte[] bytes = new byte[data.length];
+        compressedBuffed.readBinary(bytes);
+        assertArrayEquals(data, bytes);
+    }
+
+    @Test
+    public void failToReadCorruptedFrameWithChecksum() throws Exception {
+        byte[] data = new byte[100];
+        new Random(7).nextBytes(data);
+        byte[] frames = framesOf(data, 100);
+        frames[frames.length - 1] ^= 1;
+
+        // without verification the corrupted byte goes unnoticed
+        byte[] bytes = new byte[data.length];
+        new CompressedBuffedReader(new FragmentBuffedReader(frames.clone())).readBinary(bytes);
+
+        CompressedBuffedReader compressedBuffed = new CompressedBuffedReader(new FragmentBuffedReader(frames), true);
+        assertThrows(IOException.class, () -> compressedBuffed.readBinary(new byte[data.length]));
+    }
+
+    private byte[] framesOf(byte[] bytes, int frameSize) throws IOException {
+        ByteArrayWriter target = new ByteArrayWriter(64 * 1024);
+        CompressedBuffedWriter writer = new CompressedBuffedWriter(frameSize, target);
+        writer.writeBinary(bytes);
+        writer.flushToTarget(true);
+        return target.getBufferList().get(0);
+    }
 
     private byte[] compressedData(byte[] bytes) {
         Compressor lz4Compressor = new Lz4Compressor();
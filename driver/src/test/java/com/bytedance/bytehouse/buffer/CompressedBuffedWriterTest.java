@@ -0,0 +1,66 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.buffer;
+
+import static com.bytedance.bytehouse.settings.BHConstants.CHECKSUM_LENGTH;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.bytedance.bytehouse.jdbc.tool.FragmentBuffedReader;
+import com.bytedance.bytehouse.misc.ByteHouseCityHashUtils;
+import com.bytedance.bytehouse.misc.BytesHelper;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public class CompressedBuffedWriterTest implements BytesHelper {
+
+    @Test
+    public void successfullyWriteFramesWithReusedBuffer() throws Exception {
+        final byte[] data = new byte[2500];
+        new Random(42).nextBytes(data);
+
+        final ByteArrayWriter target = new ByteArrayWriter(64 * 1024);
+        final CompressedBuffedWriter writer = new CompressedBuffedWriter(1000, target);
+        writer.writeBinary(data);
+        writer.flushToTarget(true);
+        writer.writeBinary(new byte[] {7, 7, 7});
+        writer.flushToTarget(true);
+
+        final List<byte[]> buffers = target.getBufferList();
+        assertEquals(1, buffers.size());
+        final byte[] frames = buffers.get(0);
+
+        // 4 frames of 1000, 1000, 500 and 3 bytes, each with a valid checksum
+        int offset = 0;
+        for (int i = 0; i < 4; i++) {
+            final int compressedSize = getIntLE(frames, offset + CHECKSUM_LENGTH + 1);
+            final long[] checksum = ByteHouseCityHashUtils.cityHash128(frames, offset + CHECKSUM_LENGTH, compressedSize);
+            assertEquals(checksum[0], getLongLE(frames, offset));
+            assertEquals(checksum[1], getLongLE(frames, offset + Long.BYTES));
+            offset += CHECKSUM_LENGTH + compressedSize;
+        }
+        assertEquals(frames.length, offset);
+
+        final CompressedBuffedReader reader = new CompressedBuffedReader(new FragmentBuffedReader(frames));
+        final byte[] decompressed = new byte[data.length];
+        reader.readBinary(decompressed);
+        assertArrayEquals(data, decompressed);
+        assertEquals(7, reader.readBinary());
+        assertEquals(7, reader.readBinary());
+        assertEquals(7, reader.readBinary());
+    }
+}
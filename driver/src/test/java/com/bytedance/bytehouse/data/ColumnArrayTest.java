@@ -0,0 +1,144 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.flush;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bytedance.bytehouse.data.type.DataTypeFloat32;
+import com.bytedance.bytehouse.data.type.DataTypeFloat64;
+import com.bytedance.bytehouse.data.type.DataTypeInt32;
+import com.bytedance.bytehouse.data.type.DataTypeInt64;
+import com.bytedance.bytehouse.data.type.complex.DataTypeArray;
+import com.bytedance.bytehouse.jdbc.ByteHouseArray;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.ZoneId;
+import org.junit.jupiter.api.Test;
+
+public class ColumnArrayTest {
+
+    @Test
+    public void rowsAreViewsOverThePrimitiveElements() throws Exception {
+        DataTypeArray floats = new DataTypeArray("Array(Float32)", new DataTypeFloat32(), new DataTypeInt64());
+        ColumnArray column = new ColumnArray(null, floats, null);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        column.write(new ByteHouseArray(floats.getElemDataType(), new Object[]{1.5f, 2.5f}));
+        column.write(new ByteHouseArray(floats.getElemDataType(), new Object[0]));
+        column.write(new ByteHouseArray(floats.getElemDataType(), new Object[]{3.5f}));
+
+        IColumn result = floats.deserializeBinaryColumn("c", 3, flush(column));
+
+        assertTrue(((ColumnArray) result).elements() instanceof ColumnFloat);
+        assertArrayEquals(new long[]{2, 2, 3}, ((ColumnArray) result).rowOffsets());
+        ByteHouseArray first = (ByteHouseArray) result.value(0);
+        assertEquals(2, first.length());
+        assertArrayEquals(new float[]{1.5f, 2.5f}, first.toFloatArray());
+        assertArrayEquals(new double[]{1.5, 2.5}, first.toDoubleArray());
+        assertArrayEquals(new Object[]{1.5f, 2.5f}, first.getArray());
+        assertEquals(0, ((ByteHouseArray) result.value(1)).length());
+        assertArrayEquals(new float[]{3.5f}, ((ByteHouseArray) result.value(2)).toFloatArray());
+        assertArrayEquals(new long[]{3}, ((ByteHouseArray) result.value(2)).toLongArray());
+    }
+
+    @Test
+    public void viewsKeepTheirElementsWhenSerialized() throws Exception {
+        DataTypeArray ints = new DataTypeArray("Array(Int32)", new DataTypeInt32(), new DataTypeInt64());
+        ColumnArray column = new ColumnArray(null, ints, null);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        column.write(new int[]{1});
+        column.write(new int[]{2, 3, 4});
+
+        IColumn result = ints.deserializeBinaryColumn("c", 2, flush(column));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(result.value(1));
+        }
+        ByteHouseArray copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (ByteHouseArray) in.readObject();
+        }
+        assertEquals(3, copy.length());
+        assertArrayEquals(new int[]{2, 3, 4}, copy.toIntArray());
+        assertArrayEquals(new Object[]{2, 3, 4}, copy.getArray());
+    }
+
+    @Test
+    public void nestedArraysShareOneElementColumn() throws Exception {
+        DataTypeArray inner = new DataTypeArray("Array(Int32)", new DataTypeInt32(), new DataTypeInt64());
+        DataTypeArray outer = new DataTypeArray("Array(Array(Int32))", inner, new DataTypeInt64());
+        ColumnArray column = new ColumnArray(null, outer, null);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        column.write(new ByteHouseArray(inner, new Object[]{
+                new ByteHouseArray(inner.getElemDataType(), new Object[]{1, 2}),
+                new ByteHouseArray(inner.getElemDataType(), new Object[]{3})}));
+        column.write(new ByteHouseArray(inner, new Object[]{
+                new ByteHouseArray(inner.getElemDataType(), new Object[]{4, 5, 6})}));
+
+        IColumn result = outer.deserializeBinaryColumn("c", 2, flush(column));
+
+        Object[] first = ((ByteHouseArray) result.value(0)).getArray();
+        assertEquals(2, first.length);
+        assertArrayEquals(new int[]{1, 2}, ((ByteHouseArray) first[0]).toIntArray());
+        assertArrayEquals(new int[]{3}, ((ByteHouseArray) first[1]).toIntArray());
+        Object[] second = ((ByteHouseArray) result.value(1)).getArray();
+        assertArrayEquals(new int[]{4, 5, 6}, ((ByteHouseArray) second[0]).toIntArray());
+    }
+
+    @Test
+    public void primitiveRowsAreWrittenWithoutByteHouseArray() throws Exception {
+        DataTypeConverter converter = new DataTypeConverter(ZoneId.of("UTC"));
+        DataTypeArray longs = new DataTypeArray("Array(Int64)", new DataTypeInt64(), new DataTypeInt64());
+        ColumnArray column = new ColumnArray(null, longs, null);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        long[] row = {1L, -2L, 3L};
+        assertSame(row, converter.convertJdbcToJava(longs, row));
+        for (int i = 0; i < 100; i++) {
+            column.write(converter.convertJdbcToJava(longs, row));
+        }
+        // int[] is converted to the Long elements of Array(Int64)
+        column.write(converter.convertJdbcToJava(longs, new int[]{7}));
+
+        IColumn result = longs.deserializeBinaryColumn("c", 101, flush(column));
+        for (int i = 0; i < 100; i++) {
+            assertArrayEquals(row, ((ByteHouseArray) result.value(i)).toLongArray());
+        }
+        assertArrayEquals(new long[]{7L}, ((ByteHouseArray) result.value(100)).toLongArray());
+    }
+
+    @Test
+    public void nestedPrimitiveArraysAreWrittenRowByRow() throws Exception {
+        DataTypeArray inner = new DataTypeArray("Array(Float64)", new DataTypeFloat64(), new DataTypeInt64());
+        DataTypeArray outer = new DataTypeArray("Array(Array(Float64))", inner, new DataTypeInt64());
+        ColumnArray column = new ColumnArray(null, outer, null);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        DataTypeConverter converter = new DataTypeConverter(ZoneId.of("UTC"));
+        column.write(converter.convertJdbcToJava(outer, new double[][]{{1.0, 2.0}, {}, {3.0}}));
+        column.reuseColumnWriterBuffer();
+        column.write(converter.convertJdbcToJava(outer, new double[][]{{4.0}}));
+
+        IColumn result = outer.deserializeBinaryColumn("c", 1, flush(column));
+        Object[] first = ((ByteHouseArray) result.value(0)).getArray();
+        assertEquals(1, first.length);
+        assertArrayEquals(new double[]{4.0}, ((ByteHouseArray) first[0]).toDoubleArray());
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.toBytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bytedance.bytehouse.buffer.ByteArrayWriter;
+import com.bytedance.bytehouse.data.type.DataTypeBitMap64;
+import com.bytedance.bytehouse.data.type.DataTypeUInt64;
+import com.bytedance.bytehouse.jdbc.ByteHouseArray;
+import com.bytedance.bytehouse.jdbc.tool.FragmentBuffedReader;
+import com.bytedance.bytehouse.serde.BinaryDeserializer;
+import com.bytedance.bytehouse.serde.BinarySerializer;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.NavigableMap;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.buffer.ImmutableRoaringBitmap;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+public class ColumnBitMap64Test {
+
+    // sorted as unsigned longs
+    private static final long[] MEMBERS = {1L, 7L, 1L << 32, (1L << 32) + 5, Long.MAX_VALUE, -2L, -1L};
+
+    @Test
+    public void arraysAndBitmapsSerializeAlike() throws Exception {
+        DataTypeBitMap64 type = new DataTypeBitMap64();
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        Object[] values = new Object[MEMBERS.length];
+        for (int i = 0; i < MEMBERS.length; i++) {
+            values[MEMBERS.length - 1 - i] = ColumnUInt64.toBigInteger(MEMBERS[i]);
+        }
+        type.serializeBinaryValue(new ByteHouseArray(new DataTypeUInt64(), values), serializer);
+        type.serializeBinaryValue(Roaring64NavigableMap.bitmapOf(MEMBERS), serializer);
+        type.serializeBinaryValue(new ByteHouseArray(new DataTypeUInt64(), new Object[0]), serializer);
+
+        BinaryDeserializer deserializer = new BinaryDeserializer(
+                new FragmentBuffedReader(toBytes(writer)), false);
+        IColumn column = type.deserializeBinaryColumn("a", 3, deserializer);
+        assertTrue(column instanceof ColumnBitMap64);
+        ColumnBitMap64 bitmaps = (ColumnBitMap64) column;
+
+        assertArrayEquals(bitmaps.bytesValue(0), bitmaps.bytesValue(1));
+        assertArrayEquals(MEMBERS, ColumnBitMap64.members(bitmaps.bytesValue(0)));
+        assertEquals(Roaring64NavigableMap.bitmapOf(MEMBERS), bitmaps.bitmap(1));
+        assertEquals(new Roaring64NavigableMap(), bitmaps.bitmap(2));
+
+        Object[] read = ((ByteHouseArray) bitmaps.value(0)).getArray();
+        assertEquals(MEMBERS.length, read.length);
+        assertEquals(new BigInteger("18446744073709551615"), read[MEMBERS.length - 1]);
+
+        NavigableMap<Long, ImmutableRoaringBitmap> msbBitmaps = bitmaps.msbBitmaps(0);
+        assertEquals(Arrays.asList(0L, 1L, 0x7FFFFFFFL, 0xFFFFFFFFL), Arrays.asList(msbBitmaps.keySet().toArray()));
+        assertEquals(ImmutableRoaringBitmap.bitmapOf(0, 5), msbBitmaps.get(1L));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.bytedance.bytehouse.client.ServerContext;
+import com.bytedance.bytehouse.data.type.complex.DataTypeDateTime;
+import com.bytedance.bytehouse.data.type.complex.DataTypeDateTime64;
+import com.bytedance.bytehouse.misc.ZoneOffsetTable;
+import com.bytedance.bytehouse.settings.ByteHouseConfig;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.TimeZone;
+import org.junit.jupiter.api.Test;
+
+public class ColumnDateTimeTest {
+
+    private final ZoneId tz = ZoneId.of("America/New_York");
+
+    @Test
+    public void dateTimeValuesAreCreatedOnRead() {
+        int[] seconds = {0, 1616893200, 2_000_000_000};
+        ColumnDateTime column = new ColumnDateTime("c", null, seconds, tz, new ZoneOffsetTable(tz));
+
+        for (int i = 0; i < seconds.length; i++) {
+            ZonedDateTime expected = ZonedDateTime.ofInstant(Instant.ofEpochSecond(seconds[i]), tz);
+            assertEquals(expected, column.value(i));
+            assertEquals(expected.toLocalDateTime(), column.localDateTime(i));
+            assertEquals(Timestamp.from(expected.toInstant()), column.timestamp(i));
+            assertEquals(seconds[i], column.longValue(i));
+        }
+    }
+
+    @Test
+    public void stringsInAnOverlapTakeTheLaterOffsetLikeTimestampValueOf() throws Exception {
+        ServerContext serverContext = mock(ServerContext.class);
+        when(serverContext.getConfigure()).thenReturn(ByteHouseConfig.Builder.builder().build());
+        when(serverContext.timeZone()).thenReturn(tz);
+        DataTypeDateTime dateTime = new DataTypeDateTime("DateTime", serverContext);
+        DataTypeDateTime64 dateTime64 = new DataTypeDateTime64("DateTime64(3)", 3, serverContext);
+
+        TimeZone defaultZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone(tz));
+            // 01:30 happens twice on 2021-11-07 in New York
+            String text = "2021-11-07 01:30:00.250";
+            long expected = Timestamp.valueOf(text).getTime();
+            assertEquals(1636266600250L, expected);
+            assertEquals(expected / 1000, dateTime.convertJdbcToEpochSecond("2021-11-07 01:30:00", tz));
+            assertEquals(expected, dateTime64.convertJdbcToTicks(text, tz));
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+    }
+
+    @Test
+    public void dateTime64TicksKeepTheirFraction() {
+        long[] ticks = {1_616_893_200_123L, -1L, -1_500L};
+        ColumnDateTime column = new ColumnDateTime("c", null, ticks, 3, tz, new ZoneOffsetTable(tz));
+
+        for (int i = 0; i < ticks.length; i++) {
+            Instant instant = Instant.ofEpochMilli(ticks[i]);
+            assertEquals(ZonedDateTime.ofInstant(instant, tz), column.value(i));
+            assertEquals(instant.getEpochSecond(), column.epochSecond(i));
+            assertEquals(instant.getNano(), column.nanos(i));
+            assertEquals(Timestamp.from(instant), column.timestamp(i));
+            assertEquals(ticks[i], column.longValue(i));
+        }
+    }
+
+    @Test
+    public void dateValuesAreEpochDays() {
+        ColumnDate column = new ColumnDate("c", null, new short[]{0, 18628, -1});
+
+        assertEquals(LocalDate.of(1970, 1, 1), column.value(0));
+        assertEquals(LocalDate.of(2021, 1, 1), column.value(1));
+        assertEquals(18628L, column.longValue(1));
+    }
+}
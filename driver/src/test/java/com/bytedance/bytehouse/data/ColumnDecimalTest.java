@@ -0,0 +1,112 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bytedance.bytehouse.buffer.ByteArrayWriter;
+import com.bytedance.bytehouse.data.type.complex.DataTypeDecimal;
+import com.bytedance.bytehouse.jdbc.tool.FragmentBuffedReader;
+import com.bytedance.bytehouse.serde.BinaryDeserializer;
+import com.bytedance.bytehouse.serde.BinarySerializer;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+
+public class ColumnDecimalTest {
+
+    @Test
+    public void decimal64KeepsUnscaledLongs() throws Exception {
+        DataTypeDecimal type = new DataTypeDecimal("Decimal(18,4)", 18, 4);
+        long[] unscaled = {123456789L, -12345L, 0L, 5L};
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        assertTrue(type.serializeBinaryColumn(unscaled, unscaled.length, new BinarySerializer(writer, false)));
+
+        IColumn column = type.deserializeBinaryColumn("c", unscaled.length, reader(writer));
+
+        assertArrayEquals(unscaled, (long[]) ((ColumnDecimal) column).unscaled());
+        for (int i = 0; i < unscaled.length; i++) {
+            BigDecimal expected = BigDecimal.valueOf(unscaled[i], 4);
+            assertEquals(expected, column.value(i));
+            assertEquals(expected.longValue(), column.longValue(i));
+            assertEquals(expected.intValue(), column.intValue(i));
+            assertEquals(expected.doubleValue(), column.doubleValue(i));
+        }
+    }
+
+    @Test
+    public void decimal32RoundsDoublesToTheScale() throws Exception {
+        DataTypeDecimal type = new DataTypeDecimal("Decimal(9,2)", 9, 2);
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        type.serializeBinaryColumn(new double[]{1.125, -2.375, 3.1}, 3, new BinarySerializer(writer, false));
+
+        IColumn column = type.deserializeBinaryColumn("c", 3, reader(writer));
+
+        assertTrue(((ColumnDecimal) column).unscaled() instanceof int[]);
+        assertEquals(new BigDecimal("1.13"), column.value(0));
+        assertEquals(new BigDecimal("-2.38"), column.value(1));
+        assertEquals(new BigDecimal("3.10"), column.value(2));
+    }
+
+    @Test
+    public void decimal32RejectsUnscaledValuesOutOfRange() {
+        DataTypeDecimal type = new DataTypeDecimal("Decimal(9,2)", 9, 2);
+        BinarySerializer serializer = new BinarySerializer(new ByteArrayWriter(1024), false);
+        assertThrows(SQLException.class,
+                () -> type.serializeBinaryColumn(new long[]{1L, 1L << 31}, 2, serializer));
+        assertThrows(SQLException.class,
+                () -> type.serializeBinaryColumn(new double[]{-3e7}, 1, serializer));
+    }
+
+    @Test
+    public void doublesThatCannotBeScaledAreRejected() {
+        BinarySerializer serializer = new BinarySerializer(new ByteArrayWriter(1024), false);
+        for (DataTypeDecimal type : new DataTypeDecimal[]{
+                new DataTypeDecimal("Decimal(9,2)", 9, 2), new DataTypeDecimal("Decimal(18,2)", 18, 2)}) {
+            for (double value : new double[]{Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 1e17}) {
+                assertThrows(SQLException.class,
+                        () -> type.serializeBinaryColumn(new double[]{1.5, value}, 2, serializer));
+            }
+        }
+    }
+
+    @Test
+    public void bigDecimalValuesAreScaledWithoutRounding() throws Exception {
+        DataTypeDecimal type = new DataTypeDecimal("Decimal(18,3)", 18, 3);
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        type.serializeBinary(new BigDecimal("12.345"), serializer);
+        type.serializeBinary(new BigDecimal("-7.0009"), serializer);
+        type.serializeBinary(BigDecimal.valueOf(42), serializer);
+
+        BinaryDeserializer deserializer = reader(writer);
+        assertEquals(new BigDecimal("12.345"), type.deserializeBinary(deserializer));
+        assertEquals(new BigDecimal("-7.000"), type.deserializeBinary(deserializer));
+        assertEquals(new BigDecimal("42.000"), type.deserializeBinary(deserializer));
+    }
+
+    private static BinaryDeserializer reader(ByteArrayWriter writer) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] bytes : writer.getBufferList()) {
+            out.write(bytes);
+        }
+        return new BinaryDeserializer(new FragmentBuffedReader(out.toByteArray()), false);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bytedance.bytehouse.buffer.ByteArrayWriter;
+import com.bytedance.bytehouse.data.type.complex.DataTypeEnum16;
+import com.bytedance.bytehouse.data.type.complex.DataTypeEnum8;
+import com.bytedance.bytehouse.data.type.complex.DataTypeLowCardinality;
+import com.bytedance.bytehouse.data.type.complex.DataTypeString;
+import com.bytedance.bytehouse.jdbc.tool.FragmentBuffedReader;
+import com.bytedance.bytehouse.serde.BinaryDeserializer;
+import com.bytedance.bytehouse.serde.BinarySerializer;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Test;
+
+public class ColumnDictionaryTest {
+
+    @Test
+    public void lowCardinalityKeepsDictionaryAndCodes() throws Exception {
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        byte[] header = new byte[24];
+        header[0] = 1;
+        header[8] = 1; // UInt16 indexes
+        header[16] = 2; // 2 keys
+        serializer.writeBytes(header);
+        serializer.writeUTF8StringBinary("abc");
+        serializer.writeUTF8StringBinary("def");
+        serializer.writeLong(4);
+        for (short code : new short[]{0, 1, 1, 0}) {
+            serializer.writeShort(code);
+        }
+
+        DataTypeLowCardinality type = new DataTypeLowCardinality(new DataTypeString(StandardCharsets.UTF_8));
+        IColumn column = type.deserializeBinaryColumn("c", 4, deserializer(writer));
+
+        assertTrue(column instanceof ColumnDictionary);
+        ColumnDictionary dictionary = (ColumnDictionary) column;
+        assertArrayEquals(new Object[]{"abc", "def"}, dictionary.dictionary());
+        assertArrayEquals(new short[]{0, 1, 1, 0}, (short[]) dictionary.codes());
+        assertEquals(4, dictionary.rowCnt());
+        assertEquals("def", column.value(2));
+        assertEquals("abc", column.value(3));
+    }
+
+    @Test
+    public void emptyLowCardinalityColumnCanBeWritten() throws Exception {
+        DataTypeLowCardinality type = new DataTypeLowCardinality(new DataTypeString(StandardCharsets.UTF_8));
+        IColumn column = type.deserializeBinaryColumn("c", 0, deserializer(new ByteArrayWriter(16)));
+        assertTrue(column instanceof ColumnLowCardinality);
+    }
+
+    @Test
+    public void enumColumnsResolveNamesThroughTheDictionary() throws Exception {
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        serializer.writeByte((byte) -3);
+        serializer.writeByte((byte) 1);
+        serializer.writeByte((byte) -3);
+        serializer.writeShort((short) 1000);
+        serializer.writeShort((short) -1000);
+        serializer.writeByte((byte) 7);
+
+        DataTypeEnum8 enum8 = new DataTypeEnum8("Enum8('a' = 1, 'b' = -3)",
+                new String[]{"a", "b"}, new Byte[]{1, -3});
+        DataTypeEnum16 enum16 = new DataTypeEnum16("Enum16('x' = -1000, 'y' = 1000)",
+                new String[]{"x", "y"}, new Short[]{-1000, 1000});
+        BinaryDeserializer deserializer = deserializer(writer);
+
+        ColumnDictionary column8 = (ColumnDictionary) enum8.deserializeBinaryColumn("e", 3, deserializer);
+        assertArrayEquals(new byte[]{1, 0, 1}, (byte[]) column8.codes());
+        assertEquals("b", column8.value(0));
+        assertEquals("a", column8.value(1));
+
+        assertArrayEquals(new String[]{"y", "x"}, enum16.deserializeBinaryBulk(2, deserializer));
+
+        SQLException ex = assertThrows(SQLException.class, () -> enum8.deserializeBinary(deserializer));
+        assertTrue(ex.getMessage().contains("Unknown value 7"));
+    }
+
+    private static BinaryDeserializer deserializer(ByteArrayWriter writer) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] bytes : writer.getBufferList()) {
+            out.write(bytes);
+        }
+        return new BinaryDeserializer(new FragmentBuffedReader(out.toByteArray()), false);
+    }
+}
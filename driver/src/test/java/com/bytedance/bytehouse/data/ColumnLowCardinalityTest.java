@@ -0,0 +1,85 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.flush;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.bytedance.bytehouse.data.type.DataTypeInt64;
+import com.bytedance.bytehouse.data.type.complex.DataTypeLowCardinality;
+import com.bytedance.bytehouse.data.type.complex.DataTypeString;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class ColumnLowCardinalityTest {
+
+    @Test
+    public void encoderAssignsConsecutiveCodes() {
+        DictionaryEncoder encoder = new DictionaryEncoder();
+        assertEquals(0, encoder.encode("a"));
+        assertEquals(1, encoder.encode(new byte[]{1, 2}));
+        assertEquals(2, encoder.encode(42L));
+        assertEquals(3, encoder.encode(null));
+        assertEquals(0, encoder.encode(new String("a")));
+        assertEquals(1, encoder.encode(new byte[]{1, 2}));
+        assertEquals(2, encoder.encode(42));
+        assertEquals(3, encoder.encode(null));
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(4 + i, encoder.encode("key" + i));
+        }
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(4 + i, encoder.encode("key" + i));
+        }
+        assertEquals(10004, encoder.size());
+        encoder.clear();
+        assertEquals(0, encoder.encode(7L));
+    }
+
+    @Test
+    public void stringColumnRoundTripsWithEveryIndexWidth() throws Exception {
+        DataTypeLowCardinality type = new DataTypeLowCardinality(new DataTypeString(StandardCharsets.UTF_8));
+        // UInt8, UInt16 and UInt32 indices, with odd row counts
+        for (int distinct : new int[]{3, 300, 70000}) {
+            int rows = 2 * distinct + 3;
+            ColumnLowCardinality column = new ColumnLowCardinality(null, type, null);
+            column.setColumnWriterBuffer(new ColumnWriterBuffer());
+            for (int i = 0; i < rows; i++) {
+                column.write("v" + (i % distinct));
+            }
+
+            IColumn result = type.deserializeBinaryColumn("c", rows, flush(column));
+            for (int i = 0; i < rows; i++) {
+                assertEquals("v" + (i % distinct), result.value(i));
+            }
+        }
+    }
+
+    @Test
+    public void reusedColumnStartsANewDictionary() throws Exception {
+        DataTypeLowCardinality type = new DataTypeLowCardinality(new DataTypeInt64());
+        ColumnLowCardinality column = new ColumnLowCardinality(null, type, null);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        column.write(1L);
+        column.write(2L);
+        flush(column);
+
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        column.write(2L);
+        IColumn result = type.deserializeBinaryColumn("c", 1, flush(column));
+        assertEquals(2L, result.value(0));
+        assertEquals(1, ((ColumnDictionary) result).dictionary().length);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.flush;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bytedance.bytehouse.data.type.DataTypeFloat64;
+import com.bytedance.bytehouse.data.type.DataTypeInt32;
+import com.bytedance.bytehouse.data.type.DataTypeInt64;
+import com.bytedance.bytehouse.data.type.complex.DataTypeArray;
+import com.bytedance.bytehouse.data.type.complex.DataTypeMap;
+import com.bytedance.bytehouse.data.type.complex.DataTypeString;
+import com.bytedance.bytehouse.jdbc.ByteHouseArray;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+public class ColumnMapTest {
+
+    @Test
+    public void reusedBuffersOnlyHoldTheLastBlock() throws Exception {
+        DataTypeMap type = new DataTypeMap(new DataTypeString(StandardCharsets.UTF_8), new DataTypeInt32());
+        ColumnMap column = new ColumnMap(null, type, null);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        column.write(map("stale", 0));
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        column.write(map("a", 1, "b", 2));
+        column.write(map());
+        column.write(map("c", 3));
+
+        Map<?, ?>[] rows = type.deserializeBinaryBulk(3, flush(column));
+
+        assertEquals(map("a", 1, "b", 2), rows[0]);
+        assertEquals(map(), rows[1]);
+        assertEquals(map("c", 3), rows[2]);
+    }
+
+    @Test
+    public void primitiveArrayValuesAreWrittenDirectly() throws Exception {
+        DataTypeArray longs = new DataTypeArray("Array(Int64)", new DataTypeInt64(), new DataTypeInt64());
+        DataTypeMap type = new DataTypeMap(new DataTypeString(StandardCharsets.UTF_8), longs);
+        ColumnMap column = new ColumnMap(null, type, null);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        column.write(map("a", new long[]{1L, 2L}, "b", new long[0]));
+
+        Map<?, ?>[] rows = type.deserializeBinaryBulk(1, flush(column));
+
+        assertArrayEquals(new long[]{1L, 2L}, ((ByteHouseArray) rows[0].get("a")).toLongArray());
+        assertEquals(0, ((ByteHouseArray) rows[0].get("b")).length());
+    }
+
+    @Test
+    public void resultRowsAreViewsOverTheKeyAndValueColumns() throws Exception {
+        DataTypeMap type = new DataTypeMap(new DataTypeString(StandardCharsets.UTF_8), new DataTypeFloat64());
+        ColumnMap column = new ColumnMap(null, type, null);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        column.write(map("a", 1.5, "b", 2.5));
+        column.write(map());
+        column.write(map("a", 3.5, "é", 4.5));
+
+        ColumnMap result = (ColumnMap) type.deserializeBinaryColumn("m", 3, flush(column));
+
+        assertArrayEquals(new long[]{2, 2, 4}, result.rowOffsets());
+        assertArrayEquals(new double[]{1.5, 2.5, 3.5, 4.5}, ((ColumnDouble) result.valueColumn()).data());
+        Map<?, ?> first = (Map<?, ?>) result.value(0);
+        assertEquals(2.5, first.get("b"));
+        assertNull(first.get("c"));
+        assertFalse(first.containsKey("é"));
+        assertEquals(map("a", 1.5, "b", 2.5), first);
+        assertEquals(map(), result.value(1));
+        Map<?, ?> last = (Map<?, ?>) result.value(2);
+        assertTrue(last.containsKey("é"));
+        assertEquals(3.5, last.get("a"));
+        assertEquals(map("a", 3.5, "é", 4.5), last);
+    }
+
+    @Test
+    public void duplicateKeysKeepTheLastValueLikeHashMap() throws Exception {
+        DataTypeMap type = new DataTypeMap(new DataTypeInt32(), new DataTypeFloat64());
+        ColumnMap result = new ColumnMap("m", type, new long[]{4},
+                new ColumnInt(null, type.getKeyDataType(), new int[]{1, 2, 1, 3}),
+                new ColumnDouble(null, type.getValueDataType(), new double[]{1.5, 2.5, 3.5, 4.5}));
+
+        Map<?, ?> row = (Map<?, ?>) result.value(0);
+        Map<Object, Object> expected = new HashMap<>();
+        expected.put(1, 1.5);
+        expected.put(2, 2.5);
+        expected.put(1, 3.5);
+        expected.put(3, 4.5);
+
+        assertEquals(3, row.size());
+        assertEquals(3.5, row.get(1));
+        assertEquals(expected, row);
+        assertEquals(row, expected);
+        assertEquals(expected.hashCode(), row.hashCode());
+        assertEquals(expected, new HashMap<>(row));
+        assertThrows(UnsupportedOperationException.class, () -> row.remove(1));
+    }
+
+    private static Map<Object, Object> map(Object... keysAndValues) {
+        Map<Object, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            map.put(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return map;
+    }
+}
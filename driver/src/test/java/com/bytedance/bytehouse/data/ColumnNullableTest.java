@@ -0,0 +1,70 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.flush;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bytedance.bytehouse.data.type.DataTypeInt32;
+import com.bytedance.bytehouse.data.type.DataTypeUInt8;
+import com.bytedance.bytehouse.data.type.complex.DataTypeNullable;
+import org.junit.jupiter.api.Test;
+
+public class ColumnNullableTest {
+
+    private final DataTypeNullable type = new DataTypeNullable(
+            "Nullable(Int32)", new DataTypeInt32(), new DataTypeUInt8());
+
+    @Test
+    public void nullMapRoundTripsThroughTheColumns() throws Exception {
+        ColumnNullable column = new ColumnNullable(null, type, null);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        for (int i = 0; i < 100; i++) {
+            column.write(i % 3 == 0 ? null : i);
+        }
+
+        IColumn result = type.deserializeBinaryColumn("c", 100, flush(column));
+
+        assertTrue(result instanceof ColumnNullable);
+        assertTrue(((ColumnNullable) result).nested() instanceof ColumnInt);
+        for (int i = 0; i < 100; i++) {
+            if (i % 3 == 0) {
+                assertTrue(result.isNull(i));
+                assertNull(result.value(i));
+            } else {
+                assertFalse(result.isNull(i));
+                assertEquals(i, result.intValue(i));
+                assertEquals(i, result.value(i));
+            }
+        }
+    }
+
+    @Test
+    public void reusedColumnStartsANewNullMap() throws Exception {
+        ColumnNullable column = new ColumnNullable(null, type, null);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        column.write(null);
+        column.reuseColumnWriterBuffer();
+        column.write(7);
+
+        IColumn result = type.deserializeBinaryColumn("c", 1, flush(column));
+        assertFalse(result.isNull(0));
+        assertEquals(7L, result.longValue(0));
+    }
+}
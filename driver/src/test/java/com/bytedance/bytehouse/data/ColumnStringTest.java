@@ -0,0 +1,106 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.toBytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bytedance.bytehouse.buffer.ByteArrayWriter;
+import com.bytedance.bytehouse.data.type.complex.DataTypeString;
+import com.bytedance.bytehouse.jdbc.tool.FragmentBuffedReader;
+import com.bytedance.bytehouse.serde.BinaryDeserializer;
+import com.bytedance.bytehouse.serde.BinarySerializer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class ColumnStringTest {
+
+    private final DataTypeString type = new DataTypeString(StandardCharsets.UTF_8);
+
+    @Test
+    public void valuesAreDecodedFromOneBuffer() throws Exception {
+        String[] values = new String[200];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i % 7 == 0 ? "" : "value-" + i;
+        }
+        ColumnString column = read(values);
+
+        assertEquals(200, column.rowCnt());
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(values[i], column.value(i));
+            assertArrayEquals(values[i].getBytes(StandardCharsets.UTF_8), column.bytesValue(i));
+        }
+    }
+
+    @Test
+    public void bytesAreSizedToTheValuesRead() throws Exception {
+        String[] shortValues = new String[10000];
+        String[] longValues = new String[300];
+        for (int i = 0; i < shortValues.length; i++) {
+            shortValues[i] = i % 3 == 0 ? "" : "x";
+        }
+        for (int i = 0; i < longValues.length; i++) {
+            longValues[i] = new String(new char[i % 2 == 0 ? 10 : 200]).replace('\0', 'y');
+        }
+
+        for (String[] values : new String[][]{shortValues, longValues}) {
+            ColumnString column = read(values);
+            int total = column.offsets()[values.length - 1];
+            assertTrue(column.bytes().length <= total + total / 4, column.bytes().length + " for " + total);
+            assertEquals(values[values.length - 1], column.value(values.length - 1));
+        }
+    }
+
+    @Test
+    public void nonAsciiValuesAreDecodedWithTheCharset() throws Exception {
+        ColumnString column = read(new String[]{"plain", "naïve", "字节"});
+
+        assertEquals("plain", column.value(0));
+        assertEquals("naïve", column.value(1));
+        assertEquals("字节", column.value(2));
+        assertArrayEquals("字节".getBytes(StandardCharsets.UTF_8), column.bytesValue(2));
+    }
+
+    @Test
+    public void dedupCacheSharesEqualValues() throws Exception {
+        ColumnString column = read(new String[]{"a", "b", "a", "bb", "b"});
+        assertNotSame(column.value(0), column.value(2));
+
+        column.enableDedupCache(16);
+        assertSame(column.value(0), column.value(2));
+        assertSame(column.value(1), column.value(4));
+        assertEquals("bb", column.value(3));
+        assertEquals("b", column.value(4));
+    }
+
+    @Test
+    public void sampleBlockColumnIsWritable() throws Exception {
+        IColumn column = type.deserializeBinaryColumn("c", 0, null);
+        assertFalse(column instanceof ColumnString);
+    }
+
+    private ColumnString read(String[] values) throws Exception {
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        type.serializeBinaryColumn(values, values.length, new BinarySerializer(writer, false));
+        BinaryDeserializer deserializer = new BinaryDeserializer(new FragmentBuffedReader(toBytes(writer)), false);
+        return (ColumnString) type.deserializeBinaryColumn("c", values.length, deserializer);
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.flush;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.bytedance.bytehouse.data.type.DataTypeFloat64;
+import com.bytedance.bytehouse.data.type.complex.DataTypeString;
+import com.bytedance.bytehouse.data.type.complex.DataTypeTuple;
+import com.bytedance.bytehouse.jdbc.ByteHouseStruct;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class ColumnTupleTest {
+
+    @Test
+    public void resultRowsAreViewsOverTheElementColumns() throws Exception {
+        DataTypeTuple type = new DataTypeTuple("Tuple(String, Float64)",
+                new IDataType<?, ?>[]{new DataTypeString(StandardCharsets.UTF_8), new DataTypeFloat64()});
+        IColumn column = ColumnFactoryUtils.createColumn(null, type, null);
+        column.setColumnWriterBuffer(new ColumnWriterBuffer());
+        column.write(new ByteHouseStruct("Tuple", new Object[]{"a", 1.5}));
+        column.write(new ByteHouseStruct("Tuple", new Object[]{"b", 2.5}));
+
+        ColumnTuple result = (ColumnTuple) type.deserializeBinaryColumn("t", 2, flush(column));
+
+        assertArrayEquals(new double[]{1.5, 2.5}, ((ColumnDouble) result.element(1)).data());
+        ByteHouseStruct second = (ByteHouseStruct) result.value(1);
+        assertEquals("b", second.getAttribute(0));
+        assertArrayEquals(new Object[]{"b", 2.5}, second.getAttributes());
+        assertEquals("(a,1.5)", result.value(0).toString());
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.toBytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bytedance.bytehouse.buffer.ByteArrayWriter;
+import com.bytedance.bytehouse.data.type.DataTypeFloat64;
+import com.bytedance.bytehouse.data.type.DataTypeIPv4;
+import com.bytedance.bytehouse.data.type.DataTypeIPv6;
+import com.bytedance.bytehouse.data.type.DataTypeInt32;
+import com.bytedance.bytehouse.data.type.DataTypeUInt128;
+import com.bytedance.bytehouse.data.type.DataTypeUInt256;
+import com.bytedance.bytehouse.data.type.DataTypeUInt32;
+import com.bytedance.bytehouse.data.type.DataTypeUInt64;
+import com.bytedance.bytehouse.data.type.DataTypeUInt8;
+import com.bytedance.bytehouse.data.type.DataTypeUUID;
+import com.bytedance.bytehouse.jdbc.tool.FragmentBuffedReader;
+import com.bytedance.bytehouse.serde.BinaryDeserializer;
+import com.bytedance.bytehouse.serde.BinarySerializer;
+import java.math.BigInteger;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class PrimitiveColumnTest {
+
+    @Test
+    public void numericTypesDeserializeIntoPrimitiveColumns() throws Exception {
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        serializer.writeInt(-7);
+        serializer.writeInt(42);
+        serializer.writeInt(-1);
+        serializer.writeByte((byte) 200);
+        serializer.writeDouble(1.5);
+
+        BinaryDeserializer deserializer = new BinaryDeserializer(
+                new FragmentBuffedReader(toBytes(writer)), false);
+
+        IColumn int32 = new DataTypeInt32().deserializeBinaryColumn("a", 2, deserializer);
+        assertTrue(int32 instanceof ColumnInt);
+        assertEquals(-7, int32.intValue(0));
+        assertEquals(42L, int32.longValue(1));
+        assertEquals(42, int32.value(1));
+        assertFalse(int32.isNull(0));
+
+        IColumn uint32 = new DataTypeUInt32().deserializeBinaryColumn("b", 1, deserializer);
+        assertTrue(uint32 instanceof ColumnLong);
+        assertEquals(4294967295L, uint32.longValue(0));
+        assertEquals(4294967295L, uint32.value(0));
+
+        IColumn uint8 = new DataTypeUInt8().deserializeBinaryColumn("c", 1, deserializer);
+        assertEquals((short) 200, uint8.shortValue(0));
+        assertEquals((short) 200, uint8.value(0));
+
+        IColumn float64 = new DataTypeFloat64().deserializeBinaryColumn("d", 1, deserializer);
+        assertEquals(1.5D, float64.doubleValue(0));
+        assertEquals(1, float64.intValue(0));
+    }
+
+    @Test
+    public void unsignedTypesKeepTheirBitsUntilRead() throws Exception {
+        BigInteger uint64Max = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+        BigInteger uint128 = BigInteger.ONE.shiftLeft(127).add(BigInteger.valueOf(12345));
+        BigInteger uint256 = BigInteger.ONE.shiftLeft(256).subtract(BigInteger.valueOf(2));
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        new DataTypeUInt64().serializeBinary(uint64Max, serializer);
+        new DataTypeUInt64().serializeBinary(BigInteger.valueOf(5), serializer);
+        new DataTypeUInt128().serializeBinary(uint128, serializer);
+        new DataTypeUInt128().serializeBinary(BigInteger.ONE, serializer);
+        new DataTypeUInt256().serializeBinary(uint256, serializer);
+
+        BinaryDeserializer deserializer = new BinaryDeserializer(
+                new FragmentBuffedReader(toBytes(writer)), false);
+
+        IColumn uint64 = new DataTypeUInt64().deserializeBinaryColumn("a", 2, deserializer);
+        assertTrue(uint64 instanceof ColumnUInt64);
+        assertEquals(uint64Max, uint64.value(0));
+        assertEquals(BigInteger.valueOf(5), uint64.value(1));
+        assertEquals(-1L, uint64.longValue(0));
+        assertEquals(uint64Max.doubleValue(), uint64.doubleValue(0));
+        assertEquals("18446744073709551615", ((ColumnUInt64) uint64).stringValue(0));
+        ((ColumnUInt64) uint64).returnLongs();
+        assertEquals(-1L, uint64.value(0));
+        assertEquals(5L, uint64.value(1));
+
+        IColumn wide128 = new DataTypeUInt128().deserializeBinaryColumn("b", 2, deserializer);
+        assertTrue(wide128 instanceof ColumnWideUInt);
+        assertEquals(uint128, wide128.value(0));
+        assertEquals(BigInteger.ONE, wide128.value(1));
+        assertEquals(12345L, wide128.longValue(0));
+        assertEquals(uint128.doubleValue(), wide128.doubleValue(0));
+
+        IColumn wide256 = new DataTypeUInt256().deserializeBinaryColumn("c", 1, deserializer);
+        assertEquals(uint256, wide256.value(0));
+        assertEquals(uint256.doubleValue(), wide256.doubleValue(0));
+    }
+
+    @Test
+    public void fixedWidthBinaryTypesAcceptAndKeepPackedValues() throws Exception {
+        UUID uuid = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        Inet6Address address = (Inet6Address) InetAddress.getByName("2001:db8::ff00:42:8329");
+        byte[] mapped = new byte[16];
+        mapped[10] = (byte) 0xff;
+        mapped[11] = (byte) 0xff;
+        mapped[15] = 1;
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        new DataTypeUUID().serializeBinary(uuid, serializer);
+        assertTrue(new DataTypeUUID().serializeBinaryColumn(new long[]{1L, 2L}, 1, serializer));
+        new DataTypeIPv6().serializeBinary(address, serializer);
+        assertTrue(new DataTypeIPv6().serializeBinaryColumn(mapped, 1, serializer));
+        assertTrue(new DataTypeIPv4().serializeBinaryColumn(new int[]{0xC0A80001}, 1, serializer));
+
+        BinaryDeserializer deserializer = new BinaryDeserializer(
+                new FragmentBuffedReader(toBytes(writer)), false);
+
+        IColumn uuids = new DataTypeUUID().deserializeBinaryColumn("a", 2, deserializer);
+        assertTrue(uuids instanceof ColumnUUID);
+        assertEquals(uuid, uuids.value(0));
+        assertEquals(new UUID(1L, 2L), uuids.value(1));
+        assertEquals(2L, ((ColumnUUID) uuids).leastSignificantBits(1));
+
+        IColumn addresses = new DataTypeIPv6().deserializeBinaryColumn("b", 2, deserializer);
+        assertTrue(addresses instanceof ColumnIPv6);
+        assertEquals(address, addresses.value(0));
+        assertArrayEquals(address.getAddress(), addresses.bytesValue(0));
+        assertTrue(addresses.value(1) instanceof Inet6Address);
+        assertArrayEquals(mapped, addresses.bytesValue(1));
+
+        IColumn ipv4 = new DataTypeIPv4().deserializeBinaryColumn("c", 1, deserializer);
+        assertEquals(0xC0A80001L, ipv4.value(0));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.data;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.toBytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bytedance.bytehouse.buffer.ByteArrayWriter;
+import com.bytedance.bytehouse.data.type.DataTypeDate;
+import com.bytedance.bytehouse.data.type.DataTypeFloat64;
+import com.bytedance.bytehouse.data.type.DataTypeIPv4;
+import com.bytedance.bytehouse.data.type.DataTypeInt32;
+import com.bytedance.bytehouse.data.type.DataTypeUInt16;
+import com.bytedance.bytehouse.data.type.DataTypeUInt32;
+import com.bytedance.bytehouse.data.type.DataTypeUInt8;
+import com.bytedance.bytehouse.data.type.complex.DataTypeString;
+import com.bytedance.bytehouse.jdbc.tool.FragmentBuffedReader;
+import com.bytedance.bytehouse.misc.StringView;
+import com.bytedance.bytehouse.serde.BinaryDeserializer;
+import com.bytedance.bytehouse.serde.BinarySerializer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import org.junit.jupiter.api.Test;
+
+public class SerializeBinaryColumnTest {
+
+    @Test
+    public void primitiveArraysSerializeLikeBoxedValues() throws Exception {
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        assertTrue(new DataTypeInt32().serializeBinaryColumn(new int[]{-7, 42, 99}, 2, serializer));
+        assertTrue(new DataTypeUInt32().serializeBinaryColumn(new long[]{4294967295L}, 1, serializer));
+        assertTrue(new DataTypeUInt8().serializeBinaryColumn(new short[]{200}, 1, serializer));
+        assertTrue(new DataTypeFloat64().serializeBinaryColumn(new double[]{1.5}, 1, serializer));
+
+        ByteArrayWriter expectedWriter = new ByteArrayWriter(1024);
+        BinarySerializer expected = new BinarySerializer(expectedWriter, false);
+        new DataTypeInt32().serializeBinary(-7, expected);
+        new DataTypeInt32().serializeBinary(42, expected);
+        new DataTypeUInt32().serializeBinary(4294967295L, expected);
+        new DataTypeUInt8().serializeBinary((short) 200, expected);
+        new DataTypeFloat64().serializeBinary(1.5, expected);
+
+        assertArrayEquals(toBytes(expectedWriter), toBytes(writer));
+    }
+
+    @Test
+    public void unsignedValuesOutOfRangeAreRejected() throws Exception {
+        BinarySerializer serializer = new BinarySerializer(new ByteArrayWriter(1024), false);
+        assertThrows(SQLException.class,
+                () -> new DataTypeUInt8().serializeBinaryColumn(new short[]{1, 256}, 2, serializer));
+        assertThrows(SQLException.class,
+                () -> new DataTypeUInt16().serializeBinaryColumn(new int[]{-1}, 1, serializer));
+        assertThrows(SQLException.class,
+                () -> new DataTypeUInt32().serializeBinaryColumn(new long[]{4294967296L}, 1, serializer));
+        assertThrows(SQLException.class,
+                () -> new DataTypeIPv4().serializeBinaryColumn(new long[]{0L, -1L}, 2, serializer));
+        assertTrue(new DataTypeUInt16().serializeBinaryColumn(new int[]{65535}, 1, serializer));
+    }
+
+    @Test
+    public void stringColumnAcceptsStringsAndBytes() throws Exception {
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        DataTypeString type = new DataTypeString(StandardCharsets.UTF_8);
+        assertTrue(type.serializeBinaryColumn(new String[]{"abc", "héllo"}, 2, serializer));
+        assertTrue(type.serializeBinaryColumn(new byte[][]{{1, 2}}, 1, serializer));
+
+        BinaryDeserializer deserializer = new BinaryDeserializer(
+                new FragmentBuffedReader(toBytes(writer)), false);
+        assertEquals("abc", type.deserializeBinary(deserializer));
+        assertEquals("héllo", type.deserializeBinary(deserializer));
+        assertArrayEquals(new byte[]{1, 2}, deserializer.readBytesBinary());
+
+        assertThrows(SQLException.class,
+                () -> type.serializeBinaryColumn(new String[]{"a", null}, 2, serializer));
+    }
+
+    @Test
+    public void datesConvertedToEpochDaysSerializeLikeLocalDates() throws Exception {
+        DataTypeDate type = new DataTypeDate();
+        ZoneId tz = ZoneId.of("UTC");
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        for (Object date : new Object[]{"2021-06-01", new StringView("'2021-06-02'", 1, 11),
+                Date.valueOf("1999-12-31"), LocalDate.of(1970, 1, 2), 18779L}) {
+            type.serializeBinaryValue(type.convertJdbcToEpochDay(date, tz), serializer);
+        }
+        assertTrue(type.serializeBinaryColumn(new short[]{18779}, 1, serializer));
+
+        ByteArrayWriter expectedWriter = new ByteArrayWriter(1024);
+        BinarySerializer expected = new BinarySerializer(expectedWriter, false);
+        type.serializeBinary(LocalDate.of(2021, 6, 1), expected);
+        type.serializeBinary(LocalDate.of(2021, 6, 2), expected);
+        type.serializeBinary(LocalDate.of(1999, 12, 31), expected);
+        type.serializeBinary(LocalDate.of(1970, 1, 2), expected);
+        type.serializeBinary(LocalDate.ofEpochDay(18779), expected);
+        type.serializeBinary(LocalDate.ofEpochDay(18779), expected);
+
+        assertArrayEquals(toBytes(expectedWriter), toBytes(writer));
+    }
+
+    @Test
+    public void unsupportedArrayIsRejectedWithoutWriting() throws Exception {
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        assertFalse(new DataTypeInt32().serializeBinaryColumn(new long[]{1L}, 1, serializer));
+        assertFalse(new DataTypeInt32().serializeBinaryColumn(new Object[]{1}, 1, serializer));
+        assertEquals(0, toBytes(writer).length);
+    }
+}
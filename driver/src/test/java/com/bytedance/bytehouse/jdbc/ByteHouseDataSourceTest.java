@@ -20,6 +20,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.bytedance.bytehouse.exception.InvalidValueException;
+import java.net.ServerSocket;
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
@@ -58,4 +60,19 @@ public class ByteHouseDataSourceTest {
         assertEquals(Collections.singletonList("jdbc:bytehouse:///?region=CN-NORTH-1"),
                 ByteHouseDataSource.splitUrl("jdbc:bytehouse:///?region=CN-NORTH-1"));
     }
+
+    @Test
+    public void testPoolReleasesSlotWhenConnectFails() throws Exception {
+        final int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        try (ByteHouseDataSource dataSource = new ByteHouseDataSource("jdbc:bytehouse://127.0.0.1:" + port
+                + "?connection_pool=true&pool_min_idle=0&pool_max_size=1&pool_max_wait=1")) {
+            assertThrows(SQLException.class, dataSource::getConnection);
+            assertThrows(SQLException.class, dataSource::getConnection);
+            assertEquals(0, dataSource.getPooledConnectionCount());
+            assertEquals(0, dataSource.getIdleConnectionCount());
+        }
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.jdbc;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.toBytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.bytedance.bytehouse.buffer.ByteArrayWriter;
+import com.bytedance.bytehouse.data.Block;
+import com.bytedance.bytehouse.data.ColumnDouble;
+import com.bytedance.bytehouse.data.ColumnInt;
+import com.bytedance.bytehouse.data.ColumnTuple;
+import com.bytedance.bytehouse.data.ColumnUInt64;
+import com.bytedance.bytehouse.data.IColumn;
+import com.bytedance.bytehouse.data.IDataType;
+import com.bytedance.bytehouse.data.type.DataTypeBitMap64;
+import com.bytedance.bytehouse.data.type.DataTypeFloat64;
+import com.bytedance.bytehouse.data.type.DataTypeInt32;
+import com.bytedance.bytehouse.data.type.DataTypeUInt64;
+import com.bytedance.bytehouse.data.type.complex.DataTypeTuple;
+import com.bytedance.bytehouse.jdbc.tool.FragmentBuffedReader;
+import com.bytedance.bytehouse.misc.CheckedIterator;
+import com.bytedance.bytehouse.protocol.DataResponse;
+import com.bytedance.bytehouse.serde.BinaryDeserializer;
+import com.bytedance.bytehouse.serde.BinarySerializer;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+public class ByteHouseResultSetTest {
+
+    private final DataTypeTuple tupleType = new DataTypeTuple("Tuple(Int32, Float64)",
+            new IDataType<?, ?>[]{new DataTypeInt32(), new DataTypeFloat64()});
+
+    @Test
+    public void columnsOfTheCurrentBlockAreReadable() throws Exception {
+        Block first = block(new int[]{1, 2}, new double[]{1.5, 2.5}, new long[]{-1L, 3L});
+        Block second = block(new int[]{3}, new double[]{3.5}, new long[]{4L});
+        ByteHouseResultSet rs = resultSet(first, second);
+
+        assertTrue(rs.next());
+        assertEquals(0, rs.getBlockRow());
+        assertEquals(2, rs.getBlockRowCount());
+        ColumnTuple tuples = (ColumnTuple) rs.getColumn("t");
+        assertArrayEquals(new double[]{1.5, 2.5}, ((ColumnDouble) tuples.element(1)).data());
+        assertArrayEquals(new long[]{-1L, 3L}, ((ColumnUInt64) rs.getColumn(2)).data());
+        assertEquals("18446744073709551615", rs.getString(2));
+
+        assertTrue(rs.next());
+        assertEquals(1, rs.getBlockRow());
+        assertTrue(rs.next());
+        assertEquals(0, rs.getBlockRow());
+        assertEquals(1, rs.getBlockRowCount());
+        assertArrayEquals(new int[]{3}, ((ColumnInt) ((ColumnTuple) rs.getColumn(1)).element(0)).data());
+        assertFalse(rs.next());
+    }
+
+    @Test
+    public void bitmapsAreReadByIndexAndByName() throws Exception {
+        DataTypeBitMap64 type = new DataTypeBitMap64();
+        Roaring64NavigableMap bitmap = Roaring64NavigableMap.bitmapOf(1L, 1L << 40, -1L);
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        type.serializeBinaryValue(bitmap, new BinarySerializer(writer, false));
+        IColumn column = type.deserializeBinaryColumn("bm",
+                1, new BinaryDeserializer(new FragmentBuffedReader(toBytes(writer)), false));
+        ByteHouseResultSet rs = resultSet(new Block(1, new IColumn[]{column}));
+
+        assertTrue(rs.next());
+        assertEquals(bitmap, rs.getObject(1, Roaring64NavigableMap.class));
+        assertEquals(bitmap, rs.getObject("bm", Roaring64NavigableMap.class));
+    }
+
+    private Block block(int[] ints, double[] doubles, long[] uint64s) throws SQLException {
+        IColumn tuples = new ColumnTuple("t", tupleType, new IColumn[]{
+                new ColumnInt(null, new DataTypeInt32(), ints),
+                new ColumnDouble(null, new DataTypeFloat64(), doubles)});
+        IColumn longs = new ColumnUInt64("u", new DataTypeUInt64(), uint64s);
+        return new Block(ints.length, new IColumn[]{tuples, longs});
+    }
+
+    private static ByteHouseResultSet resultSet(Block... blocks) throws SQLException {
+        Iterator<Block> iterator = Arrays.asList(blocks).iterator();
+        CheckedIterator<DataResponse, SQLException> responses = new CheckedIterator<DataResponse, SQLException>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public DataResponse next() {
+                return new DataResponse("", iterator.next());
+            }
+        };
+        return new ByteHouseResultSet(null, null, "db", "t", blocks[0], responses);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.jdbc.statement;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.flush;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bytedance.bytehouse.client.ServerContext;
+import com.bytedance.bytehouse.data.Block;
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.IColumn;
+import com.bytedance.bytehouse.data.type.DataTypeIPv6;
+import com.bytedance.bytehouse.data.type.DataTypeUUID;
+import com.bytedance.bytehouse.jdbc.ByteHouseConnection;
+import com.bytedance.bytehouse.serde.BinaryDeserializer;
+import com.bytedance.bytehouse.settings.ByteHouseConfig;
+import java.net.InetAddress;
+import java.sql.SQLException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+public class ByteHouseColumnarInsertTest {
+
+    private final ByteHouseConnection connection = mock(ByteHouseConnection.class);
+
+    private final List<Object> sent = new ArrayList<>();
+
+    @Test
+    public void packedUuidsAndIPv6TakeSeveralElementsPerRow() throws Exception {
+        ByteHouseColumnarInsert insert = newInsert();
+        insert.setColumn(1, new long[]{1L, 2L, 3L, 4L});
+        byte[] addresses = new byte[32];
+        addresses[15] = 1;
+        addresses[31] = 2;
+        insert.setColumn(2, addresses);
+
+        assertEquals(2, insert.sendBlock());
+        assertEquals(new UUID(1L, 2L), sent.get(0));
+        assertEquals(new UUID(3L, 4L), sent.get(1));
+        assertEquals(InetAddress.getByName("::1"), sent.get(2));
+        assertEquals(InetAddress.getByName("::2"), sent.get(3));
+    }
+
+    @Test
+    public void arraysTooShortForTheRowsAreRejectedAndTheColumnCanBeSetAgain() throws Exception {
+        ByteHouseColumnarInsert insert = newInsert();
+        assertThrows(SQLException.class, () -> insert.setColumn(1, new long[]{1L, 2L, 3L}));
+        assertThrows(SQLException.class, () -> insert.setColumn(1, new long[]{1L, 2L, 3L, 4L}, 3));
+        assertThrows(SQLException.class, () -> insert.setColumn(2, new byte[20]));
+        assertThrows(SQLException.class, () -> insert.sendBlock());
+
+        insert.setColumn(1, new long[]{5L, 6L, 7L, 8L}, 1);
+        insert.setColumn(2, new byte[16], 1);
+        assertEquals(1, insert.sendBlock());
+        assertEquals(new UUID(5L, 6L), sent.get(0));
+        assertEquals(InetAddress.getByName("::"), sent.get(1));
+    }
+
+    @Test
+    public void emptyBlocksAreNotSent() throws Exception {
+        ByteHouseColumnarInsert insert = newInsert();
+        insert.setColumn(1, new long[0]);
+        insert.setColumn(2, new byte[0]);
+        assertEquals(0, insert.sendBlock());
+        verify(connection, never()).sendBlock(any());
+    }
+
+    private ByteHouseColumnarInsert newInsert() throws SQLException {
+        ServerContext serverContext = mock(ServerContext.class);
+        when(serverContext.getConfigure()).thenReturn(ByteHouseConfig.Builder.builder().build());
+        when(serverContext.timeZone()).thenReturn(ZoneId.of("UTC"));
+        when(connection.getSampleBlock(any(), any())).thenReturn(new Block(0, new IColumn[]{
+                ColumnFactoryUtils.createColumn("u", new DataTypeUUID(), new Object[0]),
+                ColumnFactoryUtils.createColumn("ip", new DataTypeIPv6(), new Object[0])}));
+        when(connection.sendBlock(any())).thenAnswer(invocation -> {
+            Block block = invocation.getArgument(0);
+            for (int i = 0; i < block.columnCnt(); i++) {
+                IColumn column = block.getColumn(i);
+                BinaryDeserializer deserializer = flush(column);
+                // the name and type of the column come first
+                deserializer.readUTF8StringBinary();
+                deserializer.readUTF8StringBinary();
+                IColumn read = column.type().deserializeBinaryColumn(null, block.rowCnt(), deserializer);
+                for (int row = 0; row < block.rowCnt(); row++) {
+                    sent.add(read.value(row));
+                }
+            }
+            return block.rowCnt();
+        });
+        return new ByteHouseColumnarInsert(connection, serverContext, "INSERT INTO t VALUES");
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.jdbc.statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.bytedance.bytehouse.data.Block;
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.IColumn;
+import com.bytedance.bytehouse.data.type.DataTypeInt32;
+import com.bytedance.bytehouse.exception.ByteHouseSQLException;
+import com.bytedance.bytehouse.jdbc.ByteHouseConnection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class InsertBlockPipelineTest {
+
+    @Test
+    public void blocksAreSentInOrderWhileTheNextIsFilled() throws Exception {
+        final List<Integer> sentRows = Collections.synchronizedList(new ArrayList<>());
+        final ByteHouseConnection connection = mock(ByteHouseConnection.class);
+        when(connection.sendBlock(any())).thenAnswer(invocation -> {
+            final Block block = invocation.getArgument(0);
+            // the sender must see the rows written by the caller thread
+            sentRows.add(block.rowCnt());
+            Thread.sleep(5);
+            return block.rowCnt();
+        });
+
+        final InsertBlockPipeline pipeline = new InsertBlockPipeline(connection, 1);
+        final Set<Block> used = Collections.newSetFromMap(new IdentityHashMap<>());
+        Block block = newBlock();
+        for (int i = 1; i <= 10; i++) {
+            for (int row = 0; row < i; row++) {
+                block.setObject(0, row);
+                block.appendRow();
+            }
+            used.add(block);
+            block = pipeline.handOff(block);
+            assertEquals(0, block.rowCnt());
+        }
+        assertEquals(55, pipeline.finish());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i + 1, (int) sentRows.get(i));
+        }
+        // double buffering: the statement block and one clone
+        assertEquals(2, used.size());
+        assertEquals(0, pipeline.finish());
+    }
+
+    @Test
+    public void handOffKeepsTheRowData() throws Exception {
+        final ByteHouseConnection connection = mock(ByteHouseConnection.class);
+        final InsertBlockPipeline pipeline = new InsertBlockPipeline(connection, 2);
+        final Block block = newBlock();
+        block.setObject(0, 42);
+        block.appendRow();
+        final Block next = pipeline.handOff(block);
+        assertNotSame(block, next);
+        assertEquals(42, next.getObject(0));
+        pipeline.finish();
+    }
+
+    @Test
+    public void senderFailureIsThrownToTheCaller() throws Exception {
+        final ByteHouseConnection connection = mock(ByteHouseConnection.class);
+        when(connection.sendBlock(any())).thenThrow(new ByteHouseSQLException(-1, "broken pipe"));
+
+        final InsertBlockPipeline pipeline = new InsertBlockPipeline(connection, 1);
+        Block block = newBlock();
+        block.setObject(0, 1);
+        block.appendRow();
+        block = pipeline.handOff(block);
+        final SQLException ex = assertThrows(SQLException.class, pipeline::finish);
+        assertEquals("broken pipe", ex.getMessage());
+        assertThrows(SQLException.class, () -> pipeline.handOff(newBlock()));
+    }
+
+    private static Block newBlock() {
+        final Block block = new Block(0, new IColumn[]{
+                ColumnFactoryUtils.createColumn("a", new DataTypeInt32(), new Object[0])
+        });
+        block.initWriteBuffer();
+        return block;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.jdbc.statement;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bytedance.bytehouse.buffer.ByteArrayWriter;
+import com.bytedance.bytehouse.data.Block;
+import com.bytedance.bytehouse.data.ColumnFactoryUtils;
+import com.bytedance.bytehouse.data.DataTypeConverter;
+import com.bytedance.bytehouse.data.IColumn;
+import com.bytedance.bytehouse.data.type.DataTypeInt32;
+import com.bytedance.bytehouse.data.type.complex.DataTypeString;
+import com.bytedance.bytehouse.jdbc.tool.FragmentBuffedReader;
+import com.bytedance.bytehouse.misc.InfileCSVReaderUtils;
+import com.bytedance.bytehouse.serde.BinaryDeserializer;
+import com.bytedance.bytehouse.serde.BinarySerializer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class ParallelCSVLoaderTest {
+
+    @Test
+    public void lastRecordEndIgnoresQuotedLineFeeds() {
+        byte[] csv = "1,a\n2,\"b\nc\"\n3,\"d\n".getBytes(StandardCharsets.UTF_8);
+        assertEquals(12, ParallelCSVLoader.lastRecordEnd(csv, csv.length));
+        assertEquals(4, ParallelCSVLoader.lastRecordEnd(csv, 8));
+        assertEquals(0, ParallelCSVLoader.lastRecordEnd(csv, 3));
+    }
+
+    @Test
+    public void blocksAreSentInFileOrder() throws Exception {
+        StringBuilder csv = new StringBuilder("id,name\n");
+        for (int i = 0; i < 1000; i++) {
+            csv.append(i).append(',');
+            if (i % 7 == 0) {
+                csv.append("\"multi\nline, ").append(i).append('"');
+            } else if (i == 500) {
+                // longer than a chunk
+                for (int j = 0; j < 300; j++) {
+                    csv.append('x');
+                }
+            } else {
+                csv.append("name").append(i);
+            }
+            csv.append('\n');
+        }
+
+        List<Integer> ids = new ArrayList<>();
+        ParallelCSVLoader loader = newLoader(3, 128, block -> {
+            ids.addAll(readIds(block));
+            return block.rowCnt();
+        });
+        int rows = loader.load(new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), true);
+
+        assertEquals(1000, rows);
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) ids.get(i));
+        }
+    }
+
+    @Test
+    public void invalidRecordFailsTheLoad() {
+        byte[] csv = "1,a\n2\n3,c\n".getBytes(StandardCharsets.UTF_8);
+        ParallelCSVLoader loader = newLoader(2, 4, Block::rowCnt);
+        assertThrows(SQLException.class, () -> loader.load(new ByteArrayInputStream(csv), false));
+    }
+
+    private static ParallelCSVLoader newLoader(int parallelism, int chunkSize, ParallelCSVLoader.BlockSender sender) {
+        try {
+            Block sample = new Block(0, new IColumn[]{
+                    ColumnFactoryUtils.createColumn("id", new DataTypeInt32(), new Object[0]),
+                    ColumnFactoryUtils.createColumn("name", new DataTypeString(StandardCharsets.UTF_8), new Object[0])
+            });
+            return new ParallelCSVLoader(sample, new DataTypeConverter(ZoneId.of("UTC")),
+                    InfileCSVReaderUtils.csvFormat(","), StandardCharsets.UTF_8, new int[]{0, 1},
+                    100, parallelism, chunkSize, sender);
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static List<Integer> readIds(Block block) throws SQLException {
+        try {
+            ByteArrayWriter writer = new ByteArrayWriter(1024);
+            block.getColumn(0).getColumnWriterBuffer().writeTo(new BinarySerializer(writer, false));
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            for (byte[] bytes : writer.getBufferList()) {
+                out.write(bytes);
+            }
+            BinaryDeserializer deserializer = new BinaryDeserializer(
+                    new FragmentBuffedReader(out.toByteArray()), false);
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 0; i < block.rowCnt(); i++) {
+                ids.add(deserializer.readInt());
+            }
+            return ids;
+        } catch (Exception ex) {
+            throw new SQLException(ex);
+        }
+    }
+}
@@ -34,13 +34,16 @@ public class FragmentBuffedReader implements BuffedReader {
 
     @Override
     public int readBinary() throws IOException {
-        throw new UnsupportedOperationException();
+        byte[] bytes = new byte[1];
+        readBinary(bytes);
+        return bytes[0] & 0xFF;
     }
 
     @Override
-    public int readBinary(byte[] bytes) throws IOException {
+    public int readBinary(byte[] bytes, int offset, int length) throws IOException {
 
-        for (int i = 0; i < bytes.length; ) {
+        int end = offset + length;
+        for (int i = offset; i < end; ) {
             if (bytesPosition == fragments[fragmentPos].length) {
                 fragmentPos++;
                 bytesPosition = 0;
@@ -49,7 +52,7 @@ public class FragmentBuffedReader implements BuffedReader {
 
             byte[] fragment = fragments[fragmentPos];
 
-            int pending = bytes.length - i;
+            int pending = end - i;
             int fillLength = Math.min(pending, fragment.length - bytesPosition);
 
             if (fillLength > 0) {
@@ -59,6 +62,6 @@ public class FragmentBuffedReader implements BuffedReader {
                 bytesPosition += fillLength;
             }
         }
-        return bytes.length;
+        return length;
     }
 }
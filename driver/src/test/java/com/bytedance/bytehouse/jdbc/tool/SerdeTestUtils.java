@@ -0,0 +1,53 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.jdbc.tool;
+
+import com.bytedance.bytehouse.buffer.ByteArrayWriter;
+import com.bytedance.bytehouse.data.IColumn;
+import com.bytedance.bytehouse.serde.BinaryDeserializer;
+import com.bytedance.bytehouse.serde.BinarySerializer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * Helpers to read back what tests wrote with a {@link com.bytedance.bytehouse.serde.BinarySerializer}.
+ */
+public final class SerdeTestUtils {
+
+    private SerdeTestUtils() {
+    }
+
+    /**
+     * Returns the bytes written to writer, in order.
+     */
+    public static byte[] toBytes(ByteArrayWriter writer) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] bytes : writer.getBufferList()) {
+            out.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Flushes the rows written to column and returns a deserializer reading them back.
+     */
+    public static BinaryDeserializer flush(IColumn column) throws IOException, SQLException {
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        column.flushToSerializer(new BinarySerializer(writer, false), true);
+        return new BinaryDeserializer(new FragmentBuffedReader(toBytes(writer)), false);
+    }
+}
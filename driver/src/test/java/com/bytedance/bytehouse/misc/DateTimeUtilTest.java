@@ -0,0 +1,62 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.misc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+public class DateTimeUtilTest {
+
+    @Test
+    public void parsesLocalTicksLikeTimestampValueOf() {
+        String[] texts = {"2021-03-28 01:30:00", "1970-01-01 00:00:00", "2000-02-29 23:59:59.5",
+                "1969-12-31 23:59:59.123456789", "2021-1-5 1:2:3.04", "2262-04-11 23:47:16"};
+        for (String text : texts) {
+            LocalDateTime expected = Timestamp.valueOf(text).toLocalDateTime();
+            long seconds = expected.toEpochSecond(ZoneOffset.UTC);
+            assertEquals(seconds, DateTimeUtil.parseLocalTicks(text, 0), text);
+            assertEquals(seconds * 1000 + expected.getNano() / 1_000_000, DateTimeUtil.parseLocalTicks(text, 3), text);
+            assertEquals(seconds * 1_000_000_000 + expected.getNano(), DateTimeUtil.parseLocalTicks(text, 9), text);
+        }
+        assertEquals(DateTimeUtil.parseLocalTicks("2021-06-01 12:00:00", 0),
+                DateTimeUtil.parseLocalTicks(" 2021-06-01T12:00:00 ", 0));
+        assertEquals(LocalDateTime.of(2021, 6, 1, 0, 0).toEpochSecond(ZoneOffset.UTC),
+                DateTimeUtil.parseLocalTicks("2021-06-01", 0));
+    }
+
+    @Test
+    public void parsesEpochDayLikeDateValueOf() {
+        for (String text : new String[]{"1970-01-01", "1969-12-31", "2000-02-29", "2100-12-31", "2021-1-5"}) {
+            assertEquals(Date.valueOf(text).toLocalDate().toEpochDay(), DateTimeUtil.parseEpochDay(text), text);
+        }
+    }
+
+    @Test
+    public void rejectsOtherFormats() {
+        String[] texts = {"", "2021", "21-01-01", "2021-13-01", "2021-02-29", "2021-01-01 24:00:00",
+                "2021-01-01 12:00", "2021-01-01 12:00:00.", "2021-01-01 12:00:00.1234567890",
+                "2021-01-01 12:00:00Z", "2021/01/01"};
+        for (String text : texts) {
+            assertEquals(DateTimeUtil.NOT_PARSED, DateTimeUtil.parseLocalTicks(text, 3), text);
+        }
+        assertEquals(DateTimeUtil.NOT_PARSED, DateTimeUtil.parseEpochDay("2021-01-01 00:00:00"));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.misc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public class InfileCSVReaderUtilsTest {
+
+    @Test
+    public void streamReadsRecordsOneByOne() throws Exception {
+        Path file = csvFile("id,name\n1,\"a,b\"\n2,c\n");
+        try (InfileCSVReaderUtils.CSVStream csv = InfileCSVReaderUtils.openCSV(
+                file.toString(), ",", true, StandardCharsets.UTF_8)) {
+            assertEquals(Arrays.asList("id", "name"), csv.getHeaders());
+            assertEquals(2, csv.getColumnCount());
+            assertTrue(csv.next());
+            assertEquals("1", csv.get(0));
+            assertEquals("a,b", csv.get(1));
+            assertTrue(csv.next());
+            assertEquals("c", csv.get(1));
+            assertFalse(csv.next());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void streamWithoutHeaderTakesColumnCountFromFirstRecord() throws Exception {
+        Path file = csvFile("1|2|3\n4|5|6\n");
+        try (InfileCSVReaderUtils.CSVStream csv = InfileCSVReaderUtils.openCSV(
+                file.toString(), "|", false, StandardCharsets.UTF_8)) {
+            assertEquals(Collections.emptyList(), csv.getHeaders());
+            assertEquals(3, csv.getColumnCount());
+            assertTrue(csv.next());
+            assertTrue(csv.next());
+            assertEquals("6", csv.get(2));
+            assertFalse(csv.next());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void streamDecodesTheGivenCharset() throws Exception {
+        Path file = Files.createTempFile("infile", ".csv");
+        Files.write(file, "é,ü\n".getBytes(StandardCharsets.ISO_8859_1));
+        try (InfileCSVReaderUtils.CSVStream csv = InfileCSVReaderUtils.openCSV(
+                file.toString(), ",", false, StandardCharsets.ISO_8859_1)) {
+            assertTrue(csv.next());
+            assertEquals("é", csv.get(0));
+            assertEquals("ü", csv.get(1));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    public void streamRejectsInvalidFiles() throws Exception {
+        Path empty = csvFile("id,name\n");
+        Path ragged = csvFile("1,2\n3\n");
+        try {
+            assertThrows(IllegalArgumentException.class,
+                    () -> InfileCSVReaderUtils.openCSV(empty.toString(), ",", true, StandardCharsets.UTF_8));
+            try (InfileCSVReaderUtils.CSVStream csv = InfileCSVReaderUtils.openCSV(
+                    ragged.toString(), ",", false, StandardCharsets.UTF_8)) {
+                assertTrue(csv.next());
+                assertThrows(IllegalArgumentException.class, csv::next);
+            }
+        } finally {
+            Files.delete(empty);
+            Files.delete(ragged);
+        }
+    }
+
+    private static Path csvFile(String content) throws IOException {
+        Path file = Files.createTempFile("infile", ".csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
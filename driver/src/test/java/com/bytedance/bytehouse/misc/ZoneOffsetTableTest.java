@@ -0,0 +1,92 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.misc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Random;
+import java.util.TimeZone;
+import org.junit.jupiter.api.Test;
+
+public class ZoneOffsetTableTest {
+
+    @Test
+    public void offsetsMatchTheZoneRules() {
+        for (String zone : new String[]{"America/New_York", "Europe/London", "Asia/Shanghai", "UTC"}) {
+            ZoneRules rules = ZoneId.of(zone).getRules();
+            ZoneOffsetTable table = new ZoneOffsetTable(ZoneId.of(zone));
+            Random random = new Random(zone.hashCode());
+            for (int i = 0; i < 10000; i++) {
+                long epochSecond = (long) (random.nextDouble() * 4_000_000_000L) - 1_000_000_000L;
+                assertEquals(rules.getOffset(Instant.ofEpochSecond(epochSecond)), table.offset(epochSecond),
+                        zone + " at " + epochSecond);
+            }
+        }
+    }
+
+    @Test
+    public void transitionsStartANewInterval() {
+        ZoneRules rules = ZoneId.of("Europe/London").getRules();
+        ZoneOffsetTable table = new ZoneOffsetTable(ZoneId.of("Europe/London"));
+        // 2021-03-28T01:00:00Z, clocks go forward
+        long transition = 1616893200L;
+        assertEquals(rules.getOffset(Instant.ofEpochSecond(transition - 1)), table.offset(transition - 1));
+        assertEquals(rules.getOffset(Instant.ofEpochSecond(transition)), table.offset(transition));
+        assertEquals(rules.getOffset(Instant.ofEpochSecond(transition - 1)), table.offset(transition - 1));
+    }
+
+    @Test
+    public void localTimesResolveLikeAtZone() {
+        for (String zone : new String[]{"America/New_York", "Europe/London", "Australia/Lord_Howe", "UTC"}) {
+            ZoneOffsetTable table = new ZoneOffsetTable(ZoneId.of(zone));
+            // every quarter of an hour of 2021, including the gaps and overlaps
+            LocalDateTime ldt = LocalDateTime.of(2021, 1, 1, 0, 0);
+            for (int i = 0; i < 365 * 96; i++) {
+                assertEquals(ldt.atZone(ZoneId.of(zone)).toEpochSecond(),
+                        table.toEpochSecond(ldt.toEpochSecond(ZoneOffset.UTC)), zone + " at " + ldt);
+                ldt = ldt.plusMinutes(15);
+            }
+        }
+    }
+
+    @Test
+    public void localTimesResolveLikeTimestampValueOf() {
+        TimeZone defaultZone = TimeZone.getDefault();
+        try {
+            for (String zone : new String[]{"America/New_York", "Europe/London", "Australia/Lord_Howe", "UTC"}) {
+                TimeZone.setDefault(TimeZone.getTimeZone(zone));
+                ZoneOffsetTable table = new ZoneOffsetTable(ZoneId.of(zone));
+                LocalDateTime ldt = LocalDateTime.of(2021, 1, 1, 0, 0);
+                for (int i = 0; i < 365 * 96; i++) {
+                    assertEquals(Timestamp.valueOf(ldt).getTime() / 1000,
+                            table.toEpochSecondLikeCalendar(ldt.toEpochSecond(ZoneOffset.UTC)), zone + " at " + ldt);
+                    ldt = ldt.plusMinutes(15);
+                }
+            }
+        } finally {
+            TimeZone.setDefault(defaultZone);
+        }
+        // 01:30 happens twice on 2021-11-07 in New York, the later one is in EST
+        assertEquals(1636266600L, new ZoneOffsetTable(ZoneId.of("America/New_York"))
+                .toEpochSecondLikeCalendar(LocalDateTime.of(2021, 11, 7, 1, 30).toEpochSecond(ZoneOffset.UTC)));
+    }
+}
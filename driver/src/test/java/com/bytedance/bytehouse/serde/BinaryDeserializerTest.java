@@ -0,0 +1,79 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.serde;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.toBytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.bytedance.bytehouse.buffer.ByteArrayWriter;
+import com.bytedance.bytehouse.jdbc.tool.FragmentBuffedReader;
+import org.junit.jupiter.api.Test;
+
+public class BinaryDeserializerTest {
+
+    // more values than fit in one bulk chunk
+    private static final int ROWS = 3000;
+
+    @Test
+    public void bulkReadsMatchSingleValueReads() throws Exception {
+        ByteArrayWriter writer = new ByteArrayWriter(1024 * 1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        for (int i = 0; i < ROWS; i++) {
+            serializer.writeShort((short) (i * 31));
+        }
+        for (int i = 0; i < ROWS; i++) {
+            serializer.writeInt(i * -100003);
+        }
+        for (int i = 0; i < ROWS; i++) {
+            serializer.writeLong(i * 0x10000000001L);
+        }
+        for (int i = 0; i < ROWS; i++) {
+            serializer.writeDouble(i / 3.0);
+        }
+        serializer.writeByte((byte) 0xFE);
+        serializer.writeInt(-2);
+        serializer.writeShort((short) -3);
+
+        BinaryDeserializer deserializer = new BinaryDeserializer(
+                new FragmentBuffedReader(toBytes(writer)), false);
+
+        short[] shorts = new short[ROWS + 1];
+        deserializer.readShorts(shorts, 1, ROWS);
+        int[] ints = new int[ROWS];
+        deserializer.readInts(ints, 0, ROWS);
+        long[] longs = new long[ROWS];
+        deserializer.readLongs(longs, 0, ROWS);
+        double[] doubles = new double[ROWS];
+        deserializer.readDoubles(doubles, 0, ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals((short) (i * 31), shorts[i + 1]);
+            assertEquals(i * -100003, ints[i]);
+            assertEquals(i * 0x10000000001L, longs[i]);
+            assertEquals(i / 3.0, doubles[i]);
+        }
+
+        short[] uint8 = new short[1];
+        deserializer.readUnsignedBytes(uint8, 0, 1);
+        long[] uint32 = new long[1];
+        deserializer.readUnsignedInts(uint32, 0, 1);
+        int[] uint16 = new int[1];
+        deserializer.readUnsignedShorts(uint16, 0, 1);
+        assertArrayEquals(new short[] {254}, uint8);
+        assertArrayEquals(new long[] {4294967294L}, uint32);
+        assertArrayEquals(new int[] {65533}, uint16);
+    }
+}
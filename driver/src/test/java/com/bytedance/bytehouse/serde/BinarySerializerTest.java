@@ -0,0 +1,119 @@
+/*
+ * This file may have been modified by ByteDance Ltd. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.bytedance.bytehouse.serde;
+
+import static com.bytedance.bytehouse.jdbc.tool.SerdeTestUtils.toBytes;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.bytedance.bytehouse.buffer.ByteArrayWriter;
+import com.bytedance.bytehouse.data.type.DataTypeInt64;
+import com.bytedance.bytehouse.data.type.DataTypeUInt8;
+import com.bytedance.bytehouse.data.type.complex.DataTypeNullable;
+import com.bytedance.bytehouse.jdbc.tool.FragmentBuffedReader;
+import com.bytedance.bytehouse.misc.StringView;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class BinarySerializerTest {
+
+    // more values than fit in one bulk chunk
+    private static final int ROWS = 3000;
+
+    @Test
+    public void bulkWritesMatchSingleValueWrites() throws Exception {
+        short[] shorts = new short[ROWS];
+        int[] ints = new int[ROWS];
+        long[] longs = new long[ROWS];
+        float[] floats = new float[ROWS];
+        double[] doubles = new double[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            shorts[i] = (short) (i * 31);
+            ints[i] = i * -100003;
+            longs[i] = i * 0x10000000001L;
+            floats[i] = i / 7.0f;
+            doubles[i] = i / 3.0;
+        }
+
+        ByteArrayWriter writer = new ByteArrayWriter(1024 * 1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        serializer.writeShorts(shorts, 0, ROWS);
+        serializer.writeInts(ints, 0, ROWS);
+        serializer.writeLongs(longs, 1, ROWS - 1);
+        serializer.writeFloats(floats, 0, ROWS);
+        serializer.writeDoubles(doubles, 0, ROWS);
+
+        BinaryDeserializer deserializer = new BinaryDeserializer(
+                new FragmentBuffedReader(toBytes(writer)), false);
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(shorts[i], deserializer.readShort());
+        }
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(ints[i], deserializer.readInt());
+        }
+        for (int i = 1; i < ROWS; i++) {
+            assertEquals(longs[i], deserializer.readLong());
+        }
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(floats[i], deserializer.readFloat());
+        }
+        for (int i = 0; i < ROWS; i++) {
+            assertEquals(doubles[i], deserializer.readDouble());
+        }
+    }
+
+    @Test
+    public void nullableBulkSerializationUsesNestedBulkWrite() throws Exception {
+        DataTypeNullable nullable = new DataTypeNullable(
+                "Nullable(Int64)", new DataTypeInt64(), new DataTypeUInt8());
+
+        ByteArrayWriter writer = new ByteArrayWriter(1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        nullable.serializeBinaryBulk(new Object[] {1L, null, -3L}, serializer);
+
+        BinaryDeserializer deserializer = new BinaryDeserializer(
+                new FragmentBuffedReader(toBytes(writer)), false);
+        Object[] values = nullable.deserializeBinaryBulk(3, deserializer);
+        assertEquals(1L, values[0]);
+        assertEquals(null, values[1]);
+        assertEquals(-3L, values[2]);
+    }
+
+    @Test
+    public void utf8EncodingMatchesStringGetBytes() throws Exception {
+        StringBuilder longValue = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            longValue.append(i % 3 == 0 ? "\uD83D\uDE00" : i % 3 == 1 ? "é" : "字");
+        }
+        String[] values = {
+                "", "ascii", "naïve", "字节跳动", "\uD83D\uDE00 emoji",
+                "unpaired \uD83D high", "unpaired \uDE00 low", "ends with \uD83D", longValue.toString()};
+
+        ByteArrayWriter writer = new ByteArrayWriter(1024 * 1024);
+        BinarySerializer serializer = new BinarySerializer(writer, false);
+        for (String value : values) {
+            serializer.writeUTF8Binary(new StringView("[" + value + "]", 1, value.length() + 1));
+        }
+
+        BinaryDeserializer deserializer = new BinaryDeserializer(
+                new FragmentBuffedReader(toBytes(writer)), false);
+        for (String value : values) {
+            byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+            assertEquals(expected.length, BinarySerializer.utf8Length(value));
+            assertArrayEquals(expected, deserializer.readBytesBinary());
+        }
+    }
+}
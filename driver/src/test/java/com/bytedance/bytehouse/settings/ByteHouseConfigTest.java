@@ -178,4 +178,25 @@ class ByteHouseConfigTest {
         assertEquals(volcanoConfig.host(), "bytehouse-cn-beijing.volces.com");
         assertEquals(volcanoConfig.port(), 19000);
     }
+
+    @Test
+    public void testConnectionValidationConfig() {
+        ByteHouseConfig defaultCfg = ByteHouseConfig.Builder.builder().build();
+        assertEquals(ConnectionValidation.IDLE, defaultCfg.connectionValidation());
+        assertEquals(Duration.ofSeconds(30), defaultCfg.connectionValidationIdleTime());
+
+        Properties props = new Properties();
+        props.setProperty("connection_validation", "never");
+        props.setProperty("connection_validation_idle_time", "5");
+        ByteHouseConfig cfg = ByteHouseConfig.Builder.builder()
+                .withProperties(props)
+                .build();
+        assertEquals(ConnectionValidation.NEVER, cfg.connectionValidation());
+        assertEquals(Duration.ofSeconds(5), cfg.connectionValidationIdleTime());
+        assertFalse(cfg.settings().containsKey(SettingKey.connectionValidation));
+
+        ByteHouseConfig copied = cfg.withConnectionValidation(ConnectionValidation.ALWAYS);
+        assertEquals(ConnectionValidation.ALWAYS, copied.connectionValidation());
+        assertEquals(Duration.ofSeconds(5), copied.connectionValidationIdleTime());
+    }
 }